@@ -19,8 +19,7 @@ package ar.com.quark.backend.lwjgl.input;
 
 import ar.com.quark.input.device.InputKey;
 import ar.com.quark.input.device.InputKeyboard;
-import ar.com.quark.system.utility.array.Int32Array;
-import ar.com.quark.backend.lwjgl.utility.array.DesktopArrayFactory;
+import ar.com.quark.input.InputEventQueue;
 import org.lwjgl.glfw.GLFW;
 
 /**
@@ -28,32 +27,43 @@ import org.lwjgl.glfw.GLFW;
  */
 public final class DesktopInputKeyboard implements InputKeyboard {
     /**
-     * Hold the mutex for allowing polling from another thread.
+     * Hold the display handle.
      */
-    private final Object mLock = new Object();
+    private final long mHandle;
 
     /**
-     * Hold the display handle.
+     * Hold the listener notified on every event.
      */
-    private final long mHandle;
+    private final Runnable mListener;
 
     /**
-     * Hold the device buffer.
+     * Hold the queue of the device.
      */
-    private Int32Array mBuffer = DesktopArrayFactory.allocateInt32Array(512);
+    private InputEventQueue mQueue;
 
     /**
      * <p>Constructor</p>
      */
     public DesktopInputKeyboard(long handle) {
+        this(handle, () -> {
+        });
+    }
+
+    /**
+     * <p>Constructor</p>
+     */
+    public DesktopInputKeyboard(long handle, Runnable listener) {
         mHandle = handle;
+        mListener = listener;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void create() {
+    public void create(InputEventQueue queue) {
+        mQueue = queue;
+
         GLFW.glfwSetKeyCallback(mHandle, this::glfwKeyCallback);
         GLFW.glfwSetCharCallback(mHandle, this::glfwCharCallback);
     }
@@ -62,15 +72,10 @@ public final class DesktopInputKeyboard implements InputKeyboard {
      * {@inheritDoc}
      */
     @Override
-    public void update(Int32Array buffer) {
-        synchronized (mLock) {
-            buffer.write(mBuffer.flip());
-
-            //!
-            //! Change the buffer mode to write-mode.
-            //!
-            mBuffer.clear();
-        }
+    public void update() {
+        //!
+        //! NOTE: Every event is pushed from the callback(s) during the poll of the display.
+        //!
     }
 
     /**
@@ -86,16 +91,14 @@ public final class DesktopInputKeyboard implements InputKeyboard {
      * <p>Handle GLFWSetKeyCallback</p>
      */
     private void glfwKeyCallback(long window, int key, int code, int action, int mod) {
+        mListener.run();
+
         final InputKey input = transform(key);
         if (input != null) {
             if (action == GLFW.GLFW_REPEAT || action == GLFW.GLFW_PRESS) {
-                synchronized (mLock) {
-                    InputKeyboard.onFactoryKeyDown(mBuffer, input);
-                }
+                InputKeyboard.onFactoryKeyDown(mQueue, input);
             } else {
-                synchronized (mLock) {
-                    InputKeyboard.onFactoryKeyUp(mBuffer, input);
-                }
+                InputKeyboard.onFactoryKeyUp(mQueue, input);
             }
         }
     }
@@ -104,9 +107,9 @@ public final class DesktopInputKeyboard implements InputKeyboard {
      * <p>Handle GLFWSetCharCallback</p>
      */
     private void glfwCharCallback(long window, int code) {
-        synchronized (mLock) {
-            InputKeyboard.onFactoryKeyType(mBuffer, (char) code);
-        }
+        mListener.run();
+
+        InputKeyboard.onFactoryKeyType(mQueue, (char) code);
     }
 
     /**
@@ -18,9 +18,8 @@
 package ar.com.quark.backend.lwjgl.input;
 
 import ar.com.quark.input.device.InputMouse;
-import ar.com.quark.system.utility.array.Int32Array;
+import ar.com.quark.input.InputEventQueue;
 import org.lwjgl.glfw.GLFW;
-import ar.com.quark.backend.lwjgl.utility.array.DesktopArrayFactory;
 import ar.com.quark.input.device.InputMouseButton;
 
 /**
@@ -28,32 +27,54 @@ import ar.com.quark.input.device.InputMouseButton;
  */
 public final class DesktopInputMouse implements InputMouse {
     /**
-     * Hold the mutex for allowing polling from another thread.
+     * Hold the display handle.
      */
-    private final Object mLock = new Object();
+    private final long mHandle;
 
     /**
-     * Hold the display handle.
+     * Hold the listener notified on every event.
      */
-    private final long mHandle;
+    private final Runnable mListener;
+
+    /**
+     * Hold the queue of the device.
+     */
+    private InputEventQueue mQueue;
 
     /**
-     * Hold the device buffer.
+     * Hold whether the device report(s) raw motion.
      */
-    private Int32Array mBuffer = DesktopArrayFactory.allocateInt32Array(512);
+    private volatile boolean mRawMotion = false;
+
+    /**
+     * Hold the last position (with sub-pixel precision) of the cursor.
+     */
+    private double mLastX = Double.NaN;
+    private double mLastY = Double.NaN;
 
     /**
      * <p>Constructor</p>
      */
     public DesktopInputMouse(long handle) {
+        this(handle, () -> {
+        });
+    }
+
+    /**
+     * <p>Constructor</p>
+     */
+    public DesktopInputMouse(long handle, Runnable listener) {
         mHandle = handle;
+        mListener = listener;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void create() {
+    public void create(InputEventQueue queue) {
+        mQueue = queue;
+
         GLFW.glfwSetCursorPosCallback(mHandle, this::glfwCursorPosCallback);
         GLFW.glfwSetScrollCallback(mHandle, this::glfwScrollCallback);
         GLFW.glfwSetMouseButtonCallback(mHandle, this::glfwMouseButtonCallback);
@@ -63,15 +84,10 @@ public final class DesktopInputMouse implements InputMouse {
      * {@inheritDoc}
      */
     @Override
-    public void update(Int32Array buffer) {
-        synchronized (mLock) {
-            buffer.write(mBuffer.flip());
-
-            //!
-            //! Change the buffer mode to write-mode.
-            //!
-            mBuffer.clear();
-        }
+    public void update() {
+        //!
+        //! NOTE: Every event is pushed from the callback(s) during the poll of the display.
+        //!
     }
 
     /**
@@ -101,38 +117,55 @@ public final class DesktopInputMouse implements InputMouse {
         GLFW.glfwSetCursorPos(mHandle, x, y);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: GLFW 3.2 doesn't expose the un-accelerated motion of the device, therefore the raw motion is the
+     * sub-pixel delta of the (virtual) cursor while in cursor mode.
+     */
+    @Override
+    public boolean setRawMotion(boolean activate) {
+        mRawMotion = activate;
+        return true;
+    }
+
     /**
      * <p>Handle GLFWCursorPosCallback</p>
      */
     private void glfwCursorPosCallback(long window, double x, double y) {
-        synchronized (mLock) {
-            InputMouse.onFactoryMove(mBuffer, (int) x, (int) y);
+        mListener.run();
+
+        if (mRawMotion && !Double.isNaN(mLastX)
+                && GLFW.glfwGetInputMode(mHandle, GLFW.GLFW_CURSOR) == GLFW.GLFW_CURSOR_DISABLED) {
+            InputMouse.onFactoryMotion(mQueue, (float) (x - mLastX), (float) (y - mLastY));
         }
+        mLastX = x;
+        mLastY = y;
+
+        InputMouse.onFactoryMove(mQueue, (int) x, (int) y);
     }
 
     /**
      * <p>Handle GLFWScrollCallback</p>
      */
     private void glfwScrollCallback(long window, double x, double y) {
-        synchronized (mLock) {
-            InputMouse.onFactoryWheel(mBuffer, (int) y);
-        }
+        mListener.run();
+
+        InputMouse.onFactoryWheel(mQueue, (int) y);
     }
 
     /**
      * <p>Handle GLFWMouseButtonCallback</p>
      */
     private void glfwMouseButtonCallback(long window, int button, int action, int mod) {
+        mListener.run();
+
         final InputMouseButton input = transform(button);
         if (input != null) {
             if (action == GLFW.GLFW_REPEAT || action == GLFW.GLFW_PRESS) {
-                synchronized (mLock) {
-                    InputMouse.onFactoryButtonDown(mBuffer, input);
-                }
+                InputMouse.onFactoryButtonDown(mQueue, input);
             } else {
-                synchronized (mLock) {
-                    InputMouse.onFactoryButtonUp(mBuffer, input);
-                }
+                InputMouse.onFactoryButtonUp(mQueue, input);
             }
         }
     }
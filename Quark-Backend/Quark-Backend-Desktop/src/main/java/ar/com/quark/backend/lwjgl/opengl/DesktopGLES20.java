@@ -129,10 +129,18 @@ public class DesktopGLES20 implements Render.GLES2 {
                 capabilities.GL_ARB_draw_buffers);
         extension.put(RenderCapabilities.Extension.FRAME_BUFFER_MULTIPLE_SAMPLE,
                 capabilities.GL_ARB_multisample);
+        extension.put(RenderCapabilities.Extension.FRAME_BUFFER_BLIT,
+                capabilities.OpenGL30 || capabilities.GL_ARB_framebuffer_object);
 
         extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_OBJECT,
                 capabilities.GL_ARB_vertex_array_object);
 
+        extension.put(RenderCapabilities.Extension.TRANSFORM_FEEDBACK,
+                capabilities.OpenGL30);
+
+        extension.put(RenderCapabilities.Extension.PIXEL_BUFFER,
+                capabilities.OpenGL21 || capabilities.GL_ARB_pixel_buffer_object);
+
         extension.put(RenderCapabilities.Extension.TEXTURE_3D, true);
         extension.put(RenderCapabilities.Extension.TEXTURE_COMPRESSION_S3TC,
                 capabilities.GL_EXT_texture_compression_s3tc);
@@ -270,6 +278,14 @@ public class DesktopGLES20 implements Render.GLES2 {
         GL11.glViewport(x, y, width, height);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data) {
+        GL11.glReadPixels(x, y, width, height, format, type, data.<ByteBuffer>data());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -606,7 +622,8 @@ public class DesktopGLES20 implements Render.GLES2 {
     @Override
     public void glTexImage2D(int target, int level, int internal, int width, int height, int border,
             int format, int type, Int8Array data) {
-        GL11.glTexImage2D(target, level, internal, width, height, border, format, type, data.<ByteBuffer>data());
+        GL11.glTexImage2D(target, level, internal, width, height, border, format, type,
+                data != null ? data.<ByteBuffer>data() : null);
     }
 
     /**
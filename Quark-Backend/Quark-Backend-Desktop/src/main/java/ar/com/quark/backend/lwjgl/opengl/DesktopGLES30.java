@@ -206,6 +206,55 @@ public class DesktopGLES30 extends DesktopGLES20 implements Render.GLES3 {
         GL30.nglUniform1uiv(name, buffer.remaining(), MemoryUtil.memAddress(buffer.<ByteBuffer>data()));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTransformFeedbackVaryings(int name, String[] varyings, int mode) {
+        GL30.glTransformFeedbackVaryings(name, varyings, mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginTransformFeedback(int primitive) {
+        GL30.glBeginTransformFeedback(primitive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndTransformFeedback() {
+        GL30.glEndTransformFeedback();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+        GL30.glBindBufferBase(target, index, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, int offset) {
+        GL11.glReadPixels(x, y, width, height, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlitFramebuffer(int srcX0, int srcY0, int srcX1, int srcY1,
+            int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter) {
+        GL30.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+    }
+
     /**
      * @see <a href="https://www.opengl.org/registry/specs/ARB/vertex_array_object.txt">Link</a>
      */
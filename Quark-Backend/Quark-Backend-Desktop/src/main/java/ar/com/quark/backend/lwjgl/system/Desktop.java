@@ -24,25 +24,35 @@ import ar.com.quark.backend.lwjgl.input.DesktopInputMouse;
 import ar.com.quark.backend.lwjgl.openal.DesktopALES10;
 import ar.com.quark.backend.lwjgl.opengl.DesktopGLES32;
 import ar.com.quark.input.DefaultInputManager;
+import ar.com.quark.input.InputReplay;
+import ar.com.quark.input.InputSnapshot;
 import ar.com.quark.render.DefaultRender;
 import ar.com.quark.render.Render;
 import ar.com.quark.resource.DefaultAssetManager;
+import ar.com.quark.resource.cache.FilesAssetCache;
 import ar.com.quark.resource.loader.*;
 import ar.com.quark.resource.locator.FilesAssetLocator;
 import ar.com.quark.system.Display;
 import ar.com.quark.system.DisplayLifecycle;
+import ar.com.quark.system.FrameBenchmark;
+import ar.com.quark.system.JobSystem;
+import ar.com.quark.system.Scheduler;
+import ar.com.quark.system.Startup;
+import ar.com.quark.system.utility.DoubleBuffer;
 import ar.com.quark.system.utility.array.ArrayFactory;
 import ar.com.quark.input.InputManager;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWFramebufferSizeCallback;
 import org.lwjgl.glfw.GLFWWindowIconifyCallback;
+import org.lwjgl.glfw.GLFWWindowRefreshCallback;
 import ar.com.quark.backend.lwjgl.utility.array.DesktopArrayFactory;
 import ar.com.quark.resource.locator.ClassAssetLocator;
 
-import java.util.Timer;
-import java.util.TimerTask;
+import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
 
 import static ar.com.quark.Quark.*;
 
@@ -51,18 +61,47 @@ import static ar.com.quark.Quark.*;
  */
 public final class Desktop {
     /**
-     * Encapsulate the delay per update of the input thread.
+     * Encapsulate the rate of the audio task.
      * <p>
-     * NOTE: Update per 25 millisecond.
+     * NOTE: Update per 50 millisecond.
      */
-    private final static long THREAD_INPUT_DELAY = 25L;
+    private final static float SCHEDULER_AUDIO_RATE = 20.0f;
 
     /**
-     * Encapsulate the delay per update of the audio thread.
+     * Encapsulate the number of thread(s) that read asset(s).
      * <p>
-     * NOTE: Update per 50 millisecond.
+     * NOTE: Reading is I/O bound, therefore it doesn't require a thread per core.
+     */
+    private final static int RESOURCE_READER_THREADS = 2;
+
+    /**
+     * Encapsulate the directory (relative to the home of the user) where decoded asset(s) are cached.
+     * <p>
+     * NOTE: The cache is content-addressed, therefore it can be shared by every application.
+     */
+    private final static String RESOURCE_CACHE_DIRECTORY = ".quark/cache";
+
+    /**
+     * Encapsulate the remaining time (in seconds) of a frame spent spinning instead of sleeping.
+     * <p>
+     * NOTE: Sleeping isn't precise enough on most platform(s).
      */
-    private final static long THREAD_AUDIO_DELAY = 50L;
+    private final static double LOOP_SPIN_THRESHOLD = 0.002;
+
+    /**
+     * Encapsulate the maximum time (in seconds) of a single frame (e.g after a breakpoint).
+     */
+    private final static double LOOP_MAXIMUM_FRAME = 0.25;
+
+    /**
+     * Encapsulate the maximum time (in seconds) to wait for event(s) when rendering on demand.
+     */
+    private final static double LOOP_WAIT_TIMEOUT = 0.5;
+
+    /**
+     * Encapsulate the minimum time (in seconds) to wait for event(s).
+     */
+    private final static double LOOP_WAIT_MINIMUM = 0.001;
 
     /**
      * Hold the lifecycle.
@@ -70,16 +109,33 @@ public final class Desktop {
     private final DisplayLifecycle mLifecycle;
 
     /**
-     * Hold all thread(s).
+     * Hold the configuration of the loop.
      */
-    private final Timer mInputThread = new Timer("QK-Input-Thread", false);
-    private final Timer mAudioThread = new Timer("QK-Audio-Thread", false);
+    private final DesktopLoop mLoop;
+
+    /**
+     * Hold the scheduler of all task(s).
+     */
+    private final Scheduler mScheduler = (QKScheduler = new Scheduler());
+
+    /**
+     * Hold the job system shared by every module.
+     * <p>
+     * NOTE: The main thread helps executing job(s) while waiting on them, therefore it doesn't need a worker.
+     */
+    private final JobSystem mJobs
+            = (QKJobs = new JobSystem(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)));
 
     /**
      * Hold the delta time (in normalised millisecond).
      */
     private double mTime = 0.0;
 
+    /**
+     * Hold the interpolation factor of the fixed loop.
+     */
+    private float mAlpha = 0.0f;
+
     /**
      * Hold {@link Display} module.
      */
@@ -103,14 +159,27 @@ public final class Desktop {
     /**
      * Hold {@link InputManager} module.
      */
-    private final DefaultAssetManager mResources
-            = (DefaultAssetManager) (QKResources = new DefaultAssetManager(new ThreadGroupService()));
+    private final DefaultAssetManager mResources = (DefaultAssetManager) (QKResources
+            = new DefaultAssetManager(new JobService(mJobs), new ReaderService(RESOURCE_READER_THREADS)));
+
+    /**
+     * Hold the replay of the input (only while benchmarking).
+     */
+    private InputReplay mReplay;
+
+    /**
+     * Hold the benchmark (only while benchmarking).
+     */
+    private FrameBenchmark mBenchmark;
 
     /**
      * <p>Constructor</p>
      */
-    private Desktop(DisplayLifecycle lifecycle) {
+    private Desktop(DisplayLifecycle lifecycle, DesktopLoop loop) {
         mLifecycle = lifecycle;
+        mLoop = loop;
+
+        mDisplay.setOnDemand(loop.getMode() == DesktopLoop.Mode.ON_DEMAND);
     }
 
     /**
@@ -118,7 +187,7 @@ public final class Desktop {
      */
     private void onModuleCreate(Display.Preference preference) {
         //!
-        //! Create display module.
+        //! Create the callback(s) of the display module.
         //!
         final GLFWFramebufferSizeCallback resize = GLFWFramebufferSizeCallback.create((window, width, height) ->
         {
@@ -127,7 +196,17 @@ public final class Desktop {
             //!
             //! NOTE: This is required due to GLFW3 limitation.
             //!
-            onModuleRender(GLFW.glfwGetTime());
+            //! NOTE: The threaded loop render(s) the new size on its next frame, given it owns the snapshot.
+            //!
+            if (mLoop.isThreaded()) {
+                return;
+            }
+
+            if (mLoop.getMode() == DesktopLoop.Mode.FIXED) {
+                onModuleFrame(mAlpha);
+            } else {
+                onModuleRender(GLFW.glfwGetTime());
+            }
         });
         final GLFWWindowIconifyCallback iconify = GLFWWindowIconifyCallback.create((window, iconified) ->
         {
@@ -137,53 +216,84 @@ public final class Desktop {
                 mLifecycle.onResume();
             }
         });
-        mDisplay.onModuleCreate(preference, resize, iconify);
+        final GLFWWindowRefreshCallback refresh = GLFWWindowRefreshCallback.create(window -> mDisplay.onModuleRequest());
 
         //!
-        //! Create audio module.
+        //! Create every module as a dependency graph.
         //!
-        mAudio.onModuleCreate(new DesktopALES10());
-        mAudioThread.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                mAudio.onModuleUpdate();
-            }
-        }, 0L, THREAD_AUDIO_DELAY);
+        //! NOTE: The display, the render and the input require the main thread (window and render context).
+        //!
+        final Startup startup = new Startup();
+
+        final Startup.Stage display = startup.add("Display",
+                () -> mDisplay.onModuleCreate(preference, resize, iconify, refresh), true);
+        final Startup.Stage render = startup.add("Render", () -> mRender.onModuleCreate(
+                mBenchmark != null ? mBenchmark.wrap(new DesktopGLES32()) : new DesktopGLES32()), true, display);
+        startup.add("Input", this::onModuleCreateInput, true, display);
+        startup.add("Audio",
+                () -> mAudio.onModuleCreate(new DesktopALES10()), false);
+        startup.add("Resources", this::onModuleCreateResources, false, render);
+
+        startup.run(mJobs);
+        startup.report();
 
         //!
-        //! Create input module.
+        //! Schedule the audio.
         //!
-        mInput.onModuleCreate(new DesktopInputKeyboard(mDisplay.getHandle()), new DesktopInputMouse(mDisplay.getHandle()));
-        mInputThread.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                mInput.onModuleUpdate();
-            }
-        }, 0L, THREAD_INPUT_DELAY);
+        //! NOTE: The audio can be moved into a dedicated thread through the scheduler.
+        //!
+        //! NOTE: The input isn't scheduled, given it's drained at the start of every frame (see #onModuleInput).
+        //!
+        mScheduler.schedule("Audio", mAudio::onModuleUpdate, SCHEDULER_AUDIO_RATE, Scheduler.Priority.HIGH);
 
         //!
-        //! Create render module.
+        //! Handle the create notification.
         //!
-        mRender.onModuleCreate(new DesktopGLES32());
+        mLifecycle.onCreate();
+        mLifecycle.onResize(mDisplay.getWidth(), mDisplay.getHeight());
+    }
+
+    /**
+     * <p>Handle when the input module create</p>
+     */
+    private void onModuleCreateInput() {
+        if (mReplay != null) {
+            mInput.onModuleCreate(mReplay.getKeyboard(), mReplay.getMouse());
+        } else {
+            mInput.onModuleCreate(
+                    new DesktopInputKeyboard(mDisplay.getHandle(), mDisplay::onModuleRequest),
+                    new DesktopInputMouse(mDisplay.getHandle(), mDisplay::onModuleRequest));
+        }
+    }
 
+    /**
+     * <p>Handle when the resource module create</p>
+     * <p>
+     * NOTE: Requires the render module, given the shader loader depends on its capabilities.
+     */
+    private void onModuleCreateResources() {
         //!
-        //! Create resource module.
+        //! NOTE: An external asset override(s) the internal asset with the same name.
         //!
-        mResources.registerAssetLocator("INTERNAL", new ClassAssetLocator());
-        mResources.registerAssetLocator("EXTERNAL", new FilesAssetLocator());
+        mResources.registerAssetLocator("INTERNAL", new ClassAssetLocator(), 0);
+        mResources.registerAssetLocator("EXTERNAL", new FilesAssetLocator(), 1);
 
         mResources.registerAssetLoader(new TexturePNGAssetLoader(), "png");
         mResources.registerAssetLoader(new TextureDDSAssetLoader(), "dds", "s3tc");
         mResources.registerAssetLoader(new AudioWAVAssetLoader(), "wav");
         mResources.registerAssetLoader(new AudioOGGAssetLoader(), "ogg");
         mResources.registerAssetLoader(new FontBinaryAssetLoader(), "fnt");
+        mResources.registerAssetLoader(new MeshBinaryAssetLoader(), "mesh");
         mResources.registerAssetLoader(new ShaderBinaryAssetLoader(QKRender.getCapabilities()), "shader");
 
-        //!
-        //! Handle the create notification.
-        //!
-        mLifecycle.onCreate();
-        mLifecycle.onResize(mDisplay.getWidth(), mDisplay.getHeight());
+        try {
+            mResources.setAssetCache(new FilesAssetCache(
+                    Paths.get(System.getProperty("user.home"), RESOURCE_CACHE_DIRECTORY)));
+        } catch (IllegalStateException | SecurityException ignored) {
+            //!
+            //! NOTE: Every asset is decoded from its source if the cache cannot be created.
+            //!
+        }
     }
 
     /**
@@ -205,13 +315,12 @@ public final class Desktop {
         //!
         //! Unload input module.
         //!
-        mInputThread.cancel();
+        mScheduler.shutdown();
         mInput.onModuleDestroy();
 
         //!
         //! Unload audio module.
         //!
-        mAudioThread.cancel();
         mAudio.onModuleDestroy();
 
         //!
@@ -225,25 +334,405 @@ public final class Desktop {
         //! Unload display module.
         //!
         mDisplay.onModuleDestroy();
+
+        //!
+        //! Stop the job system (shared by every module).
+        //!
+        mJobs.shutdown();
     }
 
     /**
      * <p>Handle when the module update</p>
      */
     private void onModuleUpdate() {
+        if (mBenchmark != null) {
+            onModuleUpdateBenchmark();
+            return;
+        }
+
+        if (mLoop.isThreaded()) {
+            onModuleUpdateThreaded((DisplayLifecycle.Threaded<?>) mLifecycle);
+            return;
+        }
+
+        switch (mLoop.getMode()) {
+            case VARIABLE:
+                onModuleUpdateVariable();
+                break;
+            case FIXED:
+                onModuleUpdateFixed();
+                break;
+            case ON_DEMAND:
+                onModuleUpdateOnDemand();
+                break;
+        }
+    }
+
+    /**
+     * <p>Handle when the module update using a variable loop</p>
+     */
+    private void onModuleUpdateVariable() {
         //!
         //! Calculate the initial time of the frame.
         //!
         mTime = GLFW.glfwGetTime();
 
         do {
+            onModulePause();
+            onModuleInput();
+
+            final double time = GLFW.glfwGetTime();
+
             //!
             //! Render until the display is not active.
             //!
-            onModuleRender(GLFW.glfwGetTime());
+            //! NOTE: The render is the only update of the frame.
+            //!
+            mInput.onModuleStep();
+
+            onModuleRender(time);
+            onModuleLimit(time);
         } while (mDisplay.isActive());
     }
 
+    /**
+     * <p>Handle when the module update while benchmarking</p>
+     * <p>
+     * NOTE: Every frame is made of a single update of a fixed step and a render, as fast as possible (without
+     * synchronisation), until the replay has finished.
+     */
+    private void onModuleUpdateBenchmark() {
+        final float step = (float) mLoop.getStep();
+
+        mDisplay.setSynchronised(false);
+
+        do {
+            mBenchmark.onFrameBegin();
+
+            onModuleInput();
+
+            mInput.onModuleStep();
+            mLifecycle.onUpdate(step);
+
+            onModuleFrame(0.0f);
+
+            mBenchmark.onFrameEnd();
+        } while (mDisplay.isActive() && !mReplay.isFinished());
+
+        mBenchmark.report();
+    }
+
+    /**
+     * <p>Handle when the module update using a dedicated logic thread</p>
+     */
+    private <T> void onModuleUpdateThreaded(DisplayLifecycle.Threaded<T> lifecycle) {
+        final InputSnapshot input = mInput.getSnapshot();
+        final DoubleBuffer<Snapshot<T>> buffer = new DoubleBuffer<>(
+                new Snapshot<>(input, lifecycle.onCreateSnapshot()),
+                new Snapshot<>(input, lifecycle.onCreateSnapshot()));
+
+        final Thread render = Thread.currentThread();
+        final Thread logic = new Thread(() -> onModuleLogic(lifecycle, buffer, render), "QK-Logic-Thread");
+        logic.setDaemon(true);
+        logic.start();
+
+        //!
+        //! Calculate the initial time of the frame.
+        //!
+        mTime = GLFW.glfwGetTime();
+
+        try {
+            do {
+                onModulePause();
+
+                //!
+                //! Wait until the logic has produced the frame.
+                //!
+                final Snapshot<T> snapshot = buffer.consume();
+
+                if (snapshot == null) {
+                    break;
+                }
+                final double time = GLFW.glfwGetTime();
+
+                //!
+                //! Render only from the snapshot, given the logic is writing the other one meanwhile.
+                //!
+                final long begin = onModuleFrameBegin();
+
+                lifecycle.onRender((float) (time - mTime), snapshot.mValue);
+
+                onModuleFrameEnd(begin);
+
+                mTime = time;
+
+                //!
+                //! Hand the latest input to the logic, which read(s) it once it produce(s) into the snapshot again.
+                //!
+                onModuleInput();
+
+                snapshot.mInput = mInput.getSnapshot();
+
+                buffer.release();
+
+                onModuleLimit(time);
+            } while (mDisplay.isActive());
+        } finally {
+            logic.interrupt();
+
+            try {
+                logic.join();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            //!
+            //! NOTE: Clear the interruption of the logic thread (if any), given the module(s) are destroyed next.
+            //!
+            Thread.interrupted();
+        }
+    }
+
+    /**
+     * <p>Handle when the module update the logic (on the logic thread)</p>
+     */
+    private <T> void onModuleLogic(DisplayLifecycle.Threaded<T> lifecycle, DoubleBuffer<Snapshot<T>> buffer,
+            Thread render) {
+        final boolean isFixed = (mLoop.getMode() == DesktopLoop.Mode.FIXED);
+        final double step = (isFixed ? mLoop.getStep() : 0.0);
+
+        double accumulator = 0.0;
+        double last = System.nanoTime() / 1.0E9;
+
+        boolean isCompleted = false;
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                //!
+                //! Wait until the render has released the snapshot (of the frame before the one being rendered).
+                //!
+                //! NOTE: This throttle(s) the logic to the render, given it never runs more than one frame ahead.
+                //!
+                final Snapshot<T> snapshot = buffer.produce();
+
+                if (snapshot == null) {
+                    break;
+                }
+
+                //!
+                //! Sleep until the next update is due.
+                //!
+                if (isFixed) {
+                    final double remaining = step - accumulator - (System.nanoTime() / 1.0E9 - last);
+
+                    if (remaining > 0.0) {
+                        LockSupport.parkNanos((long) (remaining * 1.0E9));
+                    }
+                }
+
+                final double time = System.nanoTime() / 1.0E9;
+                final double elapsed = Math.min(time - last, LOOP_MAXIMUM_FRAME);
+                last = time;
+
+                int updates = 0;
+
+                if (isFixed) {
+                    accumulator += elapsed;
+
+                    for (; updates < mLoop.getSteps() && accumulator >= step; ++updates) {
+                        mInput.onModuleStep();
+                        lifecycle.onUpdate((float) step, snapshot.mInput, snapshot.mValue);
+
+                        accumulator -= step;
+                    }
+
+                    if (accumulator >= step) {
+                        accumulator %= step;
+                    }
+                } else {
+                    mInput.onModuleStep();
+                    lifecycle.onUpdate((float) elapsed, snapshot.mInput, snapshot.mValue);
+
+                    updates++;
+                }
+
+                //!
+                //! NOTE: A snapshot without any update (e.g the park returned early) still hold(s) the state of two
+                //!       frame(s) before, therefore it's produced again rather than published.
+                //!
+                if (updates > 0) {
+                    buffer.publish();
+                }
+            }
+            isCompleted = true;
+        } finally {
+            //!
+            //! NOTE: Close the display and wake the render thread (that may be waiting on a snapshot) on failure.
+            //!
+            if (!isCompleted) {
+                GLFW.glfwSetWindowShouldClose(mDisplay.getHandle(), true);
+
+                render.interrupt();
+            }
+        }
+    }
+
+    /**
+     * <p>Handle when the module update using a fixed loop</p>
+     */
+    private void onModuleUpdateFixed() {
+        final double step = mLoop.getStep();
+
+        double accumulator = 0.0;
+
+        //!
+        //! Calculate the initial time of the frame.
+        //!
+        mTime = GLFW.glfwGetTime();
+
+        do {
+            onModulePause();
+            onModuleInput();
+
+            final double time = GLFW.glfwGetTime();
+
+            accumulator += Math.min(time - mTime, LOOP_MAXIMUM_FRAME);
+            mTime = time;
+
+            //!
+            //! Update at a fixed rate, catching up to a maximum of steps per frame.
+            //!
+            for (int i = 0; i < mLoop.getSteps() && accumulator >= step; ++i) {
+                mInput.onModuleStep();
+                mLifecycle.onUpdate((float) step);
+
+                accumulator -= step;
+            }
+
+            //!
+            //! NOTE: Discard any remaining update(s), otherwise the loop will never catch up.
+            //!
+            if (accumulator >= step) {
+                accumulator %= step;
+            }
+
+            //!
+            //! Render using the interpolation factor between the last two update(s).
+            //!
+            onModuleFrame(mAlpha = (float) (accumulator / step));
+            onModuleLimit(time);
+        } while (mDisplay.isActive());
+    }
+
+    /**
+     * <p>Handle when the module update rendering on demand</p>
+     */
+    private void onModuleUpdateOnDemand() {
+        //!
+        //! Calculate the initial time of the frame.
+        //!
+        mTime = GLFW.glfwGetTime();
+
+        do {
+            onModulePause();
+            onModuleInput();
+
+            final double time = GLFW.glfwGetTime();
+
+            if (mDisplay.hasRequest(time)) {
+                mInput.onModuleStep();
+
+                onModuleRender(time);
+                onModuleLimit(time);
+            } else {
+                onModuleWait(time);
+            }
+        } while (mDisplay.isActive());
+    }
+
+    /**
+     * <p>Handle when the module pause (while the display is iconified)</p>
+     */
+    private void onModulePause() {
+        if (!mDisplay.isIconified()) {
+            return;
+        }
+
+        do {
+            onModuleWait(GLFW.glfwGetTime());
+
+            //!
+            //! NOTE: Keep draining the input, otherwise the queue will overflow while paused.
+            //!
+            onModuleInput();
+        } while (mDisplay.isIconified() && mDisplay.isActive());
+
+        //!
+        //! Prevent a huge delta time after the pause.
+        //!
+        mTime = GLFW.glfwGetTime();
+
+        mDisplay.onModuleRequest();
+    }
+
+    /**
+     * <p>Handle when the module drain the input</p>
+     * <p>
+     * NOTE: Called at the start of every frame (before any update), so that every update of the frame see(s) the
+     * event(s) polled by the previous frame.
+     */
+    private void onModuleInput() {
+        mInput.onModuleUpdate();
+    }
+
+    /**
+     * <p>Handle when the module wait for event(s) without rendering</p>
+     */
+    private void onModuleWait(double time) {
+        //!
+        //! Keep executing all task(s) (e.g the audio) while waiting.
+        //!
+        mScheduler.update(time);
+
+        //!
+        //! Block until an event arrive, a render is requested or a task is due.
+        //!
+        mDisplay.onModuleWait(Math.max(LOOP_WAIT_MINIMUM, Math.min(LOOP_WAIT_TIMEOUT, mScheduler.getRemaining(time))));
+
+        //!
+        //! NOTE: The time waiting isn't part of the next frame.
+        //!
+        mDisplay.getStatistics().interrupt();
+    }
+
+    /**
+     * <p>Handle when the module limit the frame(s) per second</p>
+     */
+    private void onModuleLimit(double time) {
+        if (mLoop.getLimit() <= 0) {
+            return;
+        }
+        final double deadline = time + 1.0 / mLoop.getLimit();
+
+        //!
+        //! Sleep for most of the remaining time, then spin until the deadline.
+        //!
+        double remaining;
+
+        while ((remaining = deadline - GLFW.glfwGetTime()) > LOOP_SPIN_THRESHOLD) {
+            try {
+                Thread.sleep(Math.max(1L, (long) ((remaining - LOOP_SPIN_THRESHOLD) * 1000.0)));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        while (GLFW.glfwGetTime() < deadline) {
+            Thread.yield();
+        }
+    }
+
     /**
      * <p>Handle when the module render</p>
      */
@@ -251,13 +740,48 @@ public final class Desktop {
         //!
         //! Handle the render notification.
         //!
-        mLifecycle.onRender((float) (time - mTime));
+        onModuleFrame((float) (time - mTime));
 
         //!
         //! Update the new delta time.
         //!
         mTime = time;
+    }
 
+    /**
+     * <p>Handle when the module render a frame</p>
+     */
+    private void onModuleFrame(float value) {
+        final long begin = onModuleFrameBegin();
+
+        //!
+        //! Handle the render notification.
+        //!
+        mLifecycle.onRender(value);
+
+        onModuleFrameEnd(begin);
+    }
+
+    /**
+     * <p>Handle when the module begin a frame</p>
+     *
+     * @return the time (in nanosecond) the frame has begun
+     */
+    private long onModuleFrameBegin() {
+        final long begin = System.nanoTime();
+
+        //!
+        //! Execute all task(s) at the frame boundary.
+        //!
+        mScheduler.update(GLFW.glfwGetTime());
+
+        return begin;
+    }
+
+    /**
+     * <p>Handle when the module end a frame</p>
+     */
+    private void onModuleFrameEnd(long begin) {
         //!
         //! Update the render.
         //!
@@ -265,18 +789,38 @@ public final class Desktop {
         //!
         mRender.onModuleUpdate();
 
+        //!
+        //! Update the resources.
+        //!
+        //! NOTE: Dispose released asset(s) whose grace period has expired.
+        //!
+        mResources.onModuleUpdate();
+
         //!
         //! Update the display.
         //!
         //! NOTE: Will synchronise with the window.
         //!
-        mDisplay.onModuleUpdate();
+        mDisplay.onModuleUpdate(begin);
     }
 
     /**
      * <p>Initialise <code>Desktop</code></p>
      */
     public static void create(DisplayLifecycle lifecycle, Display.Preference preference) {
+        create(lifecycle, preference, DesktopLoop.DEFAULT);
+    }
+
+    /**
+     * <p>Initialise <code>Desktop</code> using the given {@link DesktopLoop}</p>
+     * <p>
+     * NOTE: A threaded loop requires a {@link DisplayLifecycle.Threaded}.
+     */
+    public static void create(DisplayLifecycle lifecycle, Display.Preference preference, DesktopLoop loop) {
+        if (loop.isThreaded() && !(lifecycle instanceof DisplayLifecycle.Threaded)) {
+            throw new IllegalArgumentException("Threaded loop requires a threaded lifecycle");
+        }
+
         //!
         //! Create memory factory.
         //!
@@ -287,25 +831,122 @@ public final class Desktop {
         //!
         //! Create entry
         //!
-        final Desktop entry = new Desktop(lifecycle);
+        final Desktop entry = new Desktop(lifecycle, loop);
         entry.onModuleCreate(preference);
         entry.onModuleUpdate();
         entry.onModuleDestroy();
     }
 
+    /**
+     * <p>Initialise <code>Desktop</code> to benchmark the given {@link InputReplay}</p>
+     * <p>
+     * NOTE: The window is hidden, and every frame is made of a single update at the given rate, so that every run
+     * of the same replay is repeatable. The CPU time and the number of GL call(s) of every frame are reported once
+     * the replay has finished.
+     *
+     * @return the benchmark of every frame
+     */
+    public static FrameBenchmark benchmark(DisplayLifecycle lifecycle, Display.Preference preference,
+            InputReplay replay, int rate) {
+        ArrayFactory.instance = new DesktopArrayFactory();
+
+        final Desktop entry = new Desktop(lifecycle, new DesktopLoop(DesktopLoop.Mode.FIXED, rate, 1, 0));
+        entry.mReplay = replay;
+        entry.mBenchmark = new FrameBenchmark();
+        entry.mDisplay.setVisible(false);
+        entry.onModuleCreate(preference);
+        entry.onModuleUpdate();
+        entry.onModuleDestroy();
+
+        return entry.mBenchmark;
+    }
+
+    /**
+     * <code>Snapshot</code> encapsulate a frame handed off between the logic thread and the render thread.
+     */
+    private final static class Snapshot<T> {
+        /**
+         * Hold the input handed from the render thread to the logic thread.
+         */
+        private InputSnapshot mInput;
+
+        /**
+         * Hold the snapshot (of the application) handed from the logic thread to the render thread.
+         */
+        private final T mValue;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Snapshot(InputSnapshot input, T value) {
+            mInput = input;
+            mValue = value;
+        }
+    }
+
     /**
      * Implementation for {@link DefaultAssetManager.Service}.
      */
-    private final static class ThreadGroupService implements DefaultAssetManager.Service {
-        private final ExecutorService mExecutor
-                = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    private final static class JobService implements DefaultAssetManager.Service {
+        private final JobSystem mSystem;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private JobService(JobSystem system) {
+            mSystem = system;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void shutdown() {
+            //!
+            //! NOTE: The job system is shared by every module, therefore it's shut down by the platform.
+            //!
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void execute(Runnable command) {
+            mSystem.execute(command);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void join(Future<?> future) {
+            mSystem.join(future);
+        }
+    }
+
+    /**
+     * Implementation for {@link DefaultAssetManager.Service} that read(s) asset(s).
+     */
+    private final static class ReaderService implements DefaultAssetManager.Service {
+        private final ExecutorService mExecutor;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private ReaderService(int threads) {
+            mExecutor = Executors.newFixedThreadPool(threads, task -> {
+                final Thread thread = new Thread(task, "QK-Reader-Thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
 
         /**
          * {@inheritDoc}
          */
         @Override
         public void shutdown() {
-            mExecutor.shutdown();
+            mExecutor.shutdownNow();
         }
 
         /**
@@ -316,4 +957,4 @@ public final class Desktop {
             mExecutor.execute(command);
         }
     }
-}
\ No newline at end of file
+}
@@ -20,6 +20,7 @@ package ar.com.quark.backend.lwjgl.system;
 import ar.com.quark.render.texture.Image;
 import ar.com.quark.system.Display;
 import ar.com.quark.system.DisplayMode;
+import ar.com.quark.system.FrameStatistics;
 import org.lwjgl.BufferUtils;
 import org.lwjgl.glfw.*;
 import org.lwjgl.opengl.GL;
@@ -29,6 +30,7 @@ import java.nio.IntBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Implementation for {@link Display}.
@@ -49,14 +51,46 @@ public final class DesktopDisplay implements Display {
      */
     private final IntBuffer mDimension = BufferUtils.createIntBuffer(0x02);
 
+    /**
+     * Hold the render request(s) of the display.
+     */
+    private final AtomicBoolean mRequest = new AtomicBoolean(true);
+
+    /**
+     * Hold the time (in seconds) until the display will render continuously.
+     */
+    private volatile double mAnimation = 0.0;
+
+    /**
+     * Hold the statistic(s) of the last frame(s).
+     */
+    private final FrameStatistics mStatistics = new FrameStatistics();
+
+    /**
+     * Hold whether the window is visible (e.g hidden while benchmarking).
+     */
+    private boolean mVisible = true;
+
+    /**
+     * Hold whether the loop wait(s) for event(s) between render(s).
+     */
+    private boolean mOnDemand = false;
+
+    /**
+     * Hold the thread that own(s) the window (and poll(s) its event(s)).
+     */
+    private volatile Thread mThread;
+
     /**
      * <p>Handle when the module create</p>
      */
     public void onModuleCreate(Display.Preference preference,
-            GLFWFramebufferSizeCallback resize, GLFWWindowIconifyCallback iconify) {
+            GLFWFramebufferSizeCallback resize, GLFWWindowIconifyCallback iconify, GLFWWindowRefreshCallback refresh) {
         if (GLFW.glfwInit()) {
             final DisplayMode mode = preference.getMode();
 
+            mThread = Thread.currentThread();
+
             //!
             //! Fill each window hint from the configuration.
             //!
@@ -67,6 +101,7 @@ public final class DesktopDisplay implements Display {
             GLFW.glfwWindowHint(GLFW.GLFW_SRGB_CAPABLE,
                     preference.isSRGB() ? GLFW.GLFW_TRUE : GLFW.GLFW_FALSE);
             GLFW.glfwWindowHint(GLFW.GLFW_SAMPLES, preference.getSamples());
+            GLFW.glfwWindowHint(GLFW.GLFW_VISIBLE, mVisible ? GLFW.GLFW_TRUE : GLFW.GLFW_FALSE);
 
             if (preference.isFullscreen()) {
                 GLFW.glfwWindowHint(GLFW.GLFW_REFRESH_RATE, mode.getRate());
@@ -95,10 +130,11 @@ public final class DesktopDisplay implements Display {
             setSynchronised(preference.isSynchronised());
 
             //!
-            //! Attach resizable and iconify callback.
+            //! Attach resizable, iconify and refresh callback.
             //!
             GLFW.glfwSetFramebufferSizeCallback(mHandle, resize);
             GLFW.glfwSetWindowIconifyCallback(mHandle, iconify);
+            GLFW.glfwSetWindowRefreshCallback(mHandle, refresh);
 
             //!
             //! Initialise the context for OpenGL.
@@ -108,6 +144,24 @@ public final class DesktopDisplay implements Display {
         }
     }
 
+    /**
+     * <p>Change whether the window will be visible</p>
+     * <p>
+     * NOTE: Must be called before the module is created.
+     */
+    public void setVisible(boolean visible) {
+        mVisible = visible;
+    }
+
+    /**
+     * <p>Change whether the loop wait(s) for event(s) between render(s)</p>
+     * <p>
+     * NOTE: Must be called before the module is created.
+     */
+    public void setOnDemand(boolean onDemand) {
+        mOnDemand = onDemand;
+    }
+
     /**
      * <p>Handle when the module destroy</p>
      */
@@ -123,12 +177,59 @@ public final class DesktopDisplay implements Display {
 
     /**
      * <p>Handle when the module update</p>
+     *
+     * @param time the time when the frame began (in nanosecond)
      */
-    public void onModuleUpdate() {
+    public void onModuleUpdate(long time) {
+        final long submit = System.nanoTime();
+
         GLFW.glfwSwapBuffers(mHandle);
+
+        final long swap = System.nanoTime();
+
+        mStatistics.record(submit - time, swap - submit, swap);
+
         GLFW.glfwPollEvents();
     }
 
+    /**
+     * <p>Handle when the module wait for event(s)</p>
+     *
+     * @param timeout the maximum time to wait (in seconds)
+     */
+    public void onModuleWait(double timeout) {
+        GLFW.glfwWaitEventsTimeout(timeout);
+    }
+
+    /**
+     * <p>Handle when the module request a render from a callback of the window</p>
+     * <p>
+     * NOTE: The callback(s) run while polling (or waiting for) event(s), therefore the loop is already awake.
+     */
+    public void onModuleRequest() {
+        mRequest.set(true);
+    }
+
+    /**
+     * <p>Check if the display has been requested to render (and consume the request)</p>
+     *
+     * @param time the current time (in seconds)
+     *
+     * @return <code>true</code> if the display has been requested to render, <code>false</code> otherwise
+     */
+    public boolean hasRequest(double time) {
+        return mRequest.getAndSet(false) || time < mAnimation;
+    }
+
+    /**
+     * <p>Check if the display is iconified</p>
+     *
+     * @return <code>true</code> if the display is iconified, <code>false</code> otherwise
+     */
+    public boolean isIconified() {
+        return GLFW.glfwGetWindowAttrib(mHandle, GLFW.GLFW_ICONIFIED) == GLFW.GLFW_TRUE;
+    }
+
     /**
      * <p>Get the handle of the window</p>
      *
@@ -305,6 +406,45 @@ public final class DesktopDisplay implements Display {
         return mHandle != MemoryUtil.NULL && !GLFW.glfwWindowShouldClose(mHandle);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void requestRender() {
+        mRequest.set(true);
+
+        onModuleWake();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void requestAnimation(float duration) {
+        mAnimation = Math.max(mAnimation, GLFW.glfwGetTime() + duration);
+
+        onModuleWake();
+    }
+
+    /**
+     * <p>Handle when the module wake up the loop (if waiting for event(s))</p>
+     * <p>
+     * NOTE: Only required when called from another thread, given the thread of the window is already awake.
+     */
+    private void onModuleWake() {
+        if (mOnDemand && Thread.currentThread() != mThread) {
+            GLFW.glfwPostEmptyEvent();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameStatistics getStatistics() {
+        return mStatistics;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,148 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.backend.lwjgl.system;
+
+import ar.com.quark.system.Display;
+import ar.com.quark.system.DisplayLifecycle;
+import ar.com.quark.system.utility.DoubleBuffer;
+
+/**
+ * <code>DesktopLoop</code> represent the configuration of the main loop of {@link Desktop}.
+ */
+public final class DesktopLoop {
+    /**
+     * <code>Mode</code> enumerate(s) all mode(s) of the loop.
+     */
+    public enum Mode {
+        /**
+         * Render as fast as possible (or as the limit allow), passing the time elapsed to
+         * {@link DisplayLifecycle#onRender(float)}.
+         */
+        VARIABLE,
+
+        /**
+         * Update at a fixed rate through {@link DisplayLifecycle#onUpdate(float)}, and render passing the
+         * interpolation factor between the last two update(s) to {@link DisplayLifecycle#onRender(float)}.
+         */
+        FIXED,
+
+        /**
+         * Render only when required (e.g input arrive(s), the display is resized or has been requested
+         * through {@link Display#requestRender()}), otherwise wait for event(s).
+         */
+        ON_DEMAND
+    }
+
+    /**
+     * Encapsulate the default loop (variable, without limit).
+     */
+    public final static DesktopLoop DEFAULT = new DesktopLoop(Mode.VARIABLE, 0, 0, 0);
+
+    private final Mode mMode;
+    private final int mRate;
+    private final int mSteps;
+    private final int mLimit;
+    private final boolean mThreaded;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param mode  the mode of the loop
+     * @param rate  the number of update(s) per second (only for {@link Mode#FIXED})
+     * @param steps the maximum number of update(s) per frame when catching up (only for {@link Mode#FIXED})
+     * @param limit the maximum number of frame(s) per second (<code>0</code> for unlimited)
+     */
+    public DesktopLoop(Mode mode, int rate, int steps, int limit) {
+        this(mode, rate, steps, limit, false);
+    }
+
+    /**
+     * <p>Constructor</p>
+     * <p>
+     * NOTE: When threaded, the lifecycle must be a {@link DisplayLifecycle.Threaded}, whose update is called on a
+     * dedicated logic thread (at a fixed rate for {@link Mode#FIXED}, otherwise passing the time elapsed) writing
+     * into one snapshot, while its render is called on the render thread reading from the other one. Both side(s)
+     * hand every snapshot off through a {@link DoubleBuffer}, so that the update(s) of frame N+1 run while frame N
+     * is rendered: the render of frame N begin(s) once its update(s) have finished, and the update(s) of frame N+2
+     * begin once frame N has been rendered (therefore the logic never runs more than one frame ahead).
+     *
+     * @param mode     the mode of the loop
+     * @param rate     the number of update(s) per second (only for {@link Mode#FIXED})
+     * @param steps    the maximum number of update(s) per frame when catching up (only for {@link Mode#FIXED})
+     * @param limit    the maximum number of frame(s) per second (<code>0</code> for unlimited)
+     * @param threaded <code>true</code> to update on a dedicated logic thread, <code>false</code> otherwise
+     */
+    public DesktopLoop(Mode mode, int rate, int steps, int limit, boolean threaded) {
+        if (mode == Mode.FIXED && (rate <= 0 || steps <= 0)) {
+            throw new IllegalArgumentException("Fixed loop requires a positive rate and steps");
+        }
+        if (mode == Mode.ON_DEMAND && threaded) {
+            throw new IllegalArgumentException("On demand loop cannot be threaded");
+        }
+        mMode = mode;
+        mRate = rate;
+        mSteps = steps;
+        mLimit = limit;
+        mThreaded = threaded;
+    }
+
+    /**
+     * <p>Get the mode of the loop</p>
+     *
+     * @return the mode of the loop
+     */
+    public Mode getMode() {
+        return mMode;
+    }
+
+    /**
+     * <p>Get the duration of each update</p>
+     *
+     * @return the duration of each update (in seconds)
+     */
+    public double getStep() {
+        return 1.0 / mRate;
+    }
+
+    /**
+     * <p>Get the maximum number of update(s) per frame</p>
+     *
+     * @return the maximum number of update(s) per frame
+     */
+    public int getSteps() {
+        return mSteps;
+    }
+
+    /**
+     * <p>Get the maximum number of frame(s) per second</p>
+     *
+     * @return the maximum number of frame(s) per second (<code>0</code> for unlimited)
+     */
+    public int getLimit() {
+        return mLimit;
+    }
+
+    /**
+     * <p>Check if the loop updates on a dedicated logic thread</p>
+     *
+     * @return <code>true</code> if the loop updates on a dedicated logic thread, <code>false</code> otherwise
+     */
+    public boolean isThreaded() {
+        return mThreaded;
+    }
+}
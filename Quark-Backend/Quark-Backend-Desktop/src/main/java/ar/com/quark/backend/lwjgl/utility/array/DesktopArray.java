@@ -155,6 +155,15 @@ public class DesktopArray<A extends Array> implements Array<A> {
         return (A) this;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public A writeInt8(ByteBuffer value) {
+        mBuffer.put(value);
+        return (A) this;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -314,4 +323,16 @@ public class DesktopArray<A extends Array> implements Array<A> {
 
         return mBuffer.position() - position;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(ByteBuffer value) {
+        final int count = mBuffer.remaining();
+
+        value.put(mBuffer);
+
+        return count;
+    }
 }
\ No newline at end of file
@@ -90,6 +90,70 @@ public final class DesktopArrayFactory extends ArrayFactory {
         return new DesktopFloat32Array(MemoryUtil.memAlloc(capacity * 0x04));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int8Array nWrapInt8Array(ByteBuffer buffer) {
+        return new DesktopInt8Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int16Array nWrapInt16Array(ByteBuffer buffer) {
+        return new DesktopInt16Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int32Array nWrapInt32Array(ByteBuffer buffer) {
+        return new DesktopInt32Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt8Array nWrapUInt8Array(ByteBuffer buffer) {
+        return new DesktopUInt8Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt16Array nWrapUInt16Array(ByteBuffer buffer) {
+        return new DesktopUInt16Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt32Array nWrapUInt32Array(ByteBuffer buffer) {
+        return new DesktopUInt32Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Float16Array nWrapFloat16Array(ByteBuffer buffer) {
+        return new DesktopFloat16Array(buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Float32Array nWrapFloat32Array(ByteBuffer buffer) {
+        return new DesktopFloat32Array(buffer);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -17,10 +17,9 @@
  */
 package ar.com.quark.backend.teavm.input;
 
-import ar.com.quark.Quark;
 import ar.com.quark.input.device.InputKey;
 import ar.com.quark.input.device.InputKeyboard;
-import ar.com.quark.system.utility.array.Int32Array;
+import ar.com.quark.input.InputEventQueue;
 import org.teavm.jso.dom.events.EventListener;
 import org.teavm.jso.dom.events.KeyboardEvent;
 import org.teavm.jso.dom.html.HTMLElement;
@@ -41,6 +40,11 @@ public final class WebInputKeyboard implements InputKeyboard {
     private final EventListener<KeyboardEvent> mRegistration2 = this::onKeyDown;
     private final EventListener<KeyboardEvent> mRegistration3 = this::onKeyPress;
 
+    /**
+     * Hold the queue of the device.
+     */
+    private InputEventQueue mQueue;
+
     /**
      * <p>Constructor</p>
      */
@@ -52,7 +56,9 @@ public final class WebInputKeyboard implements InputKeyboard {
      * {@inheritDoc}
      */
     @Override
-    public void create() {
+    public void create(InputEventQueue queue) {
+        mQueue = queue;
+
         mHandle.listenKeyUp(mRegistration1);
         mHandle.listenKeyDown(mRegistration2);
         mHandle.listenKeyPress(mRegistration3);
@@ -62,7 +68,7 @@ public final class WebInputKeyboard implements InputKeyboard {
      * {@inheritDoc}
      */
     @Override
-    public void update(Int32Array buffer) {
+    public void update() {
     }
 
     /**
@@ -81,7 +87,7 @@ public final class WebInputKeyboard implements InputKeyboard {
     private void onKeyUp(KeyboardEvent event) {
         final InputKey input = transform(event.getKeyCode());
         if (input != null) {
-            Quark.QKInput.invokeKeyUp(input);
+            InputKeyboard.onFactoryKeyUp(mQueue, input);
         }
         event.preventDefault();
     }
@@ -92,7 +98,7 @@ public final class WebInputKeyboard implements InputKeyboard {
     private void onKeyDown(KeyboardEvent event) {
         final InputKey input = transform(event.getKeyCode());
         if (input != null) {
-            Quark.QKInput.invokeKeyDown(input);
+            InputKeyboard.onFactoryKeyDown(mQueue, input);
         }
         event.preventDefault();
     }
@@ -101,7 +107,7 @@ public final class WebInputKeyboard implements InputKeyboard {
      * <p>Handle key-press event</p>
      */
     private void onKeyPress(KeyboardEvent event) {
-        Quark.QKInput.invokeKeyType((char) event.getCharCode());
+        InputKeyboard.onFactoryKeyType(mQueue, (char) event.getCharCode());
 
         event.preventDefault();
     }
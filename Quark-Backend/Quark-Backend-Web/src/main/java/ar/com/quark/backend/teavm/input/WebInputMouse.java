@@ -17,7 +17,7 @@
  */
 package ar.com.quark.backend.teavm.input;
 
-import ar.com.quark.system.utility.array.Int32Array;
+import ar.com.quark.input.InputEventQueue;
 import ar.com.quark.input.device.InputMouse;
 import ar.com.quark.input.device.InputMouseButton;
 import org.teavm.jso.JSBody;
@@ -26,8 +26,6 @@ import org.teavm.jso.dom.events.MouseEvent;
 import org.teavm.jso.dom.events.WheelEvent;
 import org.teavm.jso.dom.html.HTMLElement;
 
-import static ar.com.quark.Quark.QKInput;
-
 /**
  * Implementation for {@link InputMouse}.
  */
@@ -45,6 +43,22 @@ public final class WebInputMouse implements InputMouse {
     private final EventListener<MouseEvent> mRegistration3 = this::onMouseMove;
     private final EventListener<WheelEvent> mRegistration4 = this::onMouseWheel;
 
+    /**
+     * Hold the queue of the device.
+     */
+    private InputEventQueue mQueue;
+
+    /**
+     * Hold the position of the cursor (as queued).
+     */
+    private int mCursorX;
+    private int mCursorY;
+
+    /**
+     * Hold whether the device report(s) raw motion.
+     */
+    private boolean mRawMotion = false;
+
     /**
      * <p>Constructor</p>
      */
@@ -56,7 +70,9 @@ public final class WebInputMouse implements InputMouse {
      * {@inheritDoc}
      */
     @Override
-    public void create() {
+    public void create(InputEventQueue queue) {
+        mQueue = queue;
+
         mHandle.listenMouseUp(mRegistration1);
         mHandle.listenMouseDown(mRegistration2);
         mHandle.addEventListener("mousemove", mRegistration3);
@@ -67,7 +83,7 @@ public final class WebInputMouse implements InputMouse {
      * {@inheritDoc}
      */
     @Override
-    public void update(Int32Array buffer) {
+    public void update() {
     }
 
     /**
@@ -98,6 +114,19 @@ public final class WebInputMouse implements InputMouse {
      */
     @Override
     public void setCursorPosition(int x, int y) {
+        mCursorX = x;
+        mCursorY = y;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: The raw motion is the movement reported by the browser while the pointer is locked.
+     */
+    @Override
+    public boolean setRawMotion(boolean activate) {
+        mRawMotion = activate;
+        return true;
     }
 
     /**
@@ -107,7 +136,7 @@ public final class WebInputMouse implements InputMouse {
         final InputMouseButton input = transform(event.getButton());
 
         if (input != null) {
-            QKInput.invokeMouseButtonUp(input);
+            InputMouse.onFactoryButtonUp(mQueue, input);
         }
     }
 
@@ -118,7 +147,7 @@ public final class WebInputMouse implements InputMouse {
         final InputMouseButton input = transform(event.getButton());
 
         if (input != null) {
-            QKInput.invokeMouseButtonDown(input);
+            InputMouse.onFactoryButtonDown(mQueue, input);
         }
     }
 
@@ -126,20 +155,30 @@ public final class WebInputMouse implements InputMouse {
      * <p>Handle mouse-move event</p>
      */
     private void onMouseMove(MouseEvent event) {
+        //!
+        //! NOTE: The position is tracked by the device, given event(s) are processed on the next frame.
+        //!
         if (isPointerLocked(mHandle)) {
-            QKInput.invokeMouseMove(
-                    QKInput.getCursorX() + getMovementX(event),
-                    QKInput.getCursorY() + getMovementY(event));
+            final int dx = getMovementX(event);
+            final int dy = getMovementY(event);
+
+            if (mRawMotion) {
+                InputMouse.onFactoryMotion(mQueue, dx, dy);
+            }
+            mCursorX += dx;
+            mCursorY += dy;
         } else {
-            QKInput.invokeMouseMove(event.getClientX(), event.getClientY());
+            mCursorX = event.getClientX();
+            mCursorY = event.getClientY();
         }
+        InputMouse.onFactoryMove(mQueue, mCursorX, mCursorY);
     }
 
     /**
      * <p>Handle mouse-wheel event</p>
      */
     private void onMouseWheel(WheelEvent event) {
-        QKInput.invokeMouseWheel(Math.max(-1, Math.min(1, (int) event.getDeltaY())));
+        InputMouse.onFactoryWheel(mQueue, Math.max(-1, Math.min(1, (int) event.getDeltaY())));
     }
 
     /**
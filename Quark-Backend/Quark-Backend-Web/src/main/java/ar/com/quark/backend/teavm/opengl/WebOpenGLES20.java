@@ -211,6 +211,15 @@ public class WebOpenGLES20 implements Render.GLES2 {
         mGL.viewport(x, y, width, height);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type,
+            ar.com.quark.system.utility.array.Int8Array data) {
+        mGL.readPixels(x, y, width, height, format, type, Uint8Array.create(data.<DataView>data().getBuffer()));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -554,6 +563,14 @@ public class WebOpenGLES20 implements Render.GLES2 {
     @Override
     public void glTexImage2D(int target, int level, int internal, int width, int height,
             int border, int format, int type, ar.com.quark.system.utility.array.Int8Array data) {
+        if (data == null) {
+            //!
+            //! NOTE: Allocate the texture without any content (e.g for a frame).
+            //!
+            mGL.texImage2D(target, level, format /* WebGL 1.0 */, width, height, border, format, type,
+                    (ArrayBufferView) null);
+            return;
+        }
         final ArrayBufferView view;
 
         switch (format) {
@@ -72,10 +72,15 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
         extension.put(RenderCapabilities.Extension.FRAME_BUFFER_MULTIPLE_RENDER_TARGET,
                 isExtension("WEBGL_draw_buffers"));
         extension.put(RenderCapabilities.Extension.FRAME_BUFFER_MULTIPLE_SAMPLE, true);
+        extension.put(RenderCapabilities.Extension.FRAME_BUFFER_BLIT, false);
 
         extension.put(RenderCapabilities.Extension.VERTEX_ARRAY_OBJECT,
                 isExtension(OES_vertex_array_object.NAMES));
 
+        extension.put(RenderCapabilities.Extension.TRANSFORM_FEEDBACK, false);
+
+        extension.put(RenderCapabilities.Extension.PIXEL_BUFFER, false);
+
         extension.put(RenderCapabilities.Extension.TEXTURE_3D, false);
         extension.put(RenderCapabilities.Extension.TEXTURE_COMPRESSION_S3TC,
                 isExtension(OES_texture_compression_s3tc.NAMES));
@@ -206,6 +211,49 @@ public class WebOpenGLES30 extends WebOpenGLES20 implements Render.GLES3 {
     public void glUniform1uiv(int name, UInt32Array buffer) {
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTransformFeedbackVaryings(int name, String[] varyings, int mode) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginTransformFeedback(int primitive) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndTransformFeedback() {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, int offset) {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlitFramebuffer(int srcX0, int srcY0, int srcX1, int srcY1,
+            int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter) {
+    }
+
     /**
      * @see <a href="https://www.khronos.org/registry/webgl/extensions/OES_vertex_array_object/">Extension</a>
      */
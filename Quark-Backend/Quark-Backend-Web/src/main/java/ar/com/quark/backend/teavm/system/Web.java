@@ -33,6 +33,8 @@ import ar.com.quark.render.DefaultRender;
 import ar.com.quark.render.Render;
 import ar.com.quark.system.Display;
 import ar.com.quark.system.DisplayLifecycle;
+import ar.com.quark.system.JobSystem;
+import ar.com.quark.system.Scheduler;
 import ar.com.quark.system.utility.array.ArrayFactory;
 import org.teavm.jso.JSBody;
 import org.teavm.jso.JSFunctor;
@@ -41,9 +43,6 @@ import org.teavm.jso.JSObject;
 import org.teavm.jso.browser.Window;
 import org.teavm.jso.dom.html.HTMLCanvasElement;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 import static ar.com.quark.Quark.*;
 
 /**
@@ -51,18 +50,18 @@ import static ar.com.quark.Quark.*;
  */
 public final class Web {
     /**
-     * Encapsulate the delay per update of the input thread.
+     * Encapsulate the rate of the input task.
      * <p>
-     * NOTE: Update per 25 millisecond.
+     * NOTE: Update every frame.
      */
-    private final static long THREAD_INPUT_DELAY = 25L;
+    private final static float SCHEDULER_INPUT_RATE = 0.0f;
 
     /**
-     * Encapsulate the delay per update of the audio thread.
+     * Encapsulate the rate of the audio task.
      * <p>
      * NOTE: Update per 50 millisecond.
      */
-    private final static long THREAD_AUDIO_DELAY = 50L;
+    private final static float SCHEDULER_AUDIO_RATE = 20.0f;
 
     /**
      * Hold the lifecycle.
@@ -70,10 +69,16 @@ public final class Web {
     private final DisplayLifecycle mLifecycle;
 
     /**
-     * Hold all thread(s).
+     * Hold the scheduler of all task(s).
+     */
+    private final Scheduler mScheduler = (QKScheduler = new Scheduler());
+
+    /**
+     * Hold the job system shared by every module.
+     * <p>
+     * NOTE: Without worker(s) every job is executed on the main thread.
      */
-    private final Timer mInputThread = new Timer("QK-Input-Thread");
-    private final Timer mAudioThread = new Timer("QK-Audio-Thread");
+    private final JobSystem mJobs = (QKJobs = new JobSystem(0));
 
     /**
      * Hold the delta time (in normalised millisecond).
@@ -130,12 +135,6 @@ public final class Web {
         //! Create audio module.
         //!
         mAudio.onModuleCreate(new WebOpenALES10());
-        mAudioThread.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                mAudio.onModuleUpdate();
-            }
-        }, 0L, THREAD_AUDIO_DELAY);
 
         //!
         //! Create input module.
@@ -143,12 +142,12 @@ public final class Web {
         mInput.onModuleCreate(
                 new WebInputKeyboard(Window.current().getDocument().getDocumentElement()),
                 new WebInputMouse(element));
-        mInputThread.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                mInput.onModuleUpdate();
-            }
-        }, 0L, THREAD_INPUT_DELAY);
+
+        //!
+        //! Schedule the input before the audio, given both share the same priority.
+        //!
+        mScheduler.schedule("Input", mInput::onModuleUpdate, SCHEDULER_INPUT_RATE, Scheduler.Priority.HIGH);
+        mScheduler.schedule("Audio", mAudio::onModuleUpdate, SCHEDULER_AUDIO_RATE, Scheduler.Priority.HIGH);
 
         //!
         //! Create render module.
@@ -195,13 +194,12 @@ public final class Web {
         //!
         //! Unload input module.
         //!
-        mInputThread.cancel();
+        mScheduler.shutdown();
         mInput.onModuleDestroy();
 
         //!
         //! Unload audio module.
         //!
-        mAudioThread.cancel();
         mAudio.onModuleDestroy();
 
         //!
@@ -241,6 +239,13 @@ public final class Web {
      * <p>Handle when the module render</p>
      */
     private void onModuleRender(long time) {
+        final long begin = System.nanoTime();
+
+        //!
+        //! Execute all task(s) at the frame boundary.
+        //!
+        mScheduler.update(time / 1000.0);
+
         //!
         //! Handle the render notification.
         //!
@@ -258,12 +263,19 @@ public final class Web {
         //!
         mRender.onModuleUpdate();
 
+        //!
+        //! Update the resources.
+        //!
+        //! NOTE: Dispose released asset(s) whose grace period has expired.
+        //!
+        mResources.onModuleUpdate();
+
         //!
         //! Update the display.
         //!
         //! NOTE: Will synchronise with the window.
         //!
-        mDisplay.onModuleUpdate();
+        mDisplay.onModuleUpdate(begin);
     }
 
     /**
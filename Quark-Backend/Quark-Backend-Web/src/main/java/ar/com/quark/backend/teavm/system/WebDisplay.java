@@ -20,6 +20,7 @@ package ar.com.quark.backend.teavm.system;
 import ar.com.quark.render.texture.Image;
 import ar.com.quark.system.DisplayMode;
 import ar.com.quark.system.Display;
+import ar.com.quark.system.FrameStatistics;
 import org.teavm.jso.JSBody;
 import org.teavm.jso.dom.html.HTMLCanvasElement;
 import org.teavm.jso.dom.html.HTMLElement;
@@ -32,6 +33,7 @@ import java.util.Collections;
  */
 public final class WebDisplay implements Display {
     private HTMLCanvasElement mHandle;
+    private final FrameStatistics mStatistics = new FrameStatistics();
 
     /**
      * <p>Handle when the module create</p>
@@ -50,8 +52,15 @@ public final class WebDisplay implements Display {
 
     /**
      * <p>Handle when the module update</p>
+     * <p>
+     * NOTE: The browser present(s) the frame after returning, therefore the swap time is unknown.
+     *
+     * @param time the time when the frame began (in nanosecond)
      */
-    public void onModuleUpdate() {
+    public void onModuleUpdate(long time) {
+        final long submit = System.nanoTime();
+
+        mStatistics.record(submit - time, 0L, submit);
     }
 
     /**
@@ -175,6 +184,34 @@ public final class WebDisplay implements Display {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void requestRender() {
+        //!
+        //! NOTE: The browser always render through requestAnimationFrame.
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void requestAnimation(float duration) {
+        //!
+        //! NOTE: The browser always render through requestAnimationFrame.
+        //!
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FrameStatistics getStatistics() {
+        return mStatistics;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -24,6 +24,8 @@ import ar.com.quark.system.utility.array.Int32Array;
 import ar.com.quark.system.utility.array.Int8Array;
 import org.teavm.jso.typedarrays.*;
 
+import java.nio.ByteBuffer;
+
 /**
  * <a href="http://teavm.org/">TeaVM</a> implementation for {@link ArrayFactory}.
  */
@@ -92,6 +94,70 @@ public final class WebArrayFactory extends ArrayFactory {
         return new TeaVMFloat32Array(ArrayBuffer.create(capacity * 0x04));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int8Array nWrapInt8Array(ByteBuffer buffer) {
+        return new TeaVMInt8Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int16Array nWrapInt16Array(ByteBuffer buffer) {
+        return new TeaVMInt16Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Int32Array nWrapInt32Array(ByteBuffer buffer) {
+        return new TeaVMInt32Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt8Array nWrapUInt8Array(ByteBuffer buffer) {
+        return new TeaVMUInt8Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt16Array nWrapUInt16Array(ByteBuffer buffer) {
+        return new TeaVMUInt16Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected UInt32Array nWrapUInt32Array(ByteBuffer buffer) {
+        return new TeaVMUInt32Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Float16Array nWrapFloat16Array(ByteBuffer buffer) {
+        return new TeaVMFloat16Array(copy(buffer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Float32Array nWrapFloat32Array(ByteBuffer buffer) {
+        return new TeaVMFloat32Array(copy(buffer));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,6 +165,21 @@ public final class WebArrayFactory extends ArrayFactory {
     protected void nFree(Array<?> view) {
     }
 
+    /**
+     * <p>Copy the content of a {@link ByteBuffer} into a new {@link ArrayBuffer}</p>
+     * <p>
+     * NOTE: Javascript doesn't support access to raw memory, so the buffer cannot be wrapped.
+     */
+    private static ArrayBuffer copy(ByteBuffer buffer) {
+        final ArrayBuffer array = ArrayBuffer.create(buffer.remaining());
+        final org.teavm.jso.typedarrays.Int8Array view = org.teavm.jso.typedarrays.Int8Array.create(array);
+
+        for (int i = 0, j = buffer.position(); i < view.getLength(); ++i, ++j) {
+            view.set(i, buffer.get(j));
+        }
+        return array;
+    }
+
     /**
      * Specialised implementation for {@link Int8Array}.
      */
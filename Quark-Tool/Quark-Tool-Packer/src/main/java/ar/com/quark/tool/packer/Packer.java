@@ -0,0 +1,265 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.tool.packer;
+
+import ar.com.quark.resource.locator.PackageAssetLocator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * <code>Packer</code> encapsulate the tool that pack(s) every file of a directory into a package that can be read by
+ * {@link PackageAssetLocator}.
+ * <p>
+ * Usage: <code>Packer [--store] [--align N] &lt;directory&gt; &lt;package&gt;</code>
+ * <p>
+ * The name of every asset is its path relative to the directory (using '/' as separator). Every blob is compressed
+ * unless <code>--store</code> is given or compression doesn't save at least {@link #MINIMUM_SAVING} of it (e.g an
+ * already compressed image or sound).
+ */
+public final class Packer {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>Packer</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(Packer.class);
+
+    /**
+     * Encapsulate the default alignment (in bytes) of every blob.
+     */
+    public final static int DEFAULT_ALIGNMENT = 64;
+
+    /**
+     * Encapsulate the minimum saving (as a fraction of its size) for a blob to be stored compressed.
+     */
+    public final static double MINIMUM_SAVING = 0.1;
+
+    /**
+     * <code>Entry</code> encapsulate an asset being packed.
+     */
+    private final static class Entry {
+        private final byte[] mName;
+        private final long mHash;
+        private final byte[] mBlob;
+        private final long mLength;
+        private final int mCompression;
+        private long mOffset;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Entry(byte[] name, byte[] blob, long length, int compression) {
+            mName = name;
+            mHash = PackageAssetLocator.hash(name);
+            mBlob = blob;
+            mLength = length;
+            mCompression = compression;
+        }
+    }
+
+    /**
+     * <p>Entry point of the tool</p>
+     *
+     * @param arguments the argument(s) of the tool
+     */
+    public static void main(String[] arguments) throws IOException {
+        boolean compress = true;
+        int alignment = DEFAULT_ALIGNMENT;
+        int index = 0;
+
+        for (; index < arguments.length && arguments[index].startsWith("--"); ++index) {
+            if (arguments[index].equals("--store")) {
+                compress = false;
+            } else if (arguments[index].equals("--align") && index + 1 < arguments.length) {
+                alignment = Integer.parseInt(arguments[++index]);
+            } else {
+                throw new IllegalArgumentException("Unknown option " + arguments[index]);
+            }
+        }
+
+        if (arguments.length - index != 2) {
+            throw new IllegalArgumentException("Usage: Packer [--store] [--align N] <directory> <package>");
+        }
+        pack(Paths.get(arguments[index]), Paths.get(arguments[index + 1]), alignment, compress);
+    }
+
+    /**
+     * <p>Pack every file of a directory</p>
+     *
+     * @param directory the directory to pack
+     * @param output    the package to write
+     * @param alignment the alignment (in bytes, a power of two) of every blob
+     * @param compress  <code>true</code> to compress every blob (when worth it), <code>false</code> otherwise
+     */
+    public static void pack(Path directory, Path output, int alignment, boolean compress) throws IOException {
+        if (alignment <= 0 || (alignment & (alignment - 1)) != 0) {
+            throw new IllegalArgumentException("The alignment must be a power of two");
+        }
+        final List<Path> files;
+
+        try (final Stream<Path> stream = Files.walk(directory)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+
+        final List<Entry> entries = new ArrayList<>(files.size());
+        long length = 0L;
+
+        for (final Path file : files) {
+            final String name = directory.relativize(file).toString()
+                    .replace(file.getFileSystem().getSeparator(), "/");
+            final Entry entry
+                    = onCreateEntry(name.getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file), compress);
+
+            if (entry.mName.length > 0xFFFF) {
+                throw new IllegalArgumentException("The name of " + file + " is too long");
+            }
+            entries.add(entry);
+            length += entry.mLength;
+        }
+
+        //!
+        //! NOTE: The index is sorted by hash (then by name, so that the package is deterministic).
+        //!
+        entries.sort(Comparator.<Entry>comparingLong(entry -> entry.mHash)
+                .thenComparing(entry -> new String(entry.mName, StandardCharsets.UTF_8)));
+
+        //!
+        //! Calculate the layout of the package.
+        //!
+        final long names = PackageAssetLocator.HEADER_SIZE + (long) entries.size() * PackageAssetLocator.ENTRY_SIZE;
+        long offset = names;
+
+        for (final Entry entry : entries) {
+            offset += entry.mName.length;
+        }
+        final long data = onAlign(offset, alignment);
+
+        offset = data;
+
+        for (final Entry entry : entries) {
+            entry.mOffset = offset;
+            offset = onAlign(offset + entry.mBlob.length, alignment);
+        }
+
+        if (offset > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("The package cannot be larger than 2GiB");
+        }
+
+        //!
+        //! Write the header, the index and the name table.
+        //!
+        final ByteBuffer buffer = ByteBuffer.allocate((int) data).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(PackageAssetLocator.MAGIC)
+                .putInt(PackageAssetLocator.VERSION)
+                .putInt(entries.size())
+                .putInt(alignment)
+                .putLong(names)
+                .putLong(data);
+
+        int name = 0;
+
+        for (final Entry entry : entries) {
+            buffer.putLong(entry.mHash)
+                    .putLong(entry.mOffset)
+                    .putLong(entry.mBlob.length)
+                    .putLong(entry.mLength)
+                    .putInt(name)
+                    .putShort((short) entry.mName.length)
+                    .put((byte) entry.mCompression)
+                    .put((byte) 0);
+            name += entry.mName.length;
+        }
+        for (final Entry entry : entries) {
+            buffer.put(entry.mName);
+        }
+        buffer.position(0);
+
+        //!
+        //! Write every blob (the gap(s) of the alignment are left as zero(s)).
+        //!
+        try (final FileChannel channel = FileChannel.open(output,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            onWrite(channel, buffer, 0L);
+
+            for (final Entry entry : entries) {
+                onWrite(channel, ByteBuffer.wrap(entry.mBlob), entry.mOffset);
+            }
+            channel.truncate(offset);
+
+            if (channel.size() < offset) {
+                onWrite(channel, ByteBuffer.allocate((int) (offset - channel.size())), channel.size());
+            }
+        }
+
+        LOGGER.info("Packed {} asset(s) ({} byte(s)) into {} ({} byte(s))",
+                entries.size(), length, output, offset); /* INFO */
+    }
+
+    /**
+     * <p>Create the entry of an asset, compressing its blob if worth it</p>
+     */
+    private static Entry onCreateEntry(byte[] name, byte[] content, boolean compress) throws IOException {
+        if (compress && content.length > 0) {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(content.length);
+            final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+
+            try (final DeflaterOutputStream stream = new DeflaterOutputStream(output, deflater)) {
+                stream.write(content);
+            } finally {
+                deflater.end();
+            }
+
+            if (output.size() <= content.length * (1.0 - MINIMUM_SAVING)) {
+                return new Entry(name, output.toByteArray(), content.length, PackageAssetLocator.COMPRESSION_DEFLATE);
+            }
+        }
+        return new Entry(name, content, content.length, PackageAssetLocator.COMPRESSION_NONE);
+    }
+
+    /**
+     * <p>Align an offset</p>
+     */
+    private static long onAlign(long offset, int alignment) {
+        return (offset + alignment - 1) & ~(long) (alignment - 1);
+    }
+
+    /**
+     * <p>Write the given buffer entirely at the given position</p>
+     */
+    private static void onWrite(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
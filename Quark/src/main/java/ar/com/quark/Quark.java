@@ -21,6 +21,8 @@ import ar.com.quark.audio.AudioManager;
 import ar.com.quark.render.Render;
 import ar.com.quark.resource.AssetManager;
 import ar.com.quark.system.Display;
+import ar.com.quark.system.JobSystem;
+import ar.com.quark.system.Scheduler;
 import ar.com.quark.input.InputManager;
 
 /**
@@ -61,4 +63,18 @@ public final class Quark {
      * @see AssetManager
      */
     public static AssetManager QKResources;
+
+    /**
+     * Hold the {@link Scheduler} implementation.
+     *
+     * @see Scheduler
+     */
+    public static Scheduler QKScheduler;
+
+    /**
+     * Hold the {@link JobSystem} implementation.
+     *
+     * @see JobSystem
+     */
+    public static JobSystem QKJobs;
 }
@@ -49,11 +49,6 @@ public final class DefaultAudioManager implements AudioManager {
      */
     private final static int MAX_SOURCE = 32;
 
-    /**
-     * Represent the max number of buffer available.
-     */
-    private final static int MAX_BUFFER_STREAMING = MAX_BUFFER_COUNT * MAX_SOURCE;
-
     /**
      * Hold the context for {@link ALES10}.
      */
@@ -89,33 +84,26 @@ public final class DefaultAudioManager implements AudioManager {
      */
     private final Float32Array mTempFloat32Array = ArrayFactory.allocateFloat32Array(6);
 
+    /**
+     * Hold the number of source(s) generated.
+     */
+    private int mSourceCount = 0;
+
+    /**
+     * Hold whether the context has been created.
+     */
+    private boolean mAvailable = false;
+
     /**
      * <p>Handle when the module initialise</p>
+     * <p>
+     * NOTE: All source(s) and buffer(s) are generated lazily (on first use) and reused afterward.
      *
      * @param al the audio implementation
      */
     public void onModuleCreate(ALES10 al) {
         this.mAL = al;
-
-        if (mAL.alcCreateContext()) {
-            //!
-            //! Pre-generate all source(s).
-            //!
-            //! NOTE: All source(s) will be reusable.
-            //!
-            for (int i = 0; i < MAX_SOURCE; ++i) {
-                mSources.add(mAL.alGenSources());
-            }
-
-            //!
-            //! Pre-generate all buffer(s).
-            //!
-            //! NOTE: All buffer(s) will be reusable.
-            //!
-            for (int i = 0; i < MAX_BUFFER_STREAMING; ++i) {
-                mBuffers.add(mAL.alGenBuffers());
-            }
-        }
+        this.mAvailable = mAL.alcCreateContext();
     }
 
     /**
@@ -161,7 +149,7 @@ public final class DefaultAudioManager implements AudioManager {
         //! Update the source if not valid.
         //!
         if (source.getHandle() == Manageable.INVALID_HANDLE) {
-            source.setHandle(mSources.size() > 0 ? mSources.poll() : Manageable.INVALID_HANDLE);
+            source.setHandle(mSources.size() > 0 ? mSources.poll() : onCreateSource());
 
             //!
             //! Only proceed if the source is valid.
@@ -475,7 +463,7 @@ public final class DefaultAudioManager implements AudioManager {
             //!
             //! Once uploaded, we don't need to upload it anymore.
             //!
-            ArrayFactory.free(audio.getData());
+            audio.deleteAllMemory();
         }
         mAL.alSourcei(source.getHandle(), ALES10.AL_BUFFER, audio.getHandle());
     }
@@ -489,7 +477,7 @@ public final class DefaultAudioManager implements AudioManager {
             //! Poll an available buffer and query them in the target source.
             //!
             for (int i = 0; i < MAX_BUFFER_COUNT; i++) {
-                final int id = mBuffers.poll();
+                final int id = mBuffers.size() > 0 ? mBuffers.poll() : mAL.alGenBuffers();
 
                 //!
                 //! Fill the data in the buffer.
@@ -534,6 +522,20 @@ public final class DefaultAudioManager implements AudioManager {
         audio.reset();
     }
 
+    /**
+     * <p>Handle when a source is required and there isn't any available</p>
+     *
+     * @return the new source or {@link Manageable#INVALID_HANDLE} if the maximum has been reached
+     */
+    private int onCreateSource() {
+        if (!mAvailable || mSourceCount == MAX_SOURCE) {
+            return Manageable.INVALID_HANDLE;
+        }
+        mSourceCount++;
+
+        return mAL.alGenSources();
+    }
+
     /**
      * <p>Handle when an {@link AudioSource} requires to be removed</p>
      */
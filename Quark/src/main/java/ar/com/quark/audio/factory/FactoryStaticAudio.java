@@ -34,13 +34,24 @@ public final class FactoryStaticAudio extends Audio {
      * @apiNote [MUTABLE-DISPOSABLE]
      */
     private Int8Array mData;
+    private final boolean mOwned;
 
     /**
      * <p>Constructor</p>
      */
     public FactoryStaticAudio(Int8Array data, AudioFormat format, int duration, int rate) {
+        this(data, format, duration, rate, true);
+    }
+
+    /**
+     * <p>Constructor</p>
+     * <p>
+     * NOTE: An audio that doesn't own the data (e.g wrapping a memory-mapped file) will never deallocate it.
+     */
+    public FactoryStaticAudio(Int8Array data, AudioFormat format, int duration, int rate, boolean owned) {
         super(format, duration, rate);
         mData = data;
+        mOwned = owned;
     }
 
     /**
@@ -75,7 +86,7 @@ public final class FactoryStaticAudio extends Audio {
      */
     @Override
     public void deleteAllMemory() {
-        mData = ArrayFactory.free(mData);
+        mData = mOwned ? ArrayFactory.free(mData) : null;
     }
 
     /**
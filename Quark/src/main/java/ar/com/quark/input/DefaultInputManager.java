@@ -17,13 +17,13 @@
  */
 package ar.com.quark.input;
 
-import ar.com.quark.system.utility.array.Int32Array;
 import ar.com.quark.input.device.InputKey;
 import ar.com.quark.input.device.InputKeyboard;
 import ar.com.quark.input.device.InputMouse;
 import ar.com.quark.input.device.InputMouseButton;
-import ar.com.quark.system.utility.array.ArrayFactory;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -31,6 +31,11 @@ import java.util.Set;
  * <b>Default</b> implementation for {@link InputManager}.
  */
 public final class DefaultInputManager implements InputManager {
+    /**
+     * Represent the max number of event(s) queued between two update(s).
+     */
+    private final static int MAX_EVENT = 4096;
+
     /**
      * Hold all raw input listener of the manager.
      */
@@ -48,13 +53,65 @@ public final class DefaultInputManager implements InputManager {
 
     private int mCursorX;
     private int mCursorY;
-    private final boolean[] mKey = new boolean[InputKey.VALUES.length];
-    private final boolean[] mButton = new boolean[InputMouseButton.VALUES.length];
+    private final long[] mKey = new long[InputAction.KEY_WORDS];
+    private final long[] mButton = new long[InputAction.BUTTON_WORDS];
+
+    /**
+     * Hold the edge(s) and delta(s) accumulated since the last snapshot.
+     */
+    private final long[] mKeyPressed = new long[InputAction.KEY_WORDS];
+    private final long[] mKeyReleased = new long[InputAction.KEY_WORDS];
+    private final long[] mButtonPressed = new long[InputAction.BUTTON_WORDS];
+    private final long[] mButtonReleased = new long[InputAction.BUTTON_WORDS];
+    private int mCursorDeltaX;
+    private int mCursorDeltaY;
+    private int mWheel;
+
+    /**
+     * Hold the snapshot of the last update.
+     */
+    private volatile InputSnapshot mSnapshot = InputSnapshot.EMPTY;
+
+    /**
+     * Hold the recorder of the event stream (if any).
+     */
+    private InputRecorder mRecorder;
+
+    /**
+     * Hold the number of update(s) of the logic.
+     * <p>
+     * NOTE: Written by the thread that update(s) the logic, which may not be the one that update(s) the module.
+     */
+    private volatile long mUpdate = 0L;
 
     /**
      * Hold all the event(s) from the device(s) efficiently.
      */
-    private final Int32Array mBuffer = ArrayFactory.allocateInt32Array(1024);
+    private final InputEventQueue mQueue = new InputEventQueue(MAX_EVENT);
+
+    /**
+     * Hold the time (in nanosecond) of the event being processed.
+     */
+    private long mTime;
+
+    /**
+     * Hold whether consecutive move event(s) are coalesced.
+     */
+    private boolean mCoalescing = false;
+
+    /**
+     * Hold the move event being coalesced (if any).
+     */
+    private boolean mMove = false;
+    private int mMoveX;
+    private int mMoveY;
+    private long mMoveTime;
+
+    /**
+     * Hold all raw motion(s) of the last update (packed).
+     */
+    private float[] mMotion = new float[256];
+    private int mMotionCount = 0;
 
     /**
      * <p>Handle when the module initialise</p>
@@ -67,13 +124,13 @@ public final class DefaultInputManager implements InputManager {
         //! Initialise the <code>Keyboard</code> device
         //!
         mKeyboard = keyboard;
-        mKeyboard.create();
+        mKeyboard.create(mQueue);
 
         //!
         //! Initialise the <code>Mouse</code> device
         //!
         mMouse = mouse;
-        mMouse.create();
+        mMouse.create(mQueue);
     }
 
     /**
@@ -89,6 +146,11 @@ public final class DefaultInputManager implements InputManager {
         //! Destroy the <code>Mouse</code> device
         //!
         mMouse.destroy();
+
+        //!
+        //! Close the recorder (if any).
+        //!
+        setRecorder(null);
     }
 
     /**
@@ -98,17 +160,31 @@ public final class DefaultInputManager implements InputManager {
         //!
         //! Update <code>Keyboard</code> device.
         //!
-        mKeyboard.update(mBuffer);
+        mKeyboard.update();
 
         //!
         //! Update <code>Mouse</code> device.
         //!
-        mMouse.update(mBuffer);
+        mMouse.update();
 
         //!
         //! Process all input-event being queue by all device(s) attached.
         //!
         onProcessInputEvent();
+
+        //!
+        //! Publish the snapshot of the update.
+        //!
+        onProcessSnapshot();
+    }
+
+    /**
+     * <p>Handle when the logic is about to update</p>
+     * <p>
+     * NOTE: Only required to record the update that first observe(s) every event.
+     */
+    public void onModuleStep() {
+        mUpdate++;
     }
 
     /**
@@ -116,6 +192,8 @@ public final class DefaultInputManager implements InputManager {
      */
     @Override
     public void invoke(int[] event) {
+        mTime = System.nanoTime();
+
         switch (event[0]) {
             //!
             //! KEYBOARD
@@ -145,9 +223,43 @@ public final class DefaultInputManager implements InputManager {
             case InputMouse.EVENT_WHEEL:
                 onMouseWheel(event[1]);
                 break;
+            case InputMouse.EVENT_MOTION:
+                onMouseMotion(Float.intBitsToFloat(event[1]), Float.intBitsToFloat(event[2]));
+                break;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getEventTime() {
+        return mTime;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputSnapshot getSnapshot() {
+        return mSnapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setRecorder(InputRecorder recorder) {
+        if (mRecorder != null && mRecorder != recorder) {
+            try {
+                mRecorder.close();
+            } catch (IOException exception) {
+                throw new IllegalStateException("Cannot close the recorder", exception);
+            }
+        }
+        mRecorder = recorder;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -180,6 +292,38 @@ public final class DefaultInputManager implements InputManager {
         mMouse.setCursorPosition(x, y);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMoveCoalescing(boolean activate) {
+        mCoalescing = activate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean setRawMotion(boolean activate) {
+        return mMouse.setRawMotion(activate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public float[] getMotion() {
+        return mMotion;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMotionCount() {
+        return mMotionCount;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -201,7 +345,7 @@ public final class DefaultInputManager implements InputManager {
      */
     @Override
     public boolean isButtonUp(InputMouseButton button) {
-        return !mButton[button.ordinal()];
+        return !isSet(mButton, button.ordinal());
     }
 
     /**
@@ -209,7 +353,7 @@ public final class DefaultInputManager implements InputManager {
      */
     @Override
     public boolean isButtonDown(InputMouseButton button) {
-        return mButton[button.ordinal()];
+        return isSet(mButton, button.ordinal());
     }
 
     /**
@@ -217,7 +361,7 @@ public final class DefaultInputManager implements InputManager {
      */
     @Override
     public boolean isKeyUp(InputKey key) {
-        return !mKey[key.ordinal()];
+        return !isSet(mKey, key.ordinal());
     }
 
     /**
@@ -225,47 +369,116 @@ public final class DefaultInputManager implements InputManager {
      */
     @Override
     public boolean isKeyDown(InputKey key) {
-        return mKey[key.ordinal()];
+        return isSet(mKey, key.ordinal());
     }
 
     /**
      * <p>Process all input-event(s)</p>
      */
     private void onProcessInputEvent() {
-        mBuffer.flip();
-        while (mBuffer.hasRemaining()) {
-            switch (mBuffer.read()) {
-                //!
-                //! KEYBOARD
-                //!
-                case InputKeyboard.EVENT_KEY_UP:
-                    onKeyboardKeyUp(InputKey.VALUES[mBuffer.read()]);
-                    break;
-                case InputKeyboard.EVENT_KEY_DOWN:
-                    onKeyboardKeyDown(InputKey.VALUES[mBuffer.read()]);
-                    break;
-                case InputKeyboard.EVENT_KEY_TYPE:
-                    onKeyboardKeyType((char) mBuffer.read());
-                    break;
-
-                //!
-                //! MOUSE
-                //!
-                case InputMouse.EVENT_MOVE:
-                    onMouseMove(mBuffer.read(), mBuffer.read());
-                    break;
-                case InputMouse.EVENT_BUTTON_UP:
-                    onMouseButtonUp(InputMouseButton.VALUES[mBuffer.read()]);
-                    break;
-                case InputMouse.EVENT_BUTTON_DOWN:
-                    onMouseButtonDown(InputMouseButton.VALUES[mBuffer.read()]);
-                    break;
-                case InputMouse.EVENT_WHEEL:
-                    onMouseWheel(mBuffer.read());
-                    break;
-            }
+        mMotionCount = 0;
+
+        mQueue.drain(this::onProcessInputEvent);
+
+        //!
+        //! NOTE: Flush the move event being coalesced (if any).
+        //!
+        onProcessMove();
+    }
+
+    /**
+     * <p>Publish the snapshot of the update and reset every edge and delta accumulated</p>
+     */
+    private void onProcessSnapshot() {
+        mSnapshot = new InputSnapshot(mSnapshot.getFrame() + 1L,
+                mKey.clone(), mKeyPressed.clone(), mKeyReleased.clone(),
+                mButton.clone(), mButtonPressed.clone(), mButtonReleased.clone(),
+                mCursorX, mCursorY, mCursorDeltaX, mCursorDeltaY, mWheel);
+
+        Arrays.fill(mKeyPressed, 0L);
+        Arrays.fill(mKeyReleased, 0L);
+        Arrays.fill(mButtonPressed, 0L);
+        Arrays.fill(mButtonReleased, 0L);
+        mCursorDeltaX = 0;
+        mCursorDeltaY = 0;
+        mWheel = 0;
+    }
+
+    /**
+     * <p>Process the move event being coalesced (if any)</p>
+     */
+    private void onProcessMove() {
+        if (mMove) {
+            mMove = false;
+            mTime = mMoveTime;
+
+            onMouseMove(mMoveX, mMoveY);
+        }
+    }
+
+    /**
+     * <p>Process an input-event</p>
+     */
+    private void onProcessInputEvent(int type, int first, int second, long time) {
+        //!
+        //! Record the event as received from the device(s) (before being coalesced).
+        //!
+        if (mRecorder != null) {
+            mRecorder.record(mSnapshot.getFrame() + 1L, mUpdate + 1L, type, first, second, time);
+        }
+
+        //!
+        //! Coalesce consecutive move event(s), given only the last position is required.
+        //!
+        if (type == InputMouse.EVENT_MOVE && mCoalescing) {
+            mMove = true;
+            mMoveX = first;
+            mMoveY = second;
+            mMoveTime = time;
+            return;
+        }
+
+        //!
+        //! NOTE: Raw motion(s) are packed and don't break the coalescing.
+        //!
+        if (type == InputMouse.EVENT_MOTION) {
+            onMouseMotion(Float.intBitsToFloat(first), Float.intBitsToFloat(second));
+            return;
+        }
+        onProcessMove();
+
+        mTime = time;
+
+        switch (type) {
+            //!
+            //! KEYBOARD
+            //!
+            case InputKeyboard.EVENT_KEY_UP:
+                onKeyboardKeyUp(InputKey.VALUES[first]);
+                break;
+            case InputKeyboard.EVENT_KEY_DOWN:
+                onKeyboardKeyDown(InputKey.VALUES[first]);
+                break;
+            case InputKeyboard.EVENT_KEY_TYPE:
+                onKeyboardKeyType((char) first);
+                break;
+
+            //!
+            //! MOUSE
+            //!
+            case InputMouse.EVENT_MOVE:
+                onMouseMove(first, second);
+                break;
+            case InputMouse.EVENT_BUTTON_UP:
+                onMouseButtonUp(InputMouseButton.VALUES[first]);
+                break;
+            case InputMouse.EVENT_BUTTON_DOWN:
+                onMouseButtonDown(InputMouseButton.VALUES[first]);
+                break;
+            case InputMouse.EVENT_WHEEL:
+                onMouseWheel(first);
+                break;
         }
-        mBuffer.clear();
     }
 
     /**
@@ -279,7 +492,7 @@ public final class DefaultInputManager implements InputManager {
             if (!listener.onKeyboardKeyUp(key))
                 break;
         }
-        mKey[key.ordinal()] = false;
+        onRelease(mKey, mKeyReleased, key.ordinal());
     }
 
     /**
@@ -293,7 +506,7 @@ public final class DefaultInputManager implements InputManager {
             if (!listener.onKeyboardKeyDown(key))
                 break;
         }
-        mKey[key.ordinal()] = true;
+        onPress(mKey, mKeyPressed, key.ordinal());
     }
 
     /**
@@ -325,6 +538,20 @@ public final class DefaultInputManager implements InputManager {
         }
         mCursorX = x;
         mCursorY = y;
+        mCursorDeltaX -= dx;
+        mCursorDeltaY -= dy;
+    }
+
+    /**
+     * <p>Handle {@link InputMouse#EVENT_MOTION}</p>
+     */
+    private void onMouseMotion(float dx, float dy) {
+        if ((mMotionCount + 1) * 2 > mMotion.length) {
+            mMotion = Arrays.copyOf(mMotion, mMotion.length * 2);
+        }
+        mMotion[mMotionCount * 2] = dx;
+        mMotion[mMotionCount * 2 + 1] = dy;
+        mMotionCount++;
     }
 
     /**
@@ -338,7 +565,7 @@ public final class DefaultInputManager implements InputManager {
             if (!listener.onMouseButtonUp(mCursorX, mCursorY, button))
                 break;
         }
-        mButton[button.ordinal()] = false;
+        onRelease(mButton, mButtonReleased, button.ordinal());
     }
 
     /**
@@ -352,7 +579,7 @@ public final class DefaultInputManager implements InputManager {
             if (!listener.onMouseButtonDown(mCursorX, mCursorY, button))
                 break;
         }
-        mButton[button.ordinal()] = true;
+        onPress(mButton, mButtonPressed, button.ordinal());
     }
 
     /**
@@ -366,5 +593,33 @@ public final class DefaultInputManager implements InputManager {
             if (!listener.onMouseWheel(mCursorX, mCursorY, delta))
                 break;
         }
+        mWheel += delta;
+    }
+
+    /**
+     * <p>Set the given bit, and its pressed edge if it wasn't set (repeat(s) are ignored)</p>
+     */
+    private static void onPress(long[] bitset, long[] pressed, int index) {
+        final long mask = 1L << index;
+
+        pressed[index >>> 6] |= ~bitset[index >>> 6] & mask;
+        bitset[index >>> 6] |= mask;
+    }
+
+    /**
+     * <p>Clear the given bit, and set its released edge if it was set</p>
+     */
+    private static void onRelease(long[] bitset, long[] released, int index) {
+        final long mask = 1L << index;
+
+        released[index >>> 6] |= bitset[index >>> 6] & mask;
+        bitset[index >>> 6] &= ~mask;
+    }
+
+    /**
+     * <p>Check if the given bit is set</p>
+     */
+    private static boolean isSet(long[] bitset, int index) {
+        return (bitset[index >>> 6] & (1L << index)) != 0L;
     }
 }
@@ -17,23 +17,23 @@
  */
 package ar.com.quark.input;
 
-import ar.com.quark.system.utility.array.Int32Array;
-
 /**
  * <code>Input</code> encapsulate an input-device to interface with <code>InputManager</code>.
  */
 public interface Input {
     /**
      * <p>Create and initialise the device</p>
+     *
+     * @param queue the queue where every event of the device is pushed (the device is its only producer)
      */
-    void create();
+    void create(InputEventQueue queue);
 
     /**
      * <p>Update and poll all input event(s) from the device</p>
-     *
-     * @param buffer the buffer that will contain the input when updating
+     * <p>
+     * NOTE: Called from the consumer of the queue, before draining it.
      */
-    void update(Int32Array buffer);
+    void update();
 
     /**
      * <p>Destroy the device</p>
@@ -0,0 +1,130 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.input;
+
+import ar.com.quark.input.device.InputKey;
+import ar.com.quark.input.device.InputMouseButton;
+
+/**
+ * <code>InputAction</code> encapsulate an (immutable) action bound to a set of {@link InputKey} and
+ * {@link InputMouseButton}, resolved into bit mask(s) so that it can be queried against an {@link InputSnapshot}
+ * without iterating over its binding(s).
+ * <p>
+ * An action is down when any of its binding(s) is down.
+ */
+public final class InputAction {
+    /**
+     * Encapsulate the number of word(s) required for every {@link InputKey}.
+     */
+    final static int KEY_WORDS = (InputKey.VALUES.length + 63) >>> 6;
+
+    /**
+     * Encapsulate the number of word(s) required for every {@link InputMouseButton}.
+     */
+    final static int BUTTON_WORDS = (InputMouseButton.VALUES.length + 63) >>> 6;
+
+    private final String mName;
+    private final long[] mKeyMask = new long[KEY_WORDS];
+    private final long[] mButtonMask = new long[BUTTON_WORDS];
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param name the name of the action
+     * @param keys every key bound to the action
+     */
+    public InputAction(String name, InputKey... keys) {
+        this(name, keys, new InputMouseButton[0]);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param name    the name of the action
+     * @param keys    every key bound to the action
+     * @param buttons every button bound to the action
+     */
+    public InputAction(String name, InputKey[] keys, InputMouseButton[] buttons) {
+        mName = name;
+
+        for (final InputKey key : keys) {
+            mKeyMask[key.ordinal() >>> 6] |= 1L << key.ordinal();
+        }
+        for (final InputMouseButton button : buttons) {
+            mButtonMask[button.ordinal() >>> 6] |= 1L << button.ordinal();
+        }
+    }
+
+    /**
+     * <p>Get the name of the action</p>
+     *
+     * @return the name of the action
+     */
+    public String getName() {
+        return mName;
+    }
+
+    /**
+     * <p>Create a copy of the action bound to the given key(s) and button(s)</p>
+     *
+     * @param keys    every key bound to the action
+     * @param buttons every button bound to the action
+     *
+     * @return the action bound to the given key(s) and button(s)
+     */
+    public InputAction rebind(InputKey[] keys, InputMouseButton[] buttons) {
+        return new InputAction(mName, keys, buttons);
+    }
+
+    /**
+     * <p>Check if the action is bound to the given key</p>
+     *
+     * @param key the key
+     *
+     * @return <code>true</code> if the action is bound to the key, <code>false</code> otherwise
+     */
+    public boolean isBound(InputKey key) {
+        return (mKeyMask[key.ordinal() >>> 6] & (1L << key.ordinal())) != 0L;
+    }
+
+    /**
+     * <p>Check if the action is bound to the given button</p>
+     *
+     * @param button the button
+     *
+     * @return <code>true</code> if the action is bound to the button, <code>false</code> otherwise
+     */
+    public boolean isBound(InputMouseButton button) {
+        return (mButtonMask[button.ordinal() >>> 6] & (1L << button.ordinal())) != 0L;
+    }
+
+    /**
+     * <p>Check if any binding of the action is set in the given bitset(s)</p>
+     */
+    boolean isSet(long[] keys, long[] buttons) {
+        long result = 0L;
+
+        for (int i = 0; i < KEY_WORDS; ++i) {
+            result |= keys[i] & mKeyMask[i];
+        }
+        for (int i = 0; i < BUTTON_WORDS; ++i) {
+            result |= buttons[i] & mButtonMask[i];
+        }
+        return result != 0L;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.input;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <code>InputEventQueue</code> encapsulate a lock-free ring of input event(s), with a single producer (the thread
+ * where the device(s) receive event(s)) and a single consumer (the thread that update(s) the {@link InputManager}).
+ * <p>
+ * Every event is a fixed-size record made of a type, two argument(s) and the time (in nanosecond) when it was
+ * pushed. When the ring is full, new event(s) are dropped (and counted) instead of blocking the producer.
+ */
+public final class InputEventQueue {
+    /**
+     * <code>Handler</code> encapsulate the receiver of every event drained.
+     */
+    public interface Handler {
+        /**
+         * <p>Called for every event drained</p>
+         *
+         * @param type   the type of the event
+         * @param first  the first argument of the event
+         * @param second the second argument of the event
+         * @param time   the time (in nanosecond) of the event
+         */
+        void onEvent(int type, int first, int second, long time);
+    }
+
+    private final int[] mType;
+    private final int[] mFirst;
+    private final int[] mSecond;
+    private final long[] mTime;
+    private final int mMask;
+
+    /**
+     * NOTE: Written only by the consumer.
+     */
+    private final AtomicLong mHead = new AtomicLong(0L);
+
+    /**
+     * NOTE: Written only by the producer.
+     */
+    private final AtomicLong mTail = new AtomicLong(0L);
+
+    private volatile long mDropped = 0L;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param capacity the maximum number of event(s) (rounded up to a power of two)
+     */
+    public InputEventQueue(int capacity) {
+        int size = 1;
+
+        while (size < capacity) {
+            size <<= 1;
+        }
+        mType = new int[size];
+        mFirst = new int[size];
+        mSecond = new int[size];
+        mTime = new long[size];
+        mMask = size - 1;
+    }
+
+    /**
+     * <p>Push an event, using the current time</p>
+     * <p>
+     * NOTE: Must be called only from the producer.
+     *
+     * @param type   the type of the event
+     * @param first  the first argument of the event
+     * @param second the second argument of the event
+     *
+     * @return <code>true</code> if the event was pushed, <code>false</code> if the queue is full
+     */
+    public boolean push(int type, int first, int second) {
+        return push(type, first, second, System.nanoTime());
+    }
+
+    /**
+     * <p>Push an event</p>
+     * <p>
+     * NOTE: Must be called only from the producer.
+     *
+     * @param type   the type of the event
+     * @param first  the first argument of the event
+     * @param second the second argument of the event
+     * @param time   the time (in nanosecond) of the event
+     *
+     * @return <code>true</code> if the event was pushed, <code>false</code> if the queue is full
+     */
+    public boolean push(int type, int first, int second, long time) {
+        final long tail = mTail.get();
+
+        if (tail - mHead.get() > mMask) {
+            mDropped = mDropped + 1;
+            return false;
+        }
+        final int index = (int) (tail & mMask);
+
+        mType[index] = type;
+        mFirst[index] = first;
+        mSecond[index] = second;
+        mTime[index] = time;
+
+        //!
+        //! NOTE: Publish the record to the consumer.
+        //!
+        mTail.set(tail + 1L);
+        return true;
+    }
+
+    /**
+     * <p>Drain every event pushed (until now) in order</p>
+     * <p>
+     * NOTE: Must be called only from the consumer.
+     *
+     * @param handler the handler of every event
+     *
+     * @return the number of event(s) drained
+     */
+    public int drain(Handler handler) {
+        final long head = mHead.get();
+        final long tail = mTail.get();
+
+        for (long i = head; i < tail; ++i) {
+            final int index = (int) (i & mMask);
+
+            handler.onEvent(mType[index], mFirst[index], mSecond[index], mTime[index]);
+        }
+
+        //!
+        //! NOTE: Release the record(s) to the producer.
+        //!
+        mHead.set(tail);
+
+        return (int) (tail - head);
+    }
+
+    /**
+     * <p>Check if there isn't any event</p>
+     *
+     * @return <code>true</code> if there isn't any event, <code>false</code> otherwise
+     */
+    public boolean isEmpty() {
+        return mHead.get() == mTail.get();
+    }
+
+    /**
+     * <p>Get the number of event(s) pending</p>
+     *
+     * @return the number of event(s) pending
+     */
+    public int getSize() {
+        return (int) (mTail.get() - mHead.get());
+    }
+
+    /**
+     * <p>Get the maximum number of event(s)</p>
+     *
+     * @return the maximum number of event(s)
+     */
+    public int getCapacity() {
+        return mMask + 1;
+    }
+
+    /**
+     * <p>Get the number of event(s) dropped because the queue was full</p>
+     *
+     * @return the number of event(s) dropped
+     */
+    public long getDropped() {
+        return mDropped;
+    }
+}
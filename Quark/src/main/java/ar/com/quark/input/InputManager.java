@@ -132,6 +132,15 @@ public interface InputManager {
         invoke(event);
     }
 
+    /**
+     * <p>Get the time of the event being processed (or the last one processed)</p>
+     * <p>
+     * NOTE: Useful for measuring the latency of an event from an {@link InputListener}.
+     *
+     * @return the time (in nanosecond, as given by {@link System#nanoTime()}) of the event
+     */
+    long getEventTime();
+
     /**
      * <p>Register an {@link InputListener}</p>
      *
@@ -167,6 +176,65 @@ public interface InputManager {
      */
     void setCursorPosition(int x, int y);
 
+    /**
+     * <p>Change whether consecutive {@link InputMouse#EVENT_MOVE} event(s) of an update are coalesced into one</p>
+     * <p>
+     * NOTE: The delta of the coalesced event is the sum of the delta of every event.
+     *
+     * @param activate <code>true</code> to coalesce move event(s), <code>false</code> otherwise
+     */
+    void setMoveCoalescing(boolean activate);
+
+    /**
+     * <p>Change whether the mouse report(s) raw motion</p>
+     *
+     * @param activate <code>true</code> to report raw motion, <code>false</code> otherwise
+     *
+     * @return <code>true</code> if raw motion is supported, <code>false</code> otherwise
+     *
+     * @see InputMouse#setRawMotion(boolean)
+     */
+    boolean setRawMotion(boolean activate);
+
+    /**
+     * <p>Get every raw motion of the last update, packed as pair(s) of delta (dx0, dy0, dx1, dy1, ...)</p>
+     * <p>
+     * NOTE: The array is reused between update(s), only the first <code>getMotionCount() * 2</code> element(s)
+     * are valid.
+     *
+     * @return every raw motion of the last update
+     */
+    float[] getMotion();
+
+    /**
+     * <p>Get the number of raw motion(s) of the last update</p>
+     *
+     * @return the number of raw motion(s) of the last update
+     */
+    int getMotionCount();
+
+    /**
+     * <p>Get the (immutable) snapshot of every device at the end of the last update</p>
+     * <p>
+     * NOTE: Prefer the snapshot over {@link #isKeyDown(InputKey)} and the like, given it is consistent for the
+     * whole frame and provide(s) the edge(s) and delta(s) of the update.
+     *
+     * @return the snapshot of the last update
+     */
+    InputSnapshot getSnapshot();
+
+    /**
+     * <p>Change the recorder of the event stream</p>
+     * <p>
+     * NOTE: Must be called from the thread that update(s) the module. The previous recorder (if any) is closed,
+     * as well as the recorder when the module is destroyed.
+     *
+     * @param recorder the recorder of every event received from the device(s) (<code>null</code> to stop)
+     *
+     * @see InputReplay
+     */
+    void setRecorder(InputRecorder recorder);
+
     /**
      * <p>Get the x coordinate (in screen coordinates) of the cursor</p>
      *
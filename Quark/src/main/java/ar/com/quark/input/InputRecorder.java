@@ -0,0 +1,131 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.input;
+
+import java.io.*;
+
+/**
+ * <code>InputRecorder</code> encapsulate a writer of the event stream of an {@link InputManager}, so that it can be
+ * played back through {@link InputReplay}.
+ * <p>
+ * The stream starts with a header ({@link #MAGIC} and {@link #VERSION}) followed by every event as a record made of
+ * the delta of the frame (varint, the frame of the first event being <code>1</code>), the delta of the update
+ * (varint, the update of the first event being <code>1</code>), the type (byte), both argument(s) (int) and the
+ * delta of the time (varint, in nanosecond), relative to the previous event.
+ * <p>
+ * NOTE: The update of an event is the first update that observe(s) it, given a frame may run any number of update(s)
+ * (e.g a fixed loop catching up), therefore it's played back on the same update regardless of the frame(s).
+ */
+public final class InputRecorder implements Closeable {
+    /**
+     * Encapsulate the magic number of the stream ("QKIR").
+     */
+    public final static int MAGIC = 0x514B4952;
+
+    /**
+     * Encapsulate the version of the stream.
+     */
+    public final static int VERSION = 2;
+
+    private final DataOutputStream mStream;
+    private long mFrame = 0L;
+    private long mUpdate = 0L;
+    private long mTime = Long.MIN_VALUE;
+    private long mCount = 0L;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param stream the stream where every event is written (owned by the recorder)
+     */
+    public InputRecorder(OutputStream stream) {
+        mStream = new DataOutputStream(new BufferedOutputStream(stream));
+
+        try {
+            mStream.writeInt(MAGIC);
+            mStream.writeByte(VERSION);
+        } catch (IOException exception) {
+            throw new IllegalStateException("Cannot write the header of the stream", exception);
+        }
+    }
+
+    /**
+     * <p>Record an event</p>
+     * <p>
+     * NOTE: Must be called from the consumer of the event(s), in order.
+     *
+     * @param frame  the index of the frame of the event
+     * @param update the index of the first update that observe(s) the event
+     * @param type   the type of the event
+     * @param first  the first argument of the event
+     * @param second the second argument of the event
+     * @param time   the time (in nanosecond) of the event
+     */
+    public void record(long frame, long update, int type, int first, int second, long time) {
+        //!
+        //! NOTE: The frame (and update) of the first event recorded is the first frame (and update) of the stream.
+        //!
+        if (mCount == 0L) {
+            mFrame = frame - 1L;
+            mUpdate = update - 1L;
+        }
+
+        try {
+            onWriteVarint(frame - mFrame);
+            onWriteVarint(Math.max(0L, update - mUpdate));
+            mStream.writeByte(type);
+            mStream.writeInt(first);
+            mStream.writeInt(second);
+            onWriteVarint(mTime == Long.MIN_VALUE ? 0L : Math.max(0L, time - mTime));
+        } catch (IOException exception) {
+            throw new IllegalStateException("Cannot write an event of the stream", exception);
+        }
+        mFrame = frame;
+        mUpdate = Math.max(mUpdate, update);
+        mTime = time;
+        mCount++;
+    }
+
+    /**
+     * <p>Get the number of event(s) recorded</p>
+     *
+     * @return the number of event(s) recorded
+     */
+    public long getCount() {
+        return mCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        mStream.close();
+    }
+
+    /**
+     * <p>Write an unsigned variable-length integer</p>
+     */
+    private void onWriteVarint(long value) throws IOException {
+        while ((value & ~0x7FL) != 0L) {
+            mStream.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        mStream.writeByte((int) value);
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.input;
+
+import ar.com.quark.input.device.InputKeyboard;
+import ar.com.quark.input.device.InputMouse;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * <code>InputReplay</code> encapsulate a player of an event stream written by {@link InputRecorder}.
+ * <p>
+ * The replay provide(s) an {@link InputKeyboard} and an {@link InputMouse} that feed every event back update by
+ * update (the event(s) of an update are pushed on the update of the keyboard, which is updated first), therefore the
+ * {@link InputManager} observes the same event(s) on the same update(s) as when it was recorded.
+ * <p>
+ * NOTE: Every frame of the playback must run a single update (e.g a benchmark), so that every recorded update is
+ * played on its own frame regardless of the number of update(s) of each recorded frame.
+ */
+public final class InputReplay {
+    private int[] mType = new int[256];
+    private int[] mFirst = new int[256];
+    private int[] mSecond = new int[256];
+    private long[] mTime = new long[256];
+    private long[] mFrame = new long[256];
+    private long[] mUpdate = new long[256];
+    private int mCount = 0;
+
+    private final Keyboard mKeyboard = new Keyboard();
+    private final Mouse mMouse = new Mouse();
+
+    private InputEventQueue mQueue;
+    private long mBase;
+    private long mCurrent = 0L;
+    private int mIndex = 0;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param stream the stream to read every event from (read entirely and closed)
+     */
+    public InputReplay(InputStream stream) {
+        try (final DataInputStream input = new DataInputStream(new BufferedInputStream(stream))) {
+            if (input.readInt() != InputRecorder.MAGIC) {
+                throw new IllegalArgumentException("The stream is not an input record");
+            }
+            final int version = input.readUnsignedByte();
+
+            if (version != InputRecorder.VERSION) {
+                throw new IllegalArgumentException("The version of the stream (" + version + ") isn't supported");
+            }
+            onRead(input);
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Cannot read the stream", exception);
+        }
+    }
+
+    /**
+     * <p>Get the keyboard device of the replay</p>
+     *
+     * @return the keyboard device of the replay
+     */
+    public InputKeyboard getKeyboard() {
+        return mKeyboard;
+    }
+
+    /**
+     * <p>Get the mouse device of the replay</p>
+     *
+     * @return the mouse device of the replay
+     */
+    public InputMouse getMouse() {
+        return mMouse;
+    }
+
+    /**
+     * <p>Get the number of event(s) of the replay</p>
+     *
+     * @return the number of event(s) of the replay
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * <p>Get the number of frame(s) of the replay</p>
+     *
+     * @return the number of frame(s) of the replay
+     */
+    public long getFrameCount() {
+        return mCount == 0 ? 0L : mFrame[mCount - 1];
+    }
+
+    /**
+     * <p>Get the number of update(s) of the replay</p>
+     *
+     * @return the number of update(s) of the replay
+     */
+    public long getUpdateCount() {
+        return mCount == 0 ? 0L : mUpdate[mCount - 1];
+    }
+
+    /**
+     * <p>Get the index of the update being played</p>
+     *
+     * @return the index of the update being played
+     */
+    public long getUpdate() {
+        return mCurrent;
+    }
+
+    /**
+     * <p>Check if every event has been played</p>
+     *
+     * @return <code>true</code> if every event has been played, <code>false</code> otherwise
+     */
+    public boolean isFinished() {
+        return mIndex >= mCount;
+    }
+
+    /**
+     * <p>Read every event of the stream</p>
+     */
+    private void onRead(DataInputStream input) throws IOException {
+        long frame = 0L;
+        long update = 0L;
+        long time = 0L;
+
+        while (true) {
+            final int head = input.read();
+
+            if (head < 0) {
+                break;
+            }
+            frame += onReadVarint(input, head);
+            update += onReadVarint(input, input.readUnsignedByte());
+
+            final int type = input.readUnsignedByte();
+            final int first = input.readInt();
+            final int second = input.readInt();
+
+            time += onReadVarint(input, input.readUnsignedByte());
+
+            if (mCount == mType.length) {
+                final int capacity = mCount * 2;
+
+                mType = Arrays.copyOf(mType, capacity);
+                mFirst = Arrays.copyOf(mFirst, capacity);
+                mSecond = Arrays.copyOf(mSecond, capacity);
+                mTime = Arrays.copyOf(mTime, capacity);
+                mFrame = Arrays.copyOf(mFrame, capacity);
+                mUpdate = Arrays.copyOf(mUpdate, capacity);
+            }
+            mType[mCount] = type;
+            mFirst[mCount] = first;
+            mSecond[mCount] = second;
+            mTime[mCount] = time;
+            mFrame[mCount] = frame;
+            mUpdate[mCount] = update;
+            mCount++;
+        }
+    }
+
+    /**
+     * <p>Read an unsigned variable-length integer, given its first byte</p>
+     */
+    private static long onReadVarint(DataInputStream input, int head) throws IOException {
+        long value = head & 0x7F;
+
+        for (int shift = 7; (head & 0x80) != 0; shift += 7) {
+            head = input.readUnsignedByte();
+            value |= (long) (head & 0x7F) << shift;
+        }
+        return value;
+    }
+
+    /**
+     * <p>Push every event of the next update</p>
+     */
+    private void onUpdate() {
+        mCurrent++;
+
+        //!
+        //! NOTE: The time of every event is relative to the beginning of the replay.
+        //!
+        while (mIndex < mCount && mUpdate[mIndex] <= mCurrent) {
+            mQueue.push(mType[mIndex], mFirst[mIndex], mSecond[mIndex], mBase + mTime[mIndex]);
+            mIndex++;
+        }
+    }
+
+    /**
+     * Implementation for {@link InputKeyboard}.
+     */
+    private final class Keyboard implements InputKeyboard {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void create(InputEventQueue queue) {
+            mQueue = queue;
+            mBase = System.nanoTime();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void update() {
+            onUpdate();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void destroy() {
+        }
+    }
+
+    /**
+     * Implementation for {@link InputMouse}.
+     * <p>
+     * NOTE: Every request is ignored, given its outcome (if any) is part of the stream.
+     */
+    private final class Mouse implements InputMouse {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void create(InputEventQueue queue) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void update() {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void destroy() {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setCursorMode(boolean activate) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void setCursorPosition(int x, int y) {
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean setRawMotion(boolean activate) {
+            return true;
+        }
+    }
+}
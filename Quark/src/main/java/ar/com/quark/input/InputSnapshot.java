@@ -0,0 +1,234 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.input;
+
+import ar.com.quark.input.device.InputKey;
+import ar.com.quark.input.device.InputMouseButton;
+
+/**
+ * <code>InputSnapshot</code> encapsulate the (immutable) state of every device at the end of an update.
+ * <p>
+ * Every key and button is stored as a bit, together with the bit(s) of every key and button pressed or
+ * released during the update (both can be set when it was pressed and released within the same update),
+ * therefore every query is consistent for the whole frame and can be made from any thread.
+ */
+public final class InputSnapshot {
+    /**
+     * Encapsulate the snapshot before any update.
+     */
+    public final static InputSnapshot EMPTY = new InputSnapshot(0L,
+            new long[InputAction.KEY_WORDS], new long[InputAction.KEY_WORDS], new long[InputAction.KEY_WORDS],
+            new long[InputAction.BUTTON_WORDS], new long[InputAction.BUTTON_WORDS], new long[InputAction.BUTTON_WORDS],
+            0, 0, 0, 0, 0);
+
+    private final long mFrame;
+    private final long[] mKeyDown;
+    private final long[] mKeyPressed;
+    private final long[] mKeyReleased;
+    private final long[] mButtonDown;
+    private final long[] mButtonPressed;
+    private final long[] mButtonReleased;
+    private final int mCursorX;
+    private final int mCursorY;
+    private final int mCursorDeltaX;
+    private final int mCursorDeltaY;
+    private final int mWheel;
+
+    /**
+     * <p>Constructor</p>
+     * <p>
+     * NOTE: Every array is owned by the snapshot.
+     */
+    InputSnapshot(long frame,
+            long[] keyDown, long[] keyPressed, long[] keyReleased,
+            long[] buttonDown, long[] buttonPressed, long[] buttonReleased,
+            int cursorX, int cursorY, int cursorDeltaX, int cursorDeltaY, int wheel) {
+        mFrame = frame;
+        mKeyDown = keyDown;
+        mKeyPressed = keyPressed;
+        mKeyReleased = keyReleased;
+        mButtonDown = buttonDown;
+        mButtonPressed = buttonPressed;
+        mButtonReleased = buttonReleased;
+        mCursorX = cursorX;
+        mCursorY = cursorY;
+        mCursorDeltaX = cursorDeltaX;
+        mCursorDeltaY = cursorDeltaY;
+        mWheel = wheel;
+    }
+
+    /**
+     * <p>Get the number of the update of the snapshot</p>
+     *
+     * @return the number of the update of the snapshot
+     */
+    public long getFrame() {
+        return mFrame;
+    }
+
+    /**
+     * <p>Check if the given {@link InputKey} is being hold down</p>
+     *
+     * @param key the key
+     *
+     * @return <code>true</code> if the key is being hold down, <code>false</code> otherwise
+     */
+    public boolean isKeyDown(InputKey key) {
+        return isSet(mKeyDown, key.ordinal());
+    }
+
+    /**
+     * <p>Check if the given {@link InputKey} has been pressed during the update</p>
+     *
+     * @param key the key
+     *
+     * @return <code>true</code> if the key has been pressed, <code>false</code> otherwise
+     */
+    public boolean wasKeyPressed(InputKey key) {
+        return isSet(mKeyPressed, key.ordinal());
+    }
+
+    /**
+     * <p>Check if the given {@link InputKey} has been released during the update</p>
+     *
+     * @param key the key
+     *
+     * @return <code>true</code> if the key has been released, <code>false</code> otherwise
+     */
+    public boolean wasKeyReleased(InputKey key) {
+        return isSet(mKeyReleased, key.ordinal());
+    }
+
+    /**
+     * <p>Check if the given {@link InputMouseButton} is being hold down</p>
+     *
+     * @param button the button
+     *
+     * @return <code>true</code> if the button is being hold down, <code>false</code> otherwise
+     */
+    public boolean isButtonDown(InputMouseButton button) {
+        return isSet(mButtonDown, button.ordinal());
+    }
+
+    /**
+     * <p>Check if the given {@link InputMouseButton} has been pressed during the update</p>
+     *
+     * @param button the button
+     *
+     * @return <code>true</code> if the button has been pressed, <code>false</code> otherwise
+     */
+    public boolean wasButtonPressed(InputMouseButton button) {
+        return isSet(mButtonPressed, button.ordinal());
+    }
+
+    /**
+     * <p>Check if the given {@link InputMouseButton} has been released during the update</p>
+     *
+     * @param button the button
+     *
+     * @return <code>true</code> if the button has been released, <code>false</code> otherwise
+     */
+    public boolean wasButtonReleased(InputMouseButton button) {
+        return isSet(mButtonReleased, button.ordinal());
+    }
+
+    /**
+     * <p>Check if the given {@link InputAction} is being hold down</p>
+     *
+     * @param action the action
+     *
+     * @return <code>true</code> if any binding of the action is being hold down, <code>false</code> otherwise
+     */
+    public boolean isActionDown(InputAction action) {
+        return action.isSet(mKeyDown, mButtonDown);
+    }
+
+    /**
+     * <p>Check if the given {@link InputAction} has been pressed during the update</p>
+     *
+     * @param action the action
+     *
+     * @return <code>true</code> if any binding of the action has been pressed, <code>false</code> otherwise
+     */
+    public boolean wasActionPressed(InputAction action) {
+        return action.isSet(mKeyPressed, mButtonPressed);
+    }
+
+    /**
+     * <p>Check if the given {@link InputAction} has been released during the update</p>
+     *
+     * @param action the action
+     *
+     * @return <code>true</code> if any binding of the action has been released, <code>false</code> otherwise
+     */
+    public boolean wasActionReleased(InputAction action) {
+        return action.isSet(mKeyReleased, mButtonReleased);
+    }
+
+    /**
+     * <p>Get the x coordinate (in screen coordinates) of the cursor</p>
+     *
+     * @return the x coordinate (in screen coordinates) of the cursor
+     */
+    public int getCursorX() {
+        return mCursorX;
+    }
+
+    /**
+     * <p>Get the y coordinate (in screen coordinates) of the cursor</p>
+     *
+     * @return the y coordinate (in screen coordinates) of the cursor
+     */
+    public int getCursorY() {
+        return mCursorY;
+    }
+
+    /**
+     * <p>Get the movement of the cursor in the x axis during the update</p>
+     *
+     * @return the movement (in screen coordinates) of the cursor in the x axis
+     */
+    public int getCursorDeltaX() {
+        return mCursorDeltaX;
+    }
+
+    /**
+     * <p>Get the movement of the cursor in the y axis during the update</p>
+     *
+     * @return the movement (in screen coordinates) of the cursor in the y axis
+     */
+    public int getCursorDeltaY() {
+        return mCursorDeltaY;
+    }
+
+    /**
+     * <p>Get the movement of the wheel during the update</p>
+     *
+     * @return the movement of the wheel (positive means up, negative means down)
+     */
+    public int getWheelDelta() {
+        return mWheel;
+    }
+
+    /**
+     * <p>Check if the given bit is set</p>
+     */
+    private static boolean isSet(long[] bitset, int index) {
+        return (bitset[index >>> 6] & (1L << index)) != 0L;
+    }
+}
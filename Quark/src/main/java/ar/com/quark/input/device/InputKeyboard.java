@@ -18,7 +18,7 @@
 package ar.com.quark.input.device;
 
 import ar.com.quark.input.Input;
-import ar.com.quark.system.utility.array.Int32Array;
+import ar.com.quark.input.InputEventQueue;
 
 /**
  * <code>InputKeyboard</code> encapsulate an {@link Input} for handling keyboard based device(s).
@@ -44,8 +44,8 @@ public interface InputKeyboard extends Input {
      *
      * @see #EVENT_KEY_UP
      */
-    static void onFactoryKeyUp(Int32Array buffer, InputKey key) {
-        buffer.write(EVENT_KEY_UP).write(key.ordinal());
+    static void onFactoryKeyUp(InputEventQueue queue, InputKey key) {
+        queue.push(EVENT_KEY_UP, key.ordinal(), 0);
     }
 
     /**
@@ -53,8 +53,8 @@ public interface InputKeyboard extends Input {
      *
      * @see #EVENT_KEY_DOWN
      */
-    static void onFactoryKeyDown(Int32Array buffer, InputKey key) {
-        buffer.write(EVENT_KEY_DOWN).write(key.ordinal());
+    static void onFactoryKeyDown(InputEventQueue queue, InputKey key) {
+        queue.push(EVENT_KEY_DOWN, key.ordinal(), 0);
     }
 
     /**
@@ -62,7 +62,7 @@ public interface InputKeyboard extends Input {
      *
      * @see #EVENT_KEY_TYPE
      */
-    static void onFactoryKeyType(Int32Array buffer, char key) {
-        buffer.write(EVENT_KEY_TYPE).write(key);
+    static void onFactoryKeyType(InputEventQueue queue, char key) {
+        queue.push(EVENT_KEY_TYPE, key, 0);
     }
 }
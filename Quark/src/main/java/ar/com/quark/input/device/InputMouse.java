@@ -18,7 +18,7 @@
 package ar.com.quark.input.device;
 
 import ar.com.quark.input.Input;
-import ar.com.quark.system.utility.array.Int32Array;
+import ar.com.quark.input.InputEventQueue;
 
 /**
  * <code>InputMouse</code> encapsulate an {@link Input} for handling mouse based device(s).
@@ -44,6 +44,11 @@ public interface InputMouse extends Input {
      */
     int EVENT_WHEEL = EVENT_BUTTON_DOWN + 0x01;
 
+    /**
+     * Encapsulate the unique identifier for the (raw) motion event.
+     */
+    int EVENT_MOTION = EVENT_WHEEL + 0x01;
+
     /**
      * <p>Change the mode of the cursor</p>
      * <p>
@@ -61,13 +66,25 @@ public interface InputMouse extends Input {
      */
     void setCursorPosition(int x, int y);
 
+    /**
+     * <p>Change whether the device report(s) raw motion</p>
+     * <p>
+     * NOTE: Raw motion is reported as sub-pixel delta(s) (without being quantized into screen coordinates),
+     * as {@link #EVENT_MOTION} in addition to {@link #EVENT_MOVE}, and is only available in cursor mode.
+     *
+     * @param activate <code>true</code> to report raw motion, <code>false</code> otherwise
+     *
+     * @return <code>true</code> if raw motion is supported by the device, <code>false</code> otherwise
+     */
+    boolean setRawMotion(boolean activate);
+
     /**
      * <p>Queue a mouse move event</p>
      *
      * @see #EVENT_MOVE
      */
-    static void onFactoryMove(Int32Array buffer, int x, int y) {
-        buffer.write(EVENT_MOVE).write(x).write(y);
+    static void onFactoryMove(InputEventQueue queue, int x, int y) {
+        queue.push(EVENT_MOVE, x, y);
     }
 
     /**
@@ -75,8 +92,8 @@ public interface InputMouse extends Input {
      *
      * @see #EVENT_BUTTON_UP
      */
-    static void onFactoryButtonUp(Int32Array buffer, InputMouseButton button) {
-        buffer.write(EVENT_BUTTON_UP).write(button.ordinal());
+    static void onFactoryButtonUp(InputEventQueue queue, InputMouseButton button) {
+        queue.push(EVENT_BUTTON_UP, button.ordinal(), 0);
     }
 
     /**
@@ -84,8 +101,8 @@ public interface InputMouse extends Input {
      *
      * @see #EVENT_BUTTON_DOWN
      */
-    static void onFactoryButtonDown(Int32Array buffer, InputMouseButton button) {
-        buffer.write(EVENT_BUTTON_DOWN).write(button.ordinal());
+    static void onFactoryButtonDown(InputEventQueue queue, InputMouseButton button) {
+        queue.push(EVENT_BUTTON_DOWN, button.ordinal(), 0);
     }
 
     /**
@@ -93,7 +110,16 @@ public interface InputMouse extends Input {
      *
      * @see #EVENT_WHEEL
      */
-    static void onFactoryWheel(Int32Array buffer, int delta) {
-        buffer.write(EVENT_WHEEL).write(delta);
+    static void onFactoryWheel(InputEventQueue queue, int delta) {
+        queue.push(EVENT_WHEEL, delta, 0);
+    }
+
+    /**
+     * <p>Queue a mouse (raw) motion event</p>
+     *
+     * @see #EVENT_MOTION
+     */
+    static void onFactoryMotion(InputEventQueue queue, float dx, float dy) {
+        queue.push(EVENT_MOTION, Float.floatToIntBits(dx), Float.floatToIntBits(dy));
     }
 }
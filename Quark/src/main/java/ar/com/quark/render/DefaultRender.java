@@ -37,12 +37,24 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingDeque;
+import java.util.function.LongSupplier;
 
 /**
  * <b>Default</b> implementation for {@link Render}.
  */
 public final class DefaultRender implements Render {
+    /**
+     * Encapsulate the default maximum time (in nanosecond) spent uploading per frame.
+     */
+    private final static long DEFAULT_UPLOAD_TIME = 2000000L;
+
+    /**
+     * Encapsulate the default maximum number of byte(s) uploaded per frame.
+     */
+    private final static long DEFAULT_UPLOAD_SIZE = 16L * 1024L * 1024L;
+
     /**
      * Hold {@link GLES32} context.
      */
@@ -68,6 +80,13 @@ public final class DefaultRender implements Render {
      */
     private final Queue<Manageable> mManageable = new LinkedBlockingDeque<>();
 
+    /**
+     * Hold all upload(s) pending.
+     */
+    private final Queue<LongSupplier> mUploads = new ConcurrentLinkedQueue<>();
+    private volatile long mUploadTime = DEFAULT_UPLOAD_TIME;
+    private volatile long mUploadSize = DEFAULT_UPLOAD_SIZE;
+
     /**
      * Hold all emulated feature(s).
      */
@@ -122,6 +141,28 @@ public final class DefaultRender implements Render {
             //!
             mManageable.poll().delete();
         }
+
+        //!
+        //! Upload as much as the budget of the frame allow.
+        //!
+        onUpdateUploads();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void upload(LongSupplier task) {
+        mUploads.add(task);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setUploadBudget(double time, long size) {
+        mUploadTime = (long) (time * 1.0E9);
+        mUploadSize = size;
     }
 
     /**
@@ -957,6 +998,79 @@ public final class DefaultRender implements Render {
         mGL.glDrawElements(primitive.eValue, count, format.eValue, offset);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void feedback(Primitive primitive, int offset, int count, Storage<?> storage) {
+        if (!hasExtension(RenderCapabilities.Extension.TRANSFORM_FEEDBACK)) {
+            throw new IllegalStateException("Transform feedback is not supported");
+        }
+
+        //!
+        //! NOTE: Binding the indexed target also binds the generic target.
+        //!
+        mGL.glBindBufferBase(GLES3.GL_TRANSFORM_FEEDBACK_BUFFER, 0,
+                mStorage[StorageTarget.TRANSFORM_FEEDBACK.ordinal()] = storage.getHandle());
+
+        mGL.glEnable(GLES3.GL_RASTERIZER_DISCARD);
+        mGL.glBeginTransformFeedback(primitive.eValue);
+        {
+            mGL.glDrawArrays(primitive.eValue, offset, count);
+        }
+        mGL.glEndTransformFeedback();
+        mGL.glDisable(GLES3.GL_RASTERIZER_DISCARD);
+
+        mGL.glBindBufferBase(GLES3.GL_TRANSFORM_FEEDBACK_BUFFER, 0,
+                mStorage[StorageTarget.TRANSFORM_FEEDBACK.ordinal()] = Manageable.INVALID_HANDLE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int x, int y, int width, int height, Int8Array data) {
+        mGL.glReadPixels(x, y, width, height, GLES2.GL_RGBA, GLES2.GL_UNSIGNED_BYTE, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void read(int x, int y, int width, int height, Storage<?> storage) {
+        if (!hasExtension(RenderCapabilities.Extension.PIXEL_BUFFER)) {
+            throw new IllegalStateException("Pixel buffer is not supported");
+        }
+        acquire(storage);
+
+        mGL.glReadPixels(x, y, width, height, GLES2.GL_RGBA, GLES2.GL_UNSIGNED_BYTE, 0);
+
+        //!
+        //! NOTE: Any read of pixel(s) with the target bound expects an offset instead of an array.
+        //!
+        release(storage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void blit(Frame frame, int x, int y, int width, int height) {
+        if (!hasExtension(RenderCapabilities.Extension.FRAME_BUFFER_BLIT)) {
+            throw new IllegalStateException("Frame blit is not supported");
+        }
+        mGL.glBindFramebuffer(GLES3.GL_READ_FRAMEBUFFER, frame.getHandle());
+        mGL.glBindFramebuffer(GLES3.GL_DRAW_FRAMEBUFFER, mFrame);
+
+        mGL.glBlitFramebuffer(0, 0, frame.getWidth(), frame.getHeight(), x, y, x + width, y + height,
+                GLES2.GL_COLOR_BUFFER_BIT, GLES2.GL_LINEAR);
+
+        //!
+        //! Restore the frame acquired for both target(s).
+        //!
+        mGL.glBindFramebuffer(GLES2.GL_FRAMEBUFFER, mFrame);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -1000,6 +1114,28 @@ public final class DefaultRender implements Render {
         mGL.glUnmapBuffer(storage.getTarget().eValue);
     }
 
+    /**
+     * <p>Execute upload(s) pending, until the budget of the frame is exceeded</p>
+     */
+    private void onUpdateUploads() {
+        final long begin = System.nanoTime();
+
+        long size = 0L;
+
+        LongSupplier task;
+
+        //!
+        //! NOTE: At least one upload is executed per frame, otherwise a huge upload will never be executed.
+        //!
+        while ((task = mUploads.poll()) != null) {
+            size += task.getAsLong();
+
+            if (size >= mUploadSize || System.nanoTime() - begin >= mUploadTime) {
+                break;
+            }
+        }
+    }
+
     /**
      * <p>Update{@link RenderState.Flag}</p>
      */
@@ -1292,6 +1428,15 @@ public final class DefaultRender implements Render {
                     shader.getAttributes(), (name, attachment) -> onUpdateShaderAttribute(shader, name, attachment));
         }
 
+        if (!shader.getFeedback().isEmpty()) {
+            //!
+            //! Declare the output(s) captured by transform feedback (must be done before linking).
+            //!
+            mGL.glTransformFeedbackVaryings(handle,
+                    shader.getFeedback().toArray(new String[shader.getFeedback().size()]),
+                    GLES3.GL_INTERLEAVED_ATTRIBS);
+        }
+
         //!
         //! Link the program and check if there was any error.
         //!
@@ -25,9 +25,12 @@ import ar.com.quark.system.utility.array.*;
 import ar.com.quark.render.shader.Shader;
 import ar.com.quark.render.shader.Uniform;
 import ar.com.quark.render.storage.Storage;
+import ar.com.quark.render.storage.StorageTarget;
 import ar.com.quark.render.texture.Texture;
 import ar.com.quark.render.texture.frame.Frame;
 
+import java.util.function.LongSupplier;
+
 /**
  * <code>Render</code> encapsulate the render module.
  */
@@ -162,6 +165,8 @@ public interface Render extends ManageableManager {
 
         void glViewport(int x, int y, int width, int height);
 
+        void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data);
+
         int glGenTextures();
 
         int glGenBuffers();
@@ -313,10 +318,12 @@ public interface Render extends ManageableManager {
         int GL_DEPTH_COMPONENT24 = 0x81A6;
         int GL_DEPTH_COMPONENT32 = 0x81A7;
         int GL_DEPTH_STENCIL = 0x84F9;
+        int GL_DRAW_FRAMEBUFFER = 0x8CA9;
         int GL_DYNAMIC_COPY = 0x88EA;
         int GL_DYNAMIC_READ = 0x88E9;
         int GL_HALF_FLOAT = 0x140B;
         int GL_INT = 0x1404;
+        int GL_INTERLEAVED_ATTRIBS = 0x8C8C;
         int GL_MAX = 0x8008;
         int GL_MIN = 0x8007;
         int GL_PIXEL_PACK_BUFFER = 0x88EB;
@@ -325,6 +332,8 @@ public interface Render extends ManageableManager {
         int GL_R16F = 0x822D;
         int GL_R32F = 0x822E;
         int GL_R8 = 0x8229;
+        int GL_RASTERIZER_DISCARD = 0x8C89;
+        int GL_READ_FRAMEBUFFER = 0x8CA8;
         int GL_RED = 0x1903;
         int GL_RG = 0x8227;
         int GL_RG16 = 0x822C;
@@ -339,6 +348,7 @@ public interface Render extends ManageableManager {
         int GL_RGBA16F = 0x881A;
         int GL_RGBA32F = 0x8814;
         int GL_RGBA8 = 0x8058;
+        int GL_SEPARATE_ATTRIBS = 0x8C8D;
         int GL_STATIC_COPY = 0x88E6;
         int GL_STATIC_READ = 0x88E5;
         int GL_STREAM_COPY = 0x88E2;
@@ -376,6 +386,19 @@ public interface Render extends ManageableManager {
         void glUniform4ui(int name, int i1, int i2, int i3, int i4);
 
         void glUniform1uiv(int name, UInt32Array buffer);
+
+        void glTransformFeedbackVaryings(int name, String[] varyings, int mode);
+
+        void glBeginTransformFeedback(int primitive);
+
+        void glEndTransformFeedback();
+
+        void glBindBufferBase(int target, int index, int name);
+
+        void glReadPixels(int x, int y, int width, int height, int format, int type, int offset);
+
+        void glBlitFramebuffer(int srcX0, int srcY0, int srcX1, int srcY1,
+                int dstX0, int dstY0, int dstX1, int dstY1, int mask, int filter);
     }
 
     /**
@@ -420,6 +443,24 @@ public interface Render extends ManageableManager {
      */
     RenderCapabilities getCapabilities();
 
+    /**
+     * <p>Schedule a task that upload(s) to the GPU</p>
+     * <p>
+     * NOTE: Can be called from any thread. Task(s) are executed in order on the render thread, when the render
+     * update(s), until the upload budget of the frame is exceeded (at least one task is executed per frame).
+     *
+     * @param task the task, returning the number of byte(s) uploaded
+     */
+    void upload(LongSupplier task);
+
+    /**
+     * <p>Change the upload budget of every frame</p>
+     *
+     * @param time the maximum time (in seconds) spent uploading per frame
+     * @param size the maximum number of byte(s) uploaded per frame
+     */
+    void setUploadBudget(double time, long size);
+
     /**
      * <p>Apply new states</p>
      *
@@ -709,6 +750,58 @@ public interface Render extends ManageableManager {
      */
     void draw(Primitive primitive, int offset, int count, VertexFormat format);
 
+    /**
+     * <p>Perform a draw operation capturing the output of the vertex stage into a <code>Storage</code></p>
+     * <p>
+     * NOTE: The rasterizer is discarded during the operation, and only the output(s) declared as feedback by the
+     * <code>Shader</code> acquired are captured (requires {@link RenderCapabilities.Extension#TRANSFORM_FEEDBACK}).
+     *
+     * @param primitive the action's primitive
+     * @param offset    the action's offset
+     * @param count     the action's count
+     * @param storage   the storage that will capture the output
+     */
+    void feedback(Primitive primitive, int offset, int count, Storage<?> storage);
+
+    /**
+     * <p>Read the pixel(s) (as RGBA) of the <code>Frame</code> acquired</p>
+     * <p>
+     * NOTE: This operation stall(s) until the GPU has finished every pending command.
+     *
+     * @param x      the offset for the x coordinate of the rectangle (in pixel)
+     * @param y      the offset for the y coordinate of the rectangle (in pixel)
+     * @param width  the width of the rectangle (in pixel)
+     * @param height the height of the rectangle (in pixel)
+     * @param data   the array that will hold the pixel(s)
+     */
+    void read(int x, int y, int width, int height, Int8Array data);
+
+    /**
+     * <p>Read the pixel(s) (as RGBA) of the <code>Frame</code> acquired into a <code>Storage</code></p>
+     * <p>
+     * NOTE: This operation doesn't stall, the storage should be mapped a few frame(s) later.
+     *
+     * @param x       the offset for the x coordinate of the rectangle (in pixel)
+     * @param y       the offset for the y coordinate of the rectangle (in pixel)
+     * @param width   the width of the rectangle (in pixel)
+     * @param height  the height of the rectangle (in pixel)
+     * @param storage the storage (with {@link StorageTarget#PIXEL_PACK}) that will hold the pixel(s)
+     */
+    void read(int x, int y, int width, int height, Storage<?> storage);
+
+    /**
+     * <p>Copy the colour of a <code>Frame</code> into a rectangle of the <code>Frame</code> acquired</p>
+     * <p>
+     * NOTE: The colour is scaled using a linear filter when the dimension(s) doesn't match.
+     *
+     * @param frame  the frame to copy from
+     * @param x      the offset for the x coordinate of the rectangle (in pixel)
+     * @param y      the offset for the y coordinate of the rectangle (in pixel)
+     * @param width  the width of the rectangle (in pixel)
+     * @param height the height of the rectangle (in pixel)
+     */
+    void blit(Frame frame, int x, int y, int width, int height);
+
     /**
      * <p>Map a <code>Storage</code></p>
      *
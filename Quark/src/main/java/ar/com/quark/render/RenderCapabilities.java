@@ -52,11 +52,26 @@ public final class RenderCapabilities {
          */
         FRAME_BUFFER_MULTIPLE_SAMPLE,
 
+        /**
+         * Indicates if {@link Frame} can be copied (blit) into another one.
+         */
+        FRAME_BUFFER_BLIT,
+
         /**
          * Indicates if {@link VertexDescriptor} is supported.
          */
         VERTEX_ARRAY_OBJECT,
 
+        /**
+         * Indicates if transform feedback is supported.
+         */
+        TRANSFORM_FEEDBACK,
+
+        /**
+         * Indicates if pixel buffer(s) are supported (asynchronous read of pixel(s)).
+         */
+        PIXEL_BUFFER,
+
         /**
          * Indicates if {@link Texture} support 3D.
          */
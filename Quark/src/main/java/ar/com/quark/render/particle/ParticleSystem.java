@@ -0,0 +1,278 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.particle;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.render.shader.AttributeType;
+import ar.com.quark.render.shader.Shader;
+import ar.com.quark.render.shader.ShaderParser;
+import ar.com.quark.render.shader.UniformType;
+import ar.com.quark.render.shader.data.UniformFloat;
+import ar.com.quark.render.shader.data.UniformFloat3;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.Float32Array;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>ParticleSystem</code> encapsulate a particle system simulated entirely by the GPU.
+ * <p>
+ * The state of every particle is stored in two {@link Storage}(s), each frame the simulation stage reads
+ * one of them and writes the other one through transform feedback (ping-pong), therefore no particle is
+ * ever touched by the CPU after its creation.
+ * <p>
+ * Each particle is laid out as two attribute(s):
+ * <ul>
+ * <li>{@link #ATTRIBUTE_POSITION}: position (xyz) and age (w), a negative age means not spawned yet</li>
+ * <li>{@link #ATTRIBUTE_VELOCITY}: velocity (xyz) and lifetime (w)</li>
+ * </ul>
+ */
+public final class ParticleSystem implements Disposable {
+    public final static int ATTRIBUTE_POSITION = 0;
+    public final static int ATTRIBUTE_VELOCITY = 1;
+
+    /**
+     * Number of component(s) of each particle.
+     */
+    private final static int PARTICLE_COMPONENT = 8;
+
+    /**
+     * Hold the source of the simulation stage.
+     */
+    private final static String SIMULATION_SOURCE = ""
+            + "float onHash(float seed) {\n"
+            + "    return fract(sin(seed) * 43758.5453123);\n"
+            + "}\n"
+            + "void main() {\n"
+            + "    float age = iPosition.w + uDelta;\n"
+            + "    if (age >= iVelocity.w && age >= 0.0) {\n"
+            + "        float seed = float(gl_VertexID) * 0.0137 + uTime;\n"
+            + "        vec3 random = vec3(onHash(seed), onHash(seed + 1.7), onHash(seed + 3.1)) * 2.0 - 1.0;\n"
+            + "        oPosition = vec4(uEmitter, 0.0);\n"
+            + "        oVelocity = vec4(uDirection * uSpeed + random * uSpread,\n"
+            + "                         uLifetime * (0.5 + 0.5 * onHash(seed + 5.3)));\n"
+            + "    } else {\n"
+            + "        vec3 velocity = iVelocity.xyz + uGravity * uDelta;\n"
+            + "        oPosition = vec4(iPosition.xyz + velocity * uDelta, age);\n"
+            + "        oVelocity = vec4(velocity, iVelocity.w);\n"
+            + "    }\n"
+            + "    gl_Position = vec4(0.0);\n"
+            + "}\n";
+
+    private final int mCapacity;
+    private final Shader mShader;
+    private final List<FactoryArrayStorage<Float32Array>> mStorage = new ArrayList<>(2);
+    private final VertexDescriptor[] mDescriptor;
+    private int mCurrent = 0;
+    private float mTime = 0.0f;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param parser   the parser used to generate the simulation stage
+     * @param capacity the number of particle(s) of the system
+     * @param lifetime the (maximum) lifetime of each particle (in seconds)
+     */
+    public ParticleSystem(ShaderParser parser, int capacity, float lifetime) {
+        if (!QKRender.getCapabilities().hasExtension(RenderCapabilities.Extension.TRANSFORM_FEEDBACK)) {
+            throw new IllegalStateException("Cannot create a particle system without transform feedback");
+        }
+        mCapacity = capacity;
+
+        //!
+        //! Generate the simulation stage (the fragment stage is never executed).
+        //!
+        parser.vertex(ShaderParser.Precision.HIGH)
+                .input(ATTRIBUTE_POSITION, "iPosition", AttributeType.Float4)
+                .input(ATTRIBUTE_VELOCITY, "iVelocity", AttributeType.Float4)
+                .output(ATTRIBUTE_POSITION, "oPosition", AttributeType.Float4)
+                .output(ATTRIBUTE_VELOCITY, "oVelocity", AttributeType.Float4)
+                .feedback("oPosition")
+                .feedback("oVelocity")
+                .uniform(0, "uDelta", UniformType.Float)
+                .uniform(1, "uTime", UniformType.Float)
+                .uniform(2, "uLifetime", UniformType.Float)
+                .uniform(3, "uSpeed", UniformType.Float)
+                .uniform(4, "uSpread", UniformType.Float)
+                .uniform(5, "uEmitter", UniformType.Float3)
+                .uniform(6, "uDirection", UniformType.Float3)
+                .uniform(7, "uGravity", UniformType.Float3)
+                .code(SIMULATION_SOURCE)
+                .build()
+                .fragment(ShaderParser.Precision.LOW)
+                .output(0, "oColour", AttributeType.Float4)
+                .code("void main() {\n    oColour = vec4(0.0);\n}\n")
+                .build();
+
+        mShader = parser.compile();
+        mShader.<UniformFloat>getUniform("uLifetime").setValue(lifetime);
+        mShader.<UniformFloat>getUniform("uSpeed").setValue(1.0f);
+        mShader.<UniformFloat3>getUniform("uDirection").setValue(0.0f, 1.0f, 0.0f);
+
+        //!
+        //! Create both storage(s) with every particle waiting to be spawned, staggered over its lifetime.
+        //!
+        final List<Vertex> attributes = new Vertex.Builder()
+                .add(ATTRIBUTE_POSITION, 4, VertexFormat.FLOAT)
+                .add(ATTRIBUTE_VELOCITY, 4, VertexFormat.FLOAT)
+                .build();
+
+        mDescriptor = new VertexDescriptor[2];
+
+        for (int i = 0; i < 2; ++i) {
+            final FactoryArrayStorage<Float32Array> storage = new FactoryArrayStorage.Float32(
+                    StorageType.SERVER, StorageMode.STREAM_COPY, capacity * PARTICLE_COMPONENT, attributes);
+
+            final Float32Array data = storage.map();
+
+            for (int j = 0; j < capacity; ++j) {
+                data.writeFloat32(0.0f).writeFloat32(0.0f).writeFloat32(0.0f).writeFloat32(-lifetime * j / capacity);
+                data.writeFloat32(0.0f).writeFloat32(0.0f).writeFloat32(0.0f).writeFloat32(0.0f);
+            }
+            storage.unmap();
+
+            mStorage.add(storage);
+            mDescriptor[i] = new VertexDescriptor(Collections.singletonList(storage));
+        }
+    }
+
+    /**
+     * <p>Get the number of particle(s) of the system</p>
+     *
+     * @return the number of particle(s) of the system
+     */
+    public int getCapacity() {
+        return mCapacity;
+    }
+
+    /**
+     * <p>Get the {@link Shader} that simulate the system</p>
+     *
+     * @return the shader that simulate the system
+     */
+    public Shader getShader() {
+        return mShader;
+    }
+
+    /**
+     * <p>Get the {@link Storage} that hold the latest state of the system</p>
+     *
+     * @return the storage that hold the latest state of the system
+     */
+    public FactoryArrayStorage<Float32Array> getStorage() {
+        return mStorage.get(mCurrent);
+    }
+
+    /**
+     * <p>Change the emitter of the system</p>
+     *
+     * @param x the x coordinate of the emitter
+     * @param y the y coordinate of the emitter
+     * @param z the z coordinate of the emitter
+     */
+    public void setEmitter(float x, float y, float z) {
+        mShader.<UniformFloat3>getUniform("uEmitter").setValue(x, y, z);
+    }
+
+    /**
+     * <p>Change the direction (normalised) and the speed of every spawned particle</p>
+     */
+    public void setDirection(float x, float y, float z, float speed) {
+        mShader.<UniformFloat3>getUniform("uDirection").setValue(x, y, z);
+        mShader.<UniformFloat>getUniform("uSpeed").setValue(speed);
+    }
+
+    /**
+     * <p>Change the random spread applied to the velocity of every spawned particle</p>
+     */
+    public void setSpread(float spread) {
+        mShader.<UniformFloat>getUniform("uSpread").setValue(spread);
+    }
+
+    /**
+     * <p>Change the gravity applied to every particle</p>
+     */
+    public void setGravity(float x, float y, float z) {
+        mShader.<UniformFloat3>getUniform("uGravity").setValue(x, y, z);
+    }
+
+    /**
+     * @see Render#create(Shader)
+     * @see Render#create(VertexDescriptor)
+     */
+    public void create() {
+        mShader.create();
+        mDescriptor[0].create();
+        mDescriptor[1].create();
+    }
+
+    /**
+     * <p>Simulate the system</p>
+     *
+     * @param delta the time elapsed since the last simulation (in seconds)
+     */
+    public void update(float delta) {
+        mTime += delta;
+
+        mShader.<UniformFloat>getUniform("uDelta").setValue(delta);
+        mShader.<UniformFloat>getUniform("uTime").setValue(mTime);
+
+        mShader.acquire();
+        mShader.update();
+
+        //!
+        //! Read the current state and capture the next one in the other storage.
+        //!
+        mDescriptor[mCurrent].acquire();
+
+        QKRender.feedback(Primitive.POINTS, 0, mCapacity, mStorage.get(1 - mCurrent));
+
+        mCurrent = 1 - mCurrent;
+    }
+
+    /**
+     * <p>Draw every particle of the system, using the {@link Shader} acquired</p>
+     * <p>
+     * NOTE: Particle(s) with a negative age (see {@link #ATTRIBUTE_POSITION}) should be discarded.
+     */
+    public void draw() {
+        mDescriptor[mCurrent].acquire();
+
+        QKRender.draw(Primitive.POINTS, 0, mCapacity);
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mShader.dispose();
+
+        for (int i = 0; i < 2; ++i) {
+            mDescriptor[i].dispose();
+            mStorage.get(i).dispose();
+        }
+    }
+}
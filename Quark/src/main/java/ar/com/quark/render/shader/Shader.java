@@ -42,14 +42,24 @@ public final class Shader extends Manageable implements Disposable {
     private final List<Stage> mStages;
     private final Map<String, Attribute> mAttributes;
     private final Map<String, Uniform> mUniforms;
+    private final List<String> mFeedback;
 
     /**
      * <p>Constructor</p>
      */
-    public Shader(List<Stage> stages, Map<String, Attribute> attributes, Map<String, Uniform> uniforms) {
+    public Shader(List<Stage> stages, Map<String, Attribute> attributes, Map<String, Uniform> uniforms,
+            List<String> feedback) {
         mStages = stages;
         mAttributes = attributes;
         mUniforms = uniforms;
+        mFeedback = feedback;
+    }
+
+    /**
+     * <p>Constructor</p>
+     */
+    public Shader(List<Stage> stages, Map<String, Attribute> attributes, Map<String, Uniform> uniforms) {
+        this(stages, attributes, uniforms, Collections.emptyList());
     }
 
     /**
@@ -61,6 +71,15 @@ public final class Shader extends Manageable implements Disposable {
         return mStages;
     }
 
+    /**
+     * <p>Get the output(s) captured by transform feedback (in order)</p>
+     *
+     * @return a collection that contain(s) the output(s) captured by transform feedback
+     */
+    public List<String> getFeedback() {
+        return mFeedback;
+    }
+
     /**
      * <p>Check if the given {@link Attribute} is present</p>
      *
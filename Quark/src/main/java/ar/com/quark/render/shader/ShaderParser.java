@@ -55,6 +55,7 @@ public final class ShaderParser {
         mGenerator.put(Builder.OP_OUTPUT, new OnOutputGenerator());
         mGenerator.put(Builder.OP_UNIFORM, new OnUniformGenerator());
         mGenerator.put(Builder.OP_CODE, new OnCodeGenerator());
+        mGenerator.put(Builder.OP_FEEDBACK, new OnFeedbackGenerator());
     }
 
     /**
@@ -88,6 +89,15 @@ public final class ShaderParser {
         return mArray.flip();
     }
 
+    /**
+     * <p>Create a {@link Shader} from all instruction(s) written by the builder(s)</p>
+     *
+     * @return <code>Shader</code> generated
+     */
+    public Shader compile() {
+        return generate(mArray);
+    }
+
     /**
      * <p>Create a {@link Shader} from all instruction(s) in the given {@link Int8Array}</p>
      *
@@ -119,7 +129,7 @@ public final class ShaderParser {
 
         array.clear();
 
-        return new Shader(process.stages, process.attributes, process.uniforms);
+        return new Shader(process.stages, process.attributes, process.uniforms, process.feedback);
     }
 
     /**
@@ -164,6 +174,7 @@ public final class ShaderParser {
         public final static int OP_OUTPUT = 0x02;
         public final static int OP_UNIFORM = 0x03;
         public final static int OP_CODE = 0x04;
+        public final static int OP_FEEDBACK = 0x05;
 
         /**
          * Hold the array that will contain(s) all information for generating stage(s).
@@ -236,6 +247,14 @@ public final class ShaderParser {
             return (A) this;
         }
 
+        @SuppressWarnings("unchecked")
+        public A feedback(String id) {
+            mArray.writeInt8(OP_FEEDBACK);
+            mArray.writeString(id);
+
+            return (A) this;
+        }
+
         public A code(String code) {
             mArray.writeInt8(OP_CODE);
             mArray.writeString(code);
@@ -317,6 +336,13 @@ public final class ShaderParser {
              */
             public final Map<String, Uniform> uniforms = new HashMap<>();
 
+            /**
+             * Hold all output(s) captured by transform feedback, in order.
+             * <p>
+             * NOTE: Exposed to {@link Generator}
+             */
+            public final List<String> feedback = new LinkedList<>();
+
             /**
              * Hold current {@link StageType} being parsed.
              * <p>
@@ -621,6 +647,22 @@ public final class ShaderParser {
         }
     }
 
+    /**
+     * <code>OnFeedbackGenerator</code> encapsulate a {@link Generator} for transform feedback output(s).
+     */
+    private final static class OnFeedbackGenerator implements Generator {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void generate(Process process, Int8Array input, StringBuffer output) {
+            if (process.stage != StageType.VERTEX) {
+                throw new IllegalStateException("Transform feedback is only supported on vertex stage");
+            }
+            process.feedback.add(input.readString());
+        }
+    }
+
     /**
      * <code>OnHeaderGenerator</code> encapsulate a {@link Generator} for generating stage header.
      */
@@ -0,0 +1,424 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.storage;
+
+import ar.com.quark.mathematic.Camera;
+import ar.com.quark.mathematic.Matrix4f;
+import ar.com.quark.mathematic.MutableVector4f;
+import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.render.storage.factory.FactoryElementStorage;
+import ar.com.quark.system.utility.array.Array;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <code>LODMesh</code> encapsulate a {@link Mesh} with multiple level(s) of detail.
+ * <p>
+ * Every level share the same vertex storage and index storage, each level being a range of the
+ * index storage, therefore switching between level(s) doesn't require any extra bind.
+ */
+public final class LODMesh extends Mesh {
+    /**
+     * Hold the offset (in bytes) of each level in the index storage.
+     */
+    private final int[] mOffset;
+
+    /**
+     * Hold the number of indices of each level.
+     */
+    private final int[] mCount;
+
+    /**
+     * Hold the projected size below which each level is selected.
+     */
+    private final float[] mThreshold;
+
+    /**
+     * Hold the bounding sphere of the mesh (x, y, z, radius).
+     */
+    private final float mCenterX, mCenterY, mCenterZ, mRadius;
+
+    private final MutableVector4f mTemp = MutableVector4f.zero();
+
+    /**
+     * <p>Constructor</p>
+     */
+    public LODMesh(List<FactoryArrayStorage<?>> vertices, FactoryElementStorage<?> indices,
+                   int[] offset, int[] count, float[] threshold, float x, float y, float z, float radius) {
+        super(new VertexDescriptor(vertices, indices));
+
+        if (offset.length != count.length || offset.length != threshold.length || offset.length == 0) {
+            throw new IllegalArgumentException("Every level requires an offset, a count and a threshold");
+        }
+        mOffset = offset;
+        mCount = count;
+        mThreshold = threshold;
+        mCenterX = x;
+        mCenterY = y;
+        mCenterZ = z;
+        mRadius = radius;
+    }
+
+    /**
+     * <p>Get the number of level(s) of the mesh</p>
+     *
+     * @return the number of level(s) of the mesh
+     */
+    public int getLevels() {
+        return mCount.length;
+    }
+
+    /**
+     * <p>Get the number of indices of the given level</p>
+     *
+     * @param level the level of detail
+     *
+     * @return the number of indices of the given level
+     */
+    public int getLevelCount(int level) {
+        return mCount[level];
+    }
+
+    /**
+     * <p>Get the offset (in bytes) of the given level in the index storage</p>
+     *
+     * @param level the level of detail
+     *
+     * @return the offset (in bytes) of the given level in the index storage
+     */
+    public int getLevelOffset(int level) {
+        return mOffset[level];
+    }
+
+    /**
+     * <p>Get the level of detail that matches the projected size of the mesh</p>
+     *
+     * @param camera the camera that will render the mesh
+     *
+     * @return the level of detail that matches the projected size of the mesh
+     */
+    public int getLevel(Camera camera) {
+        return getLevel(camera.getViewProjection());
+    }
+
+    /**
+     * <p>Get the level of detail that matches the projected size of the mesh</p>
+     *
+     * @param transformation the (model) view projection matrix that will render the mesh
+     *
+     * @return the level of detail that matches the projected size of the mesh
+     */
+    public int getLevel(Matrix4f transformation) {
+        final float size = getProjectedSize(transformation);
+
+        for (int i = mThreshold.length - 1; i > 0; --i) {
+            if (size < mThreshold[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * <p>Get the projected size of the mesh, as a fraction of the viewport's height</p>
+     *
+     * @param transformation the (model) view projection matrix that will render the mesh
+     *
+     * @return the projected size of the mesh, as a fraction of the viewport's height
+     */
+    public float getProjectedSize(Matrix4f transformation) {
+        //!
+        //! The scale of the projection is the length of the first two row(s) of the matrix.
+        //!
+        transformation.transform(1.0f, 0.0f, 0.0f, 0.0f, mTemp);
+        float rowX = mTemp.getX() * mTemp.getX();
+        float rowY = mTemp.getY() * mTemp.getY();
+        transformation.transform(0.0f, 1.0f, 0.0f, 0.0f, mTemp);
+        rowX += mTemp.getX() * mTemp.getX();
+        rowY += mTemp.getY() * mTemp.getY();
+        transformation.transform(0.0f, 0.0f, 1.0f, 0.0f, mTemp);
+        rowX += mTemp.getX() * mTemp.getX();
+        rowY += mTemp.getY() * mTemp.getY();
+
+        final float scale = (float) Math.sqrt(Math.max(rowX, rowY));
+
+        transformation.transform(mCenterX, mCenterY, mCenterZ, 1.0f, mTemp);
+
+        if (mTemp.getW() <= mRadius) {
+            //!
+            //! NOTE: The camera is inside (or close to) the bounding sphere.
+            //!
+            return Float.MAX_VALUE;
+        }
+        return (mRadius * scale) / mTemp.getW();
+    }
+
+    /**
+     * <p>Draw the given level of the mesh</p>
+     *
+     * @param primitive the render primitive
+     * @param level     the level of detail
+     */
+    public void draw(Primitive primitive, int level) {
+        draw(primitive, mOffset[level], mCount[level], mDescriptor.getIndices().getFormat());
+    }
+
+    /**
+     * <p>Draw the level of the mesh that matches its projected size</p>
+     *
+     * @param primitive the render primitive
+     * @param camera    the camera that will render the mesh
+     */
+    public void draw(Primitive primitive, Camera camera) {
+        draw(primitive, getLevel(camera));
+    }
+
+    /**
+     * <code>Builder</code> build a {@link LODMesh} from the storage(s) of a {@link Mesh}.
+     * <p>
+     * NOTE: The storage(s) must still hold their data in the cpu-side (before being updated).
+     */
+    public final static class Builder {
+        private final List<Float> mRatio = new ArrayList<>();
+        private final List<Float> mThreshold = new ArrayList<>();
+        private final Mesh mMesh;
+        private final int mAttribute;
+        private float mError = 0.05f;
+
+        /**
+         * <p>Constructor</p>
+         *
+         * @param mesh      the mesh to simplify (must be a triangle list)
+         * @param attribute the unique identifier of the position attribute
+         */
+        public Builder(Mesh mesh, int attribute) {
+            mMesh = mesh;
+            mAttribute = attribute;
+        }
+
+        /**
+         * <p>Register a new level</p>
+         *
+         * @param ratio     the ratio of triangle(s) to keep (0.0 to 1.0)
+         * @param threshold the projected size below which the level is selected
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Builder add(float ratio, float threshold) {
+            mRatio.add(ratio);
+            mThreshold.add(threshold);
+            return this;
+        }
+
+        /**
+         * <p>Change the maximum error allowed, relative to the extent of the mesh</p>
+         *
+         * @return <code>this</code> for chain operation(s)
+         */
+        public Builder error(float error) {
+            mError = error;
+            return this;
+        }
+
+        /**
+         * <p>Build a new {@link LODMesh}</p>
+         *
+         * @return a new instance of the builder constructed
+         */
+        public LODMesh build() {
+            final FactoryElementStorage<?> indices = mMesh.getIndices();
+
+            if (indices == null) {
+                throw new IllegalStateException("Cannot simplify a mesh without an indices storage");
+            }
+
+            final float[] positions = readPositions(mMesh.getVertices(), mAttribute);
+            final int[] original = readIndices(indices);
+
+            //!
+            //! Generate each level from the previous one, which is both faster and more stable.
+            //!
+            final List<int[]> levels = new ArrayList<>(mRatio.size() + 1);
+            levels.add(original);
+
+            for (int i = 0; i < mRatio.size(); ++i) {
+                final int target = ((int) (original.length * mRatio.get(i)) / 3) * 3;
+                final int[] previous = levels.get(levels.size() - 1);
+
+                levels.add(MeshSimplifier.simplify(positions, previous, target, mError));
+            }
+
+            final int[] offset = new int[levels.size()];
+            final int[] count = new int[levels.size()];
+            final float[] threshold = new float[levels.size()];
+
+            int total = 0;
+
+            for (int i = 0; i < levels.size(); ++i) {
+                offset[i] = total * indices.getFormat().eLength;
+                count[i] = levels.get(i).length;
+                threshold[i] = (i == 0 ? Float.MAX_VALUE : mThreshold.get(i - 1));
+                total += count[i];
+            }
+
+            //!
+            //! Concatenate every level into a single index storage.
+            //!
+            final FactoryElementStorage<?> storage = new FactoryElementStorage<>(
+                    indices.getType(), indices.getMode(), indices.getFormat(), total);
+
+            writeIndices(storage, levels);
+
+            //!
+            //! Calculate the bounding sphere of the mesh.
+            //!
+            float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+            float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+
+            for (int i = 0; i < positions.length; i += 3) {
+                minX = Math.min(minX, positions[i]);
+                minY = Math.min(minY, positions[i + 1]);
+                minZ = Math.min(minZ, positions[i + 2]);
+                maxX = Math.max(maxX, positions[i]);
+                maxY = Math.max(maxY, positions[i + 1]);
+                maxZ = Math.max(maxZ, positions[i + 2]);
+            }
+
+            final float x = (maxX - minX) * 0.5f;
+            final float y = (maxY - minY) * 0.5f;
+            final float z = (maxZ - minZ) * 0.5f;
+
+            return new LODMesh(mMesh.getVertices(), storage, offset, count, threshold,
+                    minX + x, minY + y, minZ + z, (float) Math.sqrt(x * x + y * y + z * z));
+        }
+
+        /**
+         * <p>Read the position attribute from the given vertices storage(s)</p>
+         */
+        private static float[] readPositions(List<FactoryArrayStorage<?>> vertices, int attribute) {
+            for (final FactoryArrayStorage<?> storage : vertices) {
+                for (final Vertex vertex : storage.getAttributes()) {
+                    if (vertex.getID() != attribute) {
+                        continue;
+                    }
+                    if (vertex.getType() != VertexFormat.FLOAT) {
+                        throw new IllegalArgumentException("Position attribute must be of type FLOAT");
+                    }
+                    final int stride = storage.getAttributesLength();
+                    final int count = storage.getCapacity() / stride;
+                    final Array<?> array = getData(storage);
+                    final float[] positions = new float[count * 3];
+
+                    //!
+                    //! NOTE: Read using absolute operation(s), restoring the limit of the array once read.
+                    //!
+                    final int limit = array.limit();
+
+                    try {
+                        array.limit(array.capacity());
+
+                        for (int i = 0, j = vertex.getOffset(); i < count; ++i, j += stride) {
+                            positions[i * 3] = array.readFloat32(j);
+                            positions[i * 3 + 1] = vertex.getComponent() > 1 ? array.readFloat32(j + 4) : 0.0f;
+                            positions[i * 3 + 2] = vertex.getComponent() > 2 ? array.readFloat32(j + 8) : 0.0f;
+                        }
+                    } finally {
+                        array.limit(limit);
+                    }
+                    return positions;
+                }
+            }
+            throw new IllegalArgumentException("Cannot find the position attribute");
+        }
+
+        /**
+         * <p>Read all indices from the given indices storage</p>
+         */
+        private static int[] readIndices(FactoryElementStorage<?> storage) {
+            final Array<?> array = getData(storage);
+            final int length = storage.getFormat().eLength;
+            final int[] indices = new int[storage.getCapacity() / length];
+
+            //!
+            //! NOTE: Read using absolute operation(s), restoring the limit of the array once read.
+            //!
+            final int limit = array.limit();
+
+            try {
+                array.limit(array.capacity());
+
+                for (int i = 0; i < indices.length; ++i) {
+                    switch (storage.getFormat()) {
+                        case UNSIGNED_BYTE:
+                            indices[i] = array.readInt8(i) & 0xFF;
+                            break;
+                        case UNSIGNED_SHORT:
+                            indices[i] = array.readInt16(i * length) & 0xFFFF;
+                            break;
+                        default:
+                            indices[i] = array.readInt32(i * length);
+                            break;
+                    }
+                }
+            } finally {
+                array.limit(limit);
+            }
+            return indices;
+        }
+
+        /**
+         * <p>Get the data of the given storage (without mapping it)</p>
+         */
+        private static Array<?> getData(Storage<?> storage) {
+            if (storage.getType() == StorageType.SERVER_MAPPED) {
+                throw new IllegalArgumentException("Cannot simplify a server mapped storage");
+            }
+            final Array<?> array = storage.getData();
+
+            if (array == null) {
+                throw new IllegalArgumentException("Cannot simplify a storage without data");
+            }
+            return array;
+        }
+
+        /**
+         * <p>Write all level(s) into the given indices storage</p>
+         */
+        private static void writeIndices(FactoryElementStorage<?> storage, List<int[]> levels) {
+            final Array<?> array = storage.map();
+
+            for (final int[] level : levels) {
+                for (final int index : level) {
+                    switch (storage.getFormat()) {
+                        case UNSIGNED_BYTE:
+                            array.writeInt8(index);
+                            break;
+                        case UNSIGNED_SHORT:
+                            array.writeInt16(index);
+                            break;
+                        default:
+                            array.writeInt32(index);
+                            break;
+                    }
+                }
+            }
+            storage.unmap();
+        }
+    }
+}
@@ -19,6 +19,9 @@ package ar.com.quark.render.storage;
 
 import ar.com.quark.render.storage.factory.FactoryElementStorage;
 import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.resource.AssetDescriptor;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.emulation.Emulation;
 
 import java.util.Collections;
 import java.util.List;
@@ -31,7 +34,7 @@ import static ar.com.quark.Quark.QKRender;
  * <p>
  * Each vertex is composed of attribute(s) such as position, normal, color or texture coordinate.
  */
-public class Mesh {
+public class Mesh implements Disposable {
     protected final VertexDescriptor mDescriptor;
 
     /**
@@ -140,4 +143,62 @@ public class Mesh {
         //!
         QKRender.draw(primitive, offset, count, format);
     }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        mDescriptor.dispose();
+
+        if (mDescriptor.hasVertices()) {
+            Emulation.forEach(mDescriptor.getVertices(), Storage::dispose);
+        }
+        if (mDescriptor.hasIndices()) {
+            mDescriptor.getIndices().dispose();
+        }
+    }
+
+    /**
+     * <code>Descriptor</code> represent the {@link AssetDescriptor} for {@link Mesh}.
+     */
+    public final static class Descriptor extends AssetDescriptor {
+        private final StorageType mType;
+        private final StorageMode mMode;
+
+        /**
+         * <p>Constructor</p>
+         */
+        public Descriptor(StorageType type, StorageMode mode) {
+            super(true, true);
+
+            mType = type;
+            mMode = mode;
+        }
+
+        /**
+         * <p>Constructor</p>
+         */
+        public Descriptor() {
+            this(StorageType.SERVER, StorageMode.STATIC_DRAW);
+        }
+
+        /**
+         * <p>Get the type of the mesh's storage(s)</p>
+         *
+         * @return the type of the mesh's storage(s)
+         */
+        public StorageType getType() {
+            return mType;
+        }
+
+        /**
+         * <p>Get the mode of the mesh's storage(s)</p>
+         *
+         * @return the mode of the mesh's storage(s)
+         */
+        public StorageMode getMode() {
+            return mMode;
+        }
+    }
 }
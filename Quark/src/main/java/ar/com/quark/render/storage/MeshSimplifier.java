@@ -0,0 +1,406 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.storage;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <code>MeshSimplifier</code> encapsulate a quadric error metric simplifier for indexed triangle list(s).
+ * <p>
+ * Every collapse moves a vertex onto one of its neighbour(s), so the simplified indices always reference
+ * the original vertices and the vertex storage can be shared between every level of detail.
+ */
+public final class MeshSimplifier {
+    /**
+     * Number of component(s) in a quadric (upper triangle of a symmetric 4x4 matrix).
+     */
+    private final static int QUADRIC_LENGTH = 10;
+
+    /**
+     * Minimum cosine allowed between a triangle's normal before and after a collapse.
+     */
+    private final static double FLIP_THRESHOLD = 0.2;
+
+    /**
+     * <p>Simplify a triangle list</p>
+     *
+     * @param positions the position(s) of every vertex (3 component(s) per vertex)
+     * @param indices   the indices of the triangle list
+     * @param target    the desired number of indices
+     * @param error     the maximum error allowed, relative to the extent of the mesh
+     *
+     * @return the indices of the simplified triangle list (never more than <code>indices</code>)
+     */
+    public static int[] simplify(float[] positions, int[] indices, int target, float error) {
+        if (indices.length % 3 != 0) {
+            throw new IllegalArgumentException("Indices must describe a triangle list");
+        }
+
+        final int vertices = positions.length / 3;
+
+        final int[] result = Arrays.copyOf(indices, indices.length);
+        int count = result.length;
+
+        if (count <= target) {
+            return result;
+        }
+
+        //!
+        //! Calculate the (squared) error limit from the extent of the mesh.
+        //!
+        final double limit = error * getExtent(positions);
+        final double limitSquared = limit * limit;
+
+        //!
+        //! Vertices on a border or an attribute seam are never collapsed, to avoid crack(s).
+        //!
+        final boolean[] locked = new boolean[vertices];
+
+        onLockBorder(result, count, locked);
+        onLockSeam(positions, vertices, locked);
+
+        final double[] quadrics = new double[vertices * QUADRIC_LENGTH];
+
+        for (int i = 0; i < count; i += 3) {
+            onComputeQuadric(positions, result[i], result[i + 1], result[i + 2], quadrics);
+        }
+
+        final int[] remap = new int[vertices];
+        final boolean[] touched = new boolean[vertices];
+        final int[] adjacencyOffset = new int[vertices + 1];
+        final int[] adjacency = new int[count];
+
+        while (count > target) {
+            //!
+            //! Build the vertex to triangle adjacency of the current triangle list.
+            //!
+            Arrays.fill(adjacencyOffset, 0);
+
+            for (int i = 0; i < count; ++i) {
+                adjacencyOffset[result[i] + 1]++;
+            }
+            for (int i = 0; i < vertices; ++i) {
+                adjacencyOffset[i + 1] += adjacencyOffset[i];
+            }
+
+            final int[] adjacencyCursor = Arrays.copyOf(adjacencyOffset, vertices);
+
+            for (int i = 0; i < count; ++i) {
+                adjacency[adjacencyCursor[result[i]]++] = i / 3;
+            }
+
+            //!
+            //! Gather every candidate edge, sorted by the cost of collapsing it.
+            //!
+            final long[] candidates = new long[count];
+            final int[] candidateFrom = new int[count];
+            final int[] candidateTo = new int[count];
+            int candidateCount = 0;
+
+            for (int i = 0; i < count; i += 3) {
+                for (int j = 0; j < 3; ++j) {
+                    final int v0 = result[i + j];
+                    final int v1 = result[i + (j + 1) % 3];
+
+                    if (v0 >= v1 || (locked[v0] && locked[v1])) {
+                        continue;
+                    }
+
+                    final double c0 = locked[v0] ? Double.MAX_VALUE : getCollapseCost(positions, quadrics, v0, v1);
+                    final double c1 = locked[v1] ? Double.MAX_VALUE : getCollapseCost(positions, quadrics, v1, v0);
+                    final double cost = Math.min(c0, c1);
+
+                    if (cost > limitSquared) {
+                        continue;
+                    }
+
+                    candidateFrom[candidateCount] = c0 <= c1 ? v0 : v1;
+                    candidateTo[candidateCount] = c0 <= c1 ? v1 : v0;
+
+                    //!
+                    //! NOTE: The bit(s) of a positive float preserve its order.
+                    //!
+                    candidates[candidateCount] = ((long) Float.floatToIntBits((float) cost) << 32) | candidateCount;
+                    candidateCount++;
+                }
+            }
+
+            if (candidateCount == 0) {
+                break;
+            }
+            Arrays.sort(candidates, 0, candidateCount);
+
+            //!
+            //! Apply independent collapse(s), each one removes (roughly) two triangle(s).
+            //!
+            final int budget = (count - target) / 6 + 1;
+            int collapses = 0;
+
+            for (int i = 0; i < vertices; ++i) {
+                remap[i] = i;
+            }
+            Arrays.fill(touched, false);
+
+            for (int i = 0; i < candidateCount && collapses < budget; ++i) {
+                final int edge = (int) candidates[i];
+                final int from = candidateFrom[edge];
+                final int to = candidateTo[edge];
+
+                if (touched[from] || touched[to]) {
+                    continue;
+                }
+                if (hasFlip(positions, result, adjacency, adjacencyOffset, from, to)) {
+                    continue;
+                }
+
+                //!
+                //! Every vertex around the collapse is frozen until the next pass.
+                //!
+                for (int k = adjacencyOffset[from], end = adjacencyOffset[from + 1]; k < end; ++k) {
+                    final int triangle = adjacency[k] * 3;
+
+                    touched[result[triangle]] = true;
+                    touched[result[triangle + 1]] = true;
+                    touched[result[triangle + 2]] = true;
+                }
+                touched[to] = true;
+
+                for (int k = 0; k < QUADRIC_LENGTH; ++k) {
+                    quadrics[to * QUADRIC_LENGTH + k] += quadrics[from * QUADRIC_LENGTH + k];
+                }
+                remap[from] = to;
+                collapses++;
+            }
+
+            if (collapses == 0) {
+                break;
+            }
+
+            //!
+            //! Rewrite the triangle list, discarding degenerated triangle(s).
+            //!
+            int write = 0;
+
+            for (int i = 0; i < count; i += 3) {
+                final int v0 = remap[result[i]];
+                final int v1 = remap[result[i + 1]];
+                final int v2 = remap[result[i + 2]];
+
+                if (v0 != v1 && v1 != v2 && v2 != v0) {
+                    result[write++] = v0;
+                    result[write++] = v1;
+                    result[write++] = v2;
+                }
+            }
+            count = write;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * <p>Get the diagonal length of the bounding box of the given position(s)</p>
+     */
+    private static double getExtent(float[] positions) {
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, minZ = Float.MAX_VALUE;
+        float maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE, maxZ = -Float.MAX_VALUE;
+
+        for (int i = 0; i < positions.length; i += 3) {
+            minX = Math.min(minX, positions[i]);
+            minY = Math.min(minY, positions[i + 1]);
+            minZ = Math.min(minZ, positions[i + 2]);
+            maxX = Math.max(maxX, positions[i]);
+            maxY = Math.max(maxY, positions[i + 1]);
+            maxZ = Math.max(maxZ, positions[i + 2]);
+        }
+
+        final double x = maxX - minX;
+        final double y = maxY - minY;
+        final double z = maxZ - minZ;
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * <p>Lock every vertex that belong to an edge used by a single triangle</p>
+     */
+    private static void onLockBorder(int[] indices, int count, boolean[] locked) {
+        final Map<Long, Integer> edges = new HashMap<>();
+
+        for (int i = 0; i < count; i += 3) {
+            for (int j = 0; j < 3; ++j) {
+                final long v0 = indices[i + j];
+                final long v1 = indices[i + (j + 1) % 3];
+                final long key = v0 < v1 ? (v0 << 32) | v1 : (v1 << 32) | v0;
+
+                final Integer previous = edges.get(key);
+                edges.put(key, previous == null ? 1 : previous + 1);
+            }
+        }
+
+        for (final Map.Entry<Long, Integer> entry : edges.entrySet()) {
+            if (entry.getValue() == 1) {
+                locked[(int) (entry.getKey() >>> 32)] = true;
+                locked[(int) (entry.getKey() & 0xFFFFFFFFL)] = true;
+            }
+        }
+    }
+
+    /**
+     * <p>Lock every vertex that share its position with another vertex (attribute seam)</p>
+     */
+    private static void onLockSeam(float[] positions, int vertices, boolean[] locked) {
+        final Map<Long, Integer> unique = new HashMap<>();
+
+        for (int i = 0; i < vertices; ++i) {
+            final long x = Float.floatToIntBits(positions[i * 3]);
+            final long y = Float.floatToIntBits(positions[i * 3 + 1]);
+            final long z = Float.floatToIntBits(positions[i * 3 + 2]);
+            final long key = (x * 73856093L) ^ (y * 19349663L) ^ (z * 83492791L);
+
+            final Integer previous = unique.put(key, i);
+
+            if (previous != null) {
+                //!
+                //! NOTE: A hash collision only lock more vertices than required.
+                //!
+                locked[previous] = true;
+                locked[i] = true;
+            }
+        }
+    }
+
+    /**
+     * <p>Accumulate the plane quadric of the given triangle into each of its vertex</p>
+     */
+    private static void onComputeQuadric(float[] positions, int i0, int i1, int i2, double[] quadrics) {
+        final double x0 = positions[i0 * 3], y0 = positions[i0 * 3 + 1], z0 = positions[i0 * 3 + 2];
+        final double ux = positions[i1 * 3] - x0, uy = positions[i1 * 3 + 1] - y0, uz = positions[i1 * 3 + 2] - z0;
+        final double vx = positions[i2 * 3] - x0, vy = positions[i2 * 3 + 1] - y0, vz = positions[i2 * 3 + 2] - z0;
+
+        double a = uy * vz - uz * vy;
+        double b = uz * vx - ux * vz;
+        double c = ux * vy - uy * vx;
+
+        final double length = Math.sqrt(a * a + b * b + c * c);
+
+        if (length == 0.0) {
+            return;
+        }
+
+        //!
+        //! Weight the plane by the area of the triangle.
+        //!
+        final double weight = length * 0.5;
+
+        a /= length;
+        b /= length;
+        c /= length;
+
+        final double d = -(a * x0 + b * y0 + c * z0);
+
+        for (final int vertex : new int[]{i0, i1, i2}) {
+            final int base = vertex * QUADRIC_LENGTH;
+
+            quadrics[base] += weight * a * a;
+            quadrics[base + 1] += weight * a * b;
+            quadrics[base + 2] += weight * a * c;
+            quadrics[base + 3] += weight * a * d;
+            quadrics[base + 4] += weight * b * b;
+            quadrics[base + 5] += weight * b * c;
+            quadrics[base + 6] += weight * b * d;
+            quadrics[base + 7] += weight * c * c;
+            quadrics[base + 8] += weight * c * d;
+            quadrics[base + 9] += weight * d * d;
+        }
+    }
+
+    /**
+     * <p>Get the error of moving vertex <code>from</code> onto vertex <code>to</code></p>
+     */
+    private static double getCollapseCost(float[] positions, double[] quadrics, int from, int to) {
+        final double x = positions[to * 3];
+        final double y = positions[to * 3 + 1];
+        final double z = positions[to * 3 + 2];
+
+        double error = 0.0;
+
+        for (final int vertex : new int[]{from, to}) {
+            final int q = vertex * QUADRIC_LENGTH;
+
+            error += quadrics[q] * x * x + 2.0 * quadrics[q + 1] * x * y + 2.0 * quadrics[q + 2] * x * z
+                    + 2.0 * quadrics[q + 3] * x
+                    + quadrics[q + 4] * y * y + 2.0 * quadrics[q + 5] * y * z + 2.0 * quadrics[q + 6] * y
+                    + quadrics[q + 7] * z * z + 2.0 * quadrics[q + 8] * z
+                    + quadrics[q + 9];
+        }
+        return Math.abs(error);
+    }
+
+    /**
+     * <p>Check if moving vertex <code>from</code> onto vertex <code>to</code> flip any triangle</p>
+     */
+    private static boolean hasFlip(float[] positions, int[] indices, int[] adjacency, int[] offset, int from, int to) {
+        for (int k = offset[from], end = offset[from + 1]; k < end; ++k) {
+            final int triangle = adjacency[k] * 3;
+
+            final int v0 = indices[triangle];
+            final int v1 = indices[triangle + 1];
+            final int v2 = indices[triangle + 2];
+
+            if (v0 == to || v1 == to || v2 == to) {
+                //!
+                //! NOTE: The triangle will be removed by the collapse.
+                //!
+                continue;
+            }
+
+            final double[] before = getNormal(positions, v0, v1, v2);
+            final double[] after = getNormal(positions,
+                    v0 == from ? to : v0,
+                    v1 == from ? to : v1,
+                    v2 == from ? to : v2);
+
+            final double dot = before[0] * after[0] + before[1] * after[1] + before[2] * after[2];
+
+            if (dot < FLIP_THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Get the (normalised) normal of a triangle</p>
+     */
+    private static double[] getNormal(float[] positions, int i0, int i1, int i2) {
+        final double ux = positions[i1 * 3] - positions[i0 * 3];
+        final double uy = positions[i1 * 3 + 1] - positions[i0 * 3 + 1];
+        final double uz = positions[i1 * 3 + 2] - positions[i0 * 3 + 2];
+        final double vx = positions[i2 * 3] - positions[i0 * 3];
+        final double vy = positions[i2 * 3 + 1] - positions[i0 * 3 + 1];
+        final double vz = positions[i2 * 3 + 2] - positions[i0 * 3 + 2];
+
+        final double x = uy * vz - uz * vy;
+        final double y = uz * vx - ux * vz;
+        final double z = ux * vy - uy * vx;
+        final double length = Math.sqrt(x * x + y * y + z * z);
+
+        return length == 0.0 ? new double[]{0.0, 0.0, 0.0} : new double[]{x / length, y / length, z / length};
+    }
+}
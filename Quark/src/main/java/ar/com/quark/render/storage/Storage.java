@@ -68,10 +68,10 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
 
         switch (type) {
             case CLIENT:
-                mFactory = new BufferClientFactory();
+                mFactory = new BufferClientFactory(create(mCapacity, format), true);
                 break;
             case SERVER:
-                mFactory = new BufferServerFactory();
+                mFactory = new BufferServerFactory(create(mCapacity, format), true);
                 break;
             case SERVER_MAPPED:
                 mFactory = new BufferServerMappedFactory();
@@ -83,6 +83,32 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         setUpdate(CONCEPT_DATA);
     }
 
+    /**
+     * <p>Constructor</p>
+     * <p>
+     * NOTE: The storage doesn't own the given array, therefore it will never be deallocated by the storage.
+     */
+    public Storage(StorageType type, StorageTarget target, StorageMode mode, VertexFormat format, A data) {
+        mType = type;
+        mTarget = target;
+        mMode = mode;
+        mFormat = format;
+        mCapacity = data.capacity();
+
+        switch (type) {
+            case CLIENT:
+                mFactory = new BufferClientFactory(data, false);
+                break;
+            case SERVER:
+                mFactory = new BufferServerFactory(data, false);
+                break;
+            default:
+                throw new IllegalArgumentException("Storage type doesn't support an existing array.");
+        }
+
+        setUpdate(CONCEPT_DATA);
+    }
+
     /**
      * <p>Get the target of the storage</p>
      *
@@ -128,6 +154,17 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         return mFormat;
     }
 
+    /**
+     * <p>Get the data of the storage (without mapping it)</p>
+     * <p>
+     * NOTE: The data must only be read, leaving its position and limit as they were.
+     *
+     * @return the data of the storage or <code>null</code> if the storage doesn't hold it in memory
+     */
+    final A getData() {
+        return mFactory.getData();
+    }
+
     /**
      * @see Render#create(Storage)
      */
@@ -212,6 +249,8 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      * <code>Factory</code> encapsulate the definition of a buffer within a <code>Storage</code>.
      */
     private interface Factory<A extends Array> {
+        A getData();
+
         A map(Render gl);
 
         A map(Render gl, int access);
@@ -228,12 +267,22 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      */
     private final class BufferClientFactory implements Factory<A> {
         private A mData;
+        private boolean mOwned;
 
         /**
          * <p>Constructor</p>
          */
-        public BufferClientFactory() {
-            mData = create(Storage.this.mCapacity, Storage.this.mFormat);
+        public BufferClientFactory(A data, boolean owned) {
+            mData = data;
+            mOwned = owned;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public A getData() {
+            return mData;
         }
 
         /**
@@ -283,7 +332,7 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
          */
         @Override
         public void dispose() {
-            mData = ArrayFactory.free(mData);
+            mData = mOwned ? ArrayFactory.free(mData) : null;
         }
     }
 
@@ -292,12 +341,22 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      */
     private final class BufferServerFactory implements Factory<A> {
         private A mData;
+        private boolean mOwned;
 
         /**
          * <p>Constructor</p>
          */
-        public BufferServerFactory() {
-            mData = create(Storage.this.mCapacity, Storage.this.mFormat);
+        public BufferServerFactory(A data, boolean owned) {
+            mData = data;
+            mOwned = owned;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public A getData() {
+            return mData;
         }
 
         /**
@@ -323,6 +382,7 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
         public A map(Render gl, int access, int offset, int length) {
             if (mData == null) {
                 mData = create(length, Storage.this.mFormat);
+                mOwned = true;
             }
 
             if ((access & ACCESS_INVALIDATE_ALL) != 0) {
@@ -351,7 +411,7 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
          */
         @Override
         public void dispose() {
-            mData = ArrayFactory.free(mData);
+            mData = mOwned ? ArrayFactory.free(mData) : null;
         }
     }
 
@@ -359,6 +419,14 @@ public class Storage<A extends Array<?>> extends Manageable implements Disposabl
      * Specialised implementation for {@link StorageType#SERVER_MAPPED}
      */
     private final class BufferServerMappedFactory implements Factory<A> {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public A getData() {
+            return null;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -40,6 +40,16 @@ public class FactoryArrayStorage<A extends Array<?>> extends Storage<A> {
         mAttributesLength = Emulation.forEachMapToInt(vertex, (attribute) -> attribute.getLength());
     }
 
+    /**
+     * <p>Constructor</p>
+     */
+    public FactoryArrayStorage(StorageType type, StorageMode mode, VertexFormat format, A data, List<Vertex> vertex) {
+        super(type, StorageTarget.ARRAY, mode, format, data);
+
+        mAttributes = vertex;
+        mAttributesLength = Emulation.forEachMapToInt(vertex, (attribute) -> attribute.getLength());
+    }
+
     /***
      * <p>Get all {@link Vertex}(s) of the storage</p>
      *
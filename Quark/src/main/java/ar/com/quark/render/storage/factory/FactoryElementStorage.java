@@ -34,6 +34,13 @@ public class FactoryElementStorage<A extends Array<?>> extends Storage<A> {
         super(type, StorageTarget.ELEMENT, mode, format, capacity);
     }
 
+    /**
+     * <p>Constructor</p>
+     */
+    public FactoryElementStorage(StorageType type, StorageMode mode, VertexFormat format, A data) {
+        super(type, StorageTarget.ELEMENT, mode, format, data);
+    }
+
     /**
      * Specialised implementation using {@link UInt8Array}.
      */
@@ -107,6 +107,22 @@ public final class Image {
         return mFormat;
     }
 
+    /**
+     * <p>Get the size of the image</p>
+     *
+     * @return the size (in bytes) of every layer with data of the image
+     */
+    public long getSize() {
+        long size = 0L;
+
+        for (final Layer layer : mLayer) {
+            if (layer.hasData()) {
+                size += layer.data.capacity();
+            }
+        }
+        return size;
+    }
+
     /**
      * <p>Layer</p> represent a layer within an {@link Image} which contains all information about pixel(s) and mipmap.
      */
@@ -126,13 +142,28 @@ public final class Image {
          */
         public final boolean mipmap;
 
+        /**
+         * Hold a flag that indicates whenever the layer own(s) the data (and therefore deallocate it).
+         */
+        public final boolean owned;
+
         /**
          * <p>Constructor</p>
          */
         public Layer(Int8Array data, int[] images) {
+            this(data, images, false, true);
+        }
+
+        /**
+         * <p>Constructor</p>
+         * <p>
+         * NOTE: A layer that doesn't own the data (e.g wrapping a memory-mapped file) will never deallocate it.
+         */
+        public Layer(Int8Array data, int[] images, boolean mipmap, boolean owned) {
             this.data = data;
             this.images = images;
-            this.mipmap = false;
+            this.mipmap = mipmap;
+            this.owned = owned;
         }
 
         /**
@@ -142,13 +173,14 @@ public final class Image {
             this.data = data;
             this.images = new int[]{hasData() ? data.capacity() : 0};
             this.mipmap = mipmap;
+            this.owned = true;
         }
 
         /**
          * <p>Delete all memory allocated by the layer</p>
          */
         public void delete() {
-            data = ArrayFactory.free(data);
+            data = owned ? ArrayFactory.free(data) : null;
         }
 
         /**
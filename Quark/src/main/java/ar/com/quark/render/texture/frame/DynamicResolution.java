@@ -0,0 +1,367 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture.frame;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.render.texture.*;
+import ar.com.quark.system.utility.Disposable;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>DynamicResolution</code> encapsulate a controller that scale the resolution of the scene to meet a
+ * frame time budget.
+ * <p>
+ * The scene is rendered into a pooled {@link Frame} whose dimension is the native one multiplied by the
+ * current scale, then upscaled into the {@link Frame} acquired (usually the back buffer) so that anything
+ * rendered afterward (e.g the user interface) stays at the native resolution.
+ * <p>
+ * The scale is driven by a smoothed time signal (frame time or GPU time), it's lowered as soon as the signal
+ * exceed the budget and raised one step at a time once it's comfortably below it, with a cool-down between
+ * change(s), therefore it doesn't oscillate.
+ */
+public final class DynamicResolution implements Disposable {
+    /**
+     * Encapsulate the granularity of the scale (every frame of the pool match a step).
+     */
+    private final static float SCALE_STEP = 0.05f;
+
+    /**
+     * Encapsulate the ratio (signal / budget) above which the scale is lowered.
+     */
+    private final static float THRESHOLD_DECREASE = 1.0f;
+
+    /**
+     * Encapsulate the ratio (signal / budget) below which the scale is raised.
+     */
+    private final static float THRESHOLD_INCREASE = 0.85f;
+
+    /**
+     * Encapsulate the number of frame(s) to wait after the scale has changed.
+     */
+    private final static int COOLDOWN = 30;
+
+    /**
+     * Encapsulate the maximum number of frame(s) kept by the pool.
+     */
+    private final static int POOL_CAPACITY = 3;
+
+    private final Map<Integer, Frame> mPool = new LinkedHashMap<Integer, Frame>(POOL_CAPACITY + 1, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Frame> eldest) {
+            if (size() > POOL_CAPACITY) {
+                eldest.getValue().dispose();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private int mWidth;
+    private int mHeight;
+    private float mMinimum;
+    private float mMaximum;
+    private float mBudget;
+    private float mSmoothing = 0.1f;
+
+    private int mStep;
+    private float mSignal = 0.0f;
+    private int mCooldown = 0;
+    private Frame mFrame;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param width   the native width (in pixel)
+     * @param height  the native height (in pixel)
+     * @param minimum the minimum scale (e.g 0.5)
+     * @param maximum the maximum scale (e.g 1.0)
+     * @param budget  the frame time budget (in seconds)
+     */
+    public DynamicResolution(int width, int height, float minimum, float maximum, float budget) {
+        if (minimum <= 0.0f || minimum > maximum) {
+            throw new IllegalArgumentException("Trying to create a dynamic resolution with invalid bounds");
+        }
+        mWidth = width;
+        mHeight = height;
+        mMinimum = minimum;
+        mMaximum = maximum;
+        mBudget = budget;
+        mStep = toStep(maximum);
+    }
+
+    /**
+     * <p>Change the native dimension</p>
+     * <p>
+     * NOTE: Every frame of the pool is discarded.
+     *
+     * @param width  the native width (in pixel)
+     * @param height the native height (in pixel)
+     */
+    public void resize(int width, int height) {
+        mWidth = width;
+        mHeight = height;
+
+        dispose();
+    }
+
+    /**
+     * <p>Change the bounds of the scale</p>
+     *
+     * @param minimum the minimum scale
+     * @param maximum the maximum scale
+     */
+    public void setBounds(float minimum, float maximum) {
+        if (minimum <= 0.0f || minimum > maximum) {
+            throw new IllegalArgumentException("Trying to change the bounds with invalid value(s)");
+        }
+        mMinimum = minimum;
+        mMaximum = maximum;
+
+        setStep(mStep);
+    }
+
+    /**
+     * <p>Change the frame time budget</p>
+     *
+     * @param budget the frame time budget (in seconds)
+     */
+    public void setBudget(float budget) {
+        mBudget = budget;
+    }
+
+    /**
+     * <p>Change the smoothing factor of the signal</p>
+     *
+     * @param smoothing the weight (between 0.0 and 1.0) of every new sample
+     */
+    public void setSmoothing(float smoothing) {
+        mSmoothing = Math.max(0.0f, Math.min(1.0f, smoothing));
+    }
+
+    /**
+     * <p>Change the current scale, regardless of the signal</p>
+     *
+     * @param scale the new scale (clamped to the bounds)
+     */
+    public void setScale(float scale) {
+        setStep(toStep(scale));
+
+        mCooldown = COOLDOWN;
+    }
+
+    /**
+     * <p>Get the current scale</p>
+     *
+     * @return the current scale
+     */
+    public float getScale() {
+        return mStep * SCALE_STEP;
+    }
+
+    /**
+     * <p>Get the frame time budget</p>
+     *
+     * @return the frame time budget (in seconds)
+     */
+    public float getBudget() {
+        return mBudget;
+    }
+
+    /**
+     * <p>Get the smoothed signal</p>
+     *
+     * @return the smoothed signal (in seconds)
+     */
+    public float getSignal() {
+        return mSignal;
+    }
+
+    /**
+     * <p>Get the scaled width</p>
+     *
+     * @return the scaled width (in pixel)
+     */
+    public int getWidth() {
+        return Math.max(1, Math.round(mWidth * getScale()));
+    }
+
+    /**
+     * <p>Get the scaled height</p>
+     *
+     * @return the scaled height (in pixel)
+     */
+    public int getHeight() {
+        return Math.max(1, Math.round(mHeight * getScale()));
+    }
+
+    /**
+     * <p>Get the native width</p>
+     *
+     * @return the native width (in pixel)
+     */
+    public int getNativeWidth() {
+        return mWidth;
+    }
+
+    /**
+     * <p>Get the native height</p>
+     *
+     * @return the native height (in pixel)
+     */
+    public int getNativeHeight() {
+        return mHeight;
+    }
+
+    /**
+     * <p>Get the {@link Frame} that match the current scale</p>
+     *
+     * @return the frame that match the current scale
+     */
+    public Frame getFrame() {
+        if (mFrame == null) {
+            mFrame = mPool.get(mStep);
+
+            if (mFrame == null) {
+                mPool.put(mStep, mFrame = onCreateFrame(getWidth(), getHeight()));
+            }
+        }
+        return mFrame;
+    }
+
+    /**
+     * <p>Feed the controller with the time of the last frame</p>
+     *
+     * @param time the frame time or GPU time of the last frame (in seconds)
+     */
+    public void update(float time) {
+        mSignal = (mSignal == 0.0f ? time : mSignal + (time - mSignal) * mSmoothing);
+
+        if (mCooldown > 0) {
+            mCooldown--;
+            return;
+        }
+
+        final float ratio = mSignal / mBudget;
+
+        int step = mStep;
+
+        if (ratio > THRESHOLD_DECREASE) {
+            //!
+            //! The cost is proportional to the number of pixel(s), therefore to the square of the scale.
+            //!
+            step = Math.min(mStep - 1, toStep(getScale() / (float) Math.sqrt(ratio)));
+        } else if (ratio < THRESHOLD_INCREASE) {
+            step = mStep + 1;
+        }
+
+        if (setStep(step)) {
+            mCooldown = COOLDOWN;
+        }
+    }
+
+    /**
+     * <p>Acquire the {@link Frame} that match the current scale and change the viewport to cover it</p>
+     */
+    public void acquire() {
+        final Frame frame = getFrame();
+
+        frame.acquire();
+        frame.viewport();
+    }
+
+    /**
+     * <p>Release the {@link Frame} and upscale it into the whole frame acquired</p>
+     *
+     * @see Render#blit(Frame, int, int, int, int)
+     */
+    public void upscale() {
+        upscale(0, 0, mWidth, mHeight);
+    }
+
+    /**
+     * <p>Release the {@link Frame} and upscale it into a rectangle of the frame acquired</p>
+     *
+     * @see Render#blit(Frame, int, int, int, int)
+     */
+    public void upscale(int x, int y, int width, int height) {
+        final Frame frame = getFrame();
+
+        frame.release();
+        frame.blit(x, y, width, height);
+
+        QKRender.viewport(x, y, width, height);
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        for (final Frame frame : mPool.values()) {
+            frame.dispose();
+        }
+        mPool.clear();
+        mFrame = null;
+    }
+
+    /**
+     * <p>Change the current step (clamped to the bounds)</p>
+     *
+     * @return <code>true</code> if the step has changed, <code>false</code> otherwise
+     */
+    private boolean setStep(int step) {
+        final int clamped = Math.max(toStep(mMinimum), Math.min(toStep(mMaximum), step));
+
+        if (clamped == mStep) {
+            return false;
+        }
+        mStep = clamped;
+        mFrame = null;
+        return true;
+    }
+
+    /**
+     * <p>Convert the given scale into a step</p>
+     */
+    private static int toStep(float scale) {
+        return Math.max(1, Math.round(scale / SCALE_STEP));
+    }
+
+    /**
+     * <p>Create a {@link Frame} with a colour and depth attachment</p>
+     */
+    private static Frame onCreateFrame(int width, int height) {
+        final Texture2D texture = new Texture2D(TextureFormat.RGBA8, TextureFilter.BILINEAR,
+                TextureBorder.CLAMP_TO_EDGE,
+                TextureBorder.CLAMP_TO_EDGE, new Image(ImageFormat.RGBA, width, height, 1));
+
+        final Map<FrameAttachment, Frame.Target> attachment = new EnumMap<>(FrameAttachment.class);
+        attachment.put(FrameAttachment.COLOR0, new Frame.TextureTarget(texture));
+        attachment.put(FrameAttachment.DEPTH, new Frame.RenderTarget(TextureFormat.DEPTH_COMPONENT24));
+
+        final Frame frame = new Frame(attachment, width, height, 1);
+        frame.create();
+
+        return frame;
+    }
+}
@@ -19,10 +19,12 @@ package ar.com.quark.render.texture.frame;
 
 import ar.com.quark.Quark;
 import ar.com.quark.render.Render;
+import ar.com.quark.render.storage.Storage;
 import ar.com.quark.render.texture.TextureFormat;
 import ar.com.quark.system.utility.Disposable;
 import ar.com.quark.system.utility.Manageable;
 import ar.com.quark.render.texture.Texture;
+import ar.com.quark.system.utility.array.Int8Array;
 
 import java.util.Map;
 
@@ -163,6 +165,54 @@ public final class Frame extends Manageable implements Disposable {
         Quark.QKRender.viewport(0, 0, mWidth, mHeight);
     }
 
+    /**
+     * @see Render#read(int, int, int, int, Int8Array)
+     */
+    public void read(int x, int y, int width, int height, Int8Array data) {
+        final boolean isActive = Quark.QKRender.isActive(this);
+
+        if (!isActive) {
+            acquire();
+        }
+
+        Quark.QKRender.read(x, y, width, height, data);
+
+        if (!isActive) {
+            release();
+        }
+    }
+
+    /**
+     * @see Render#read(int, int, int, int, Storage)
+     */
+    public void read(int x, int y, int width, int height, Storage<?> storage) {
+        final boolean isActive = Quark.QKRender.isActive(this);
+
+        if (!isActive) {
+            acquire();
+        }
+
+        Quark.QKRender.read(x, y, width, height, storage);
+
+        if (!isActive) {
+            release();
+        }
+    }
+
+    /**
+     * @see Render#blit(Frame, int, int, int, int)
+     */
+    public void blit(int x, int y, int width, int height) {
+        Quark.QKRender.blit(this, x, y, width, height);
+    }
+
+    /**
+     * @see FrameReader#read(Frame, FrameReader.Callback)
+     */
+    public boolean read(FrameReader reader, FrameReader.Callback callback) {
+        return reader.read(this, callback);
+    }
+
     /**
      * @see Render#create(Frame)
      */
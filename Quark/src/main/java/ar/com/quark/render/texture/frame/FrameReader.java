@@ -0,0 +1,323 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.render.texture.frame;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.render.storage.*;
+import ar.com.quark.system.utility.Disposable;
+import ar.com.quark.system.utility.array.ArrayFactory;
+import ar.com.quark.system.utility.array.Int8Array;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import static ar.com.quark.Quark.QKRender;
+
+/**
+ * <code>FrameReader</code> encapsulate an asynchronous reader of {@link Frame}(s).
+ * <p>
+ * Every read is issued into a ring of {@link StorageTarget#PIXEL_PACK} {@link Storage}(s) and is delivered
+ * <code>latency</code> frame(s) later, when the GPU has (most likely) finished the transfer, therefore reading
+ * never stall(s) the pipeline. When pixel buffer(s) aren't supported it fallback to a synchronous read.
+ * <p>
+ * When an {@link Executor} is given, the pixel(s) are copied and delivered on it (e.g. to encode them into
+ * a video or an image), otherwise they're delivered on the render thread and only valid during the callback.
+ */
+public final class FrameReader implements Disposable {
+    /**
+     * <code>Callback</code> encapsulate the receiver of a read.
+     */
+    public interface Callback {
+        /**
+         * <p>Called when the pixel(s) (as RGBA) of a read are available</p>
+         *
+         * @param data   the pixel(s) of the read
+         * @param width  the width of the read (in pixel)
+         * @param height the height of the read (in pixel)
+         */
+        void onRead(Int8Array data, int width, int height);
+    }
+
+    private final int mWidth;
+    private final int mHeight;
+    private final int mLatency;
+    private final Executor mExecutor;
+
+    private final List<Storage<Int8Array>> mStorage;
+    private final Int8Array[] mArray;
+    private final Callback[] mCallback;
+    private final long[] mIssue;
+
+    private final Queue<Int8Array> mPool = new ConcurrentLinkedQueue<>();
+    private final byte[] mChunk = new byte[0x10000];
+
+    private int mHead = 0;
+    private int mPending = 0;
+    private long mFrame = 0L;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param width   the width of every read (in pixel)
+     * @param height  the height of every read (in pixel)
+     * @param latency the number of frame(s) between a read and its delivery
+     */
+    public FrameReader(int width, int height, int latency) {
+        this(width, height, latency, null);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param width    the width of every read (in pixel)
+     * @param height   the height of every read (in pixel)
+     * @param latency  the number of frame(s) between a read and its delivery
+     * @param executor the executor where every read is delivered (<code>null</code> for the render thread)
+     */
+    public FrameReader(int width, int height, int latency, Executor executor) {
+        if (latency < 1) {
+            throw new IllegalArgumentException("Latency must be at least one frame");
+        }
+        mWidth = width;
+        mHeight = height;
+        mLatency = latency;
+        mExecutor = executor;
+
+        mStorage = new ArrayList<>(latency);
+        mArray = new Int8Array[latency];
+        mCallback = new Callback[latency];
+        mIssue = new long[latency];
+
+        final boolean isAsynchronous
+                = QKRender.getCapabilities().hasExtension(RenderCapabilities.Extension.PIXEL_BUFFER);
+
+        for (int i = 0; i < latency; ++i) {
+            if (isAsynchronous) {
+                mStorage.add(new Storage<>(StorageType.SERVER_MAPPED,
+                        StorageTarget.PIXEL_PACK, StorageMode.STREAM_READ, VertexFormat.BYTE, width * height * 4));
+            } else {
+                mStorage.add(null);
+
+                mArray[i] = ArrayFactory.allocateInt8Array(width * height * 4);
+            }
+        }
+    }
+
+    /**
+     * <p>Get the width of every read</p>
+     *
+     * @return the width of every read (in pixel)
+     */
+    public int getWidth() {
+        return mWidth;
+    }
+
+    /**
+     * <p>Get the height of every read</p>
+     *
+     * @return the height of every read (in pixel)
+     */
+    public int getHeight() {
+        return mHeight;
+    }
+
+    /**
+     * <p>Get the number of frame(s) between a read and its delivery</p>
+     *
+     * @return the number of frame(s) between a read and its delivery
+     */
+    public int getLatency() {
+        return mLatency;
+    }
+
+    /**
+     * <p>Get the number of read(s) waiting to be delivered</p>
+     *
+     * @return the number of read(s) waiting to be delivered
+     */
+    public int getPending() {
+        return mPending;
+    }
+
+    /**
+     * @see Render#create(Storage)
+     */
+    public void create() {
+        for (final Storage<Int8Array> storage : mStorage) {
+            if (storage != null) {
+                storage.create();
+                storage.acquire();
+                storage.update();
+                storage.release();
+            }
+        }
+    }
+
+    /**
+     * <p>Read the pixel(s) of the given {@link Frame}</p>
+     *
+     * @param frame    the frame to read (<code>null</code> for the frame acquired)
+     * @param callback the callback that receive(s) the pixel(s)
+     *
+     * @return <code>true</code> if the read was issued, <code>false</code> if every slot is pending
+     */
+    public boolean read(Frame frame, Callback callback) {
+        if (mPending == mLatency) {
+            return false;
+        }
+        final int slot = (mHead + mPending) % mLatency;
+
+        final boolean isActive = (frame == null || QKRender.isActive(frame));
+
+        if (!isActive) {
+            frame.acquire();
+        }
+
+        if (mStorage.get(slot) != null) {
+            QKRender.read(0, 0, mWidth, mHeight, mStorage.get(slot));
+        } else {
+            QKRender.read(0, 0, mWidth, mHeight, mArray[slot].clear());
+        }
+
+        if (!isActive) {
+            frame.release();
+        }
+
+        mCallback[slot] = callback;
+        mIssue[slot] = mFrame;
+        mPending++;
+        return true;
+    }
+
+    /**
+     * <p>Deliver every read that has reached its latency</p>
+     * <p>
+     * NOTE: Must be called once per frame, after every read of the frame has been issued.
+     */
+    public void update() {
+        //!
+        //! NOTE: Compare against the current frame, otherwise a read is delivered one frame earlier (a read with a
+        //!       latency of one frame would stall on the frame it was issued).
+        //!
+        while (mPending > 0 && mFrame - mIssue[mHead] >= mLatency) {
+            onDeliver();
+        }
+        mFrame++;
+    }
+
+    /**
+     * <p>Deliver every pending read, regardless of its latency</p>
+     * <p>
+     * NOTE: This operation stall(s) until the GPU has finished every pending read.
+     */
+    public void flush() {
+        while (mPending > 0) {
+            onDeliver();
+        }
+    }
+
+    /**
+     * @see Disposable#dispose()
+     */
+    @Override
+    public void dispose() {
+        for (int i = 0; i < mLatency; ++i) {
+            if (mStorage.get(i) != null) {
+                mStorage.get(i).dispose();
+            } else {
+                ArrayFactory.free(mArray[i]);
+            }
+        }
+
+        Int8Array array;
+
+        while ((array = mPool.poll()) != null) {
+            ArrayFactory.free(array);
+        }
+    }
+
+    /**
+     * <p>Deliver the oldest pending read</p>
+     */
+    private void onDeliver() {
+        final int slot = mHead;
+
+        final Callback callback = mCallback[slot];
+        mCallback[slot] = null;
+
+        mHead = (mHead + 1) % mLatency;
+        mPending--;
+
+        final Storage<Int8Array> storage = mStorage.get(slot);
+
+        final Int8Array data;
+
+        if (storage != null) {
+            storage.acquire();
+            data = storage.map();
+        } else {
+            data = mArray[slot].rewind();
+        }
+
+        if (mExecutor == null) {
+            callback.onRead(data, mWidth, mHeight);
+        } else {
+            //!
+            //! Copy the pixel(s), given the source is only valid until the storage is un-mapped.
+            //!
+            final Int8Array copy = onCopy(data);
+
+            mExecutor.execute(() -> {
+                try {
+                    callback.onRead(copy, mWidth, mHeight);
+                } finally {
+                    mPool.offer(copy);
+                }
+            });
+        }
+
+        if (storage != null) {
+            storage.unmap();
+            storage.release();
+        }
+    }
+
+    /**
+     * <p>Copy the given {@link Int8Array} into an array of the pool</p>
+     */
+    private Int8Array onCopy(Int8Array data) {
+        Int8Array copy = mPool.poll();
+
+        if (copy == null) {
+            copy = ArrayFactory.allocateInt8Array(mWidth * mHeight * 4);
+        }
+        copy.clear();
+
+        for (int remaining = mWidth * mHeight * 4; remaining > 0; ) {
+            final int length = data.read(mChunk, 0, Math.min(remaining, mChunk.length));
+
+            copy.writeInt8(mChunk, 0, length);
+            remaining -= length;
+        }
+        return copy.flip();
+    }
+}
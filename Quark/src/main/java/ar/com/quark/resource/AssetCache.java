@@ -0,0 +1,49 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource;
+
+import java.nio.ByteBuffer;
+
+/**
+ * <code>AssetCache</code> encapsulate an interface for caching the content of asset(s) that have been decoded.
+ * <p>
+ * Every content is addressed by a name derived from the content of its source, the version of its
+ * {@link AssetLoader} and the signature of its {@link AssetDescriptor}, therefore a content is never invalidated
+ * (a source that has changed is cached under a different name).
+ */
+public interface AssetCache {
+    /**
+     * <p>Find a content</p>
+     *
+     * @param name the name of the content
+     *
+     * @return a read-only {@link ByteBuffer} with the entire content (e.g memory-mapped), or <code>null</code> if
+     *         the cache doesn't contain it
+     */
+    ByteBuffer find(String name);
+
+    /**
+     * <p>Store a content</p>
+     * <p>
+     * NOTE: A failure storing the content is never propagated (the asset is decoded again the next time).
+     *
+     * @param name    the name of the content
+     * @param content the content (from its position to its limit)
+     */
+    void store(String name, ByteBuffer content);
+}
@@ -0,0 +1,185 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+
+/**
+ * <code>AssetGroup</code> encapsulate a group of asynchronous request(s) that are tracked (and can be cancelled)
+ * as a whole, e.g every asset of a level.
+ */
+public final class AssetGroup {
+    private final Map<String, CompletableFuture<?>> mRequests;
+    private final CompletableFuture<Void> mCompletion;
+    private final AtomicInteger mLoaded = new AtomicInteger(0);
+    private final AtomicInteger mFailed = new AtomicInteger(0);
+    private final Queue<DoubleConsumer> mListeners = new ConcurrentLinkedQueue<>();
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param requests the request of every asset (by filename)
+     */
+    AssetGroup(Map<String, CompletableFuture<?>> requests) {
+        mRequests = Collections.unmodifiableMap(requests);
+
+        for (final CompletableFuture<?> request : requests.values()) {
+            request.whenComplete((asset, exception) -> {
+                if (exception == null) {
+                    mLoaded.incrementAndGet();
+                } else {
+                    mFailed.incrementAndGet();
+                }
+                onProgress();
+            });
+        }
+        mCompletion = CompletableFuture.allOf(requests.values().toArray(new CompletableFuture<?>[requests.size()]));
+    }
+
+    /**
+     * <p>Get the future completed once every request of the group has completed</p>
+     * <p>
+     * NOTE: The future is completed exceptionally if any request has failed (or has been cancelled).
+     *
+     * @return the future completed once every request of the group has completed
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return mCompletion;
+    }
+
+    /**
+     * <p>Get the request of the given asset</p>
+     *
+     * @param filename the name (as unique identifier) of the asset
+     *
+     * @return the request of the asset or <code>null</code> if the asset isn't part of the group
+     */
+    @SuppressWarnings("unchecked")
+    public <A> CompletableFuture<A> getRequest(String filename) {
+        return (CompletableFuture<A>) mRequests.get(filename);
+    }
+
+    /**
+     * <p>Get the given asset (if loaded)</p>
+     *
+     * @param filename the name (as unique identifier) of the asset
+     *
+     * @return the asset or <code>null</code> if the asset hasn't been loaded (yet)
+     */
+    public <A> A get(String filename) {
+        final CompletableFuture<A> request = getRequest(filename);
+
+        return (request != null && request.isDone() && !request.isCompletedExceptionally() ? request.join() : null);
+    }
+
+    /**
+     * <p>Get the progress of the group</p>
+     *
+     * @return the progress of the group (between 0.0 and 1.0)
+     */
+    public double getProgress() {
+        return mRequests.isEmpty() ? 1.0 : (double) (mLoaded.get() + mFailed.get()) / mRequests.size();
+    }
+
+    /**
+     * <p>Register a listener of the progress of the group</p>
+     * <p>
+     * NOTE: The listener is notified with the current progress straight away, then every time a request of the group
+     * completes (from the thread that has completed it).
+     *
+     * @param listener the listener of the progress (between 0.0 and 1.0)
+     */
+    public void addProgressListener(DoubleConsumer listener) {
+        mListeners.add(listener);
+
+        listener.accept(getProgress());
+    }
+
+    /**
+     * <p>Remove a listener of the progress of the group</p>
+     *
+     * @param listener the listener of the progress
+     */
+    public void removeProgressListener(DoubleConsumer listener) {
+        mListeners.remove(listener);
+    }
+
+    /**
+     * <p>Get the number of request(s) of the group</p>
+     *
+     * @return the number of request(s) of the group
+     */
+    public int getCount() {
+        return mRequests.size();
+    }
+
+    /**
+     * <p>Get the number of asset(s) loaded</p>
+     *
+     * @return the number of asset(s) loaded
+     */
+    public int getLoaded() {
+        return mLoaded.get();
+    }
+
+    /**
+     * <p>Get the number of asset(s) that have failed (or have been cancelled)</p>
+     *
+     * @return the number of asset(s) that have failed
+     */
+    public int getFailed() {
+        return mFailed.get();
+    }
+
+    /**
+     * <p>Check if every request of the group has completed</p>
+     *
+     * @return <code>true</code> if every request of the group has completed, <code>false</code> otherwise
+     */
+    public boolean isDone() {
+        return mCompletion.isDone();
+    }
+
+    /**
+     * <p>Cancel every request of the group that hasn't completed</p>
+     * <p>
+     * NOTE: A request that has begun is completed, but its asset is released as soon as it has been loaded.
+     */
+    public void cancel() {
+        for (final CompletableFuture<?> request : mRequests.values()) {
+            request.cancel(false);
+        }
+    }
+
+    /**
+     * <p>Handle when a request of the group has completed</p>
+     */
+    private void onProgress() {
+        final double progress = getProgress();
+
+        for (final DoubleConsumer listener : mListeners) {
+            listener.accept(progress);
+        }
+    }
+}
@@ -21,6 +21,7 @@ import ar.com.quark.system.utility.Disposable;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <code>AssetKey</code> encapsulate a key that contain(s) all the information of an asset.
@@ -31,8 +32,10 @@ public final class AssetKey<A, B extends AssetDescriptor> {
 
     /**
      * Hold the reference(s) to the asset being tracked down to perform manually de-allocation.
+     * <p>
+     * NOTE: The key can be acquired and released from any thread.
      */
-    private int mReferences = 1;
+    private final AtomicInteger mReferences = new AtomicInteger(1);
 
     /**
      * Hold the reference(s) to the asset.
@@ -51,6 +54,11 @@ public final class AssetKey<A, B extends AssetDescriptor> {
      */
     private final Collection<String> mDependencies = new LinkedList<>();
 
+    /**
+     * Hold the size (in bytes) of the asset, as reported by its {@link AssetLoader}.
+     */
+    private long mSize;
+
     /**
      * <p>Constructor</p>
      */
@@ -106,13 +114,77 @@ public final class AssetKey<A, B extends AssetDescriptor> {
         return mDependencies;
     }
 
+    /**
+     * <p>Get the size of the asset</p>
+     *
+     * @return the size (in bytes) of the asset, as reported by its {@link AssetLoader}
+     */
+    public long getSize() {
+        return mSize;
+    }
+
     /**
      * <p>Acquire the key</p>
      * <p>
      * NOTE: This method is for key management.
+     *
+     * @return true if the key has been acquired, false if the key has been released (or disposed) already
+     */
+    public boolean acquire() {
+        int references;
+
+        do {
+            references = mReferences.get();
+
+            //!
+            //! NOTE: A key that has been released can only be revived by its manager.
+            //!
+            if (references <= 0) {
+                return false;
+            }
+        } while (!mReferences.compareAndSet(references, references + 1));
+
+        return true;
+    }
+
+    /**
+     * <p>Revive a key that has been released (but not disposed)</p>
+     * <p>
+     * NOTE: This method is for key management.
+     *
+     * @return true if the key has been revived, false if the key is referenced or has been expired already
+     */
+    public boolean revive() {
+        return mReferences.compareAndSet(0, 1);
+    }
+
+    /**
+     * <p>Expire a key that has been released (but not disposed), so that it can be disposed</p>
+     * <p>
+     * NOTE: This method is for key management.
+     *
+     * @return true if the key has been expired, false if the key has been revived (or expired) already
+     */
+    public boolean expire() {
+        return mReferences.compareAndSet(0, -1);
+    }
+
+    /**
+     * <p>Check if the key has been released</p>
+     *
+     * @return true if the key has no more reference, false otherwise
      */
-    public void acquire() {
-        mReferences++;
+    public boolean isReleased() {
+        return mReferences.get() <= 0;
+    }
+
+    /**
+     * <p>Check if the key has been expired (and therefore disposed or about to be)</p>
+     *
+     * @return true if the key has been expired, false otherwise
+     */
+    public boolean isExpired() {
+        return mReferences.get() < 0;
     }
 
     /**
@@ -127,19 +199,29 @@ public final class AssetKey<A, B extends AssetDescriptor> {
     }
 
     /**
-     * <p>Release the key and if the reference reach zero it will dispose it</p>
+     * <p>Release the key</p>
      * <p>
-     * NOTE: This method is for key management.
+     * NOTE: This method is for key management, the key isn't disposed once the reference reach zero (it can be
+     * either revived or expired and disposed by its manager).
      *
-     * @return true if the asset has no more reference, false otherwise
+     * @return true if the asset has no more reference, false otherwise (or if the key has been released already)
      */
     public boolean release() {
-        final boolean isDisposed = --mReferences <= 0;
+        int references;
 
-        if (isDisposed) {
-            dispose();
-        }
-        return isDisposed;
+        do {
+            references = mReferences.get();
+
+            //!
+            //! NOTE: A key that has been released already must remain released (rather than being expired), so that
+            //!       its manager is still able to dispose it.
+            //!
+            if (references <= 0) {
+                return false;
+            }
+        } while (!mReferences.compareAndSet(references, references - 1));
+
+        return references == 1;
     }
 
     /**
@@ -151,6 +233,15 @@ public final class AssetKey<A, B extends AssetDescriptor> {
         mAsset = asset;
     }
 
+    /**
+     * <p>Set the size of the asset</p>
+     *
+     * @param size the size (in bytes) of the asset
+     */
+    public void setSize(long size) {
+        mSize = size;
+    }
+
     /**
      * <p>Add a dependency into the collection</p>
      *
@@ -17,13 +17,38 @@
  */
 package ar.com.quark.resource;
 
+import ar.com.quark.system.utility.BufferInputStream;
+
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * <code>AssetLoader</code> encapsulate an interface for loading asset(s).
  */
 public interface AssetLoader<A, B extends AssetDescriptor> {
+    /**
+     * Encapsulate the stage that decode(s) the asset on the CPU (always required).
+     */
+    int STAGE_DECODE = (1 << 0);
+
+    /**
+     * Encapsulate the stage that upload(s) the asset to the GPU (on the render thread).
+     */
+    int STAGE_UPLOAD = (1 << 1);
+
+    /**
+     * <p>Get the stage(s) required by the loader</p>
+     *
+     * @return the stage(s) required by the loader
+     *
+     * @see #STAGE_DECODE
+     * @see #STAGE_UPLOAD
+     */
+    default int getStages() {
+        return STAGE_DECODE;
+    }
+
     /**
      * <p>Load an asset</p>
      *
@@ -34,4 +59,117 @@ public interface AssetLoader<A, B extends AssetDescriptor> {
      * @throws IOException indicates failure loading the asset
      */
     void load(AssetManager manager, AssetKey<A, B> key, InputStream input) throws IOException;
+
+    /**
+     * <p>Check if the loader prefer(s) to load the asset from a buffer</p>
+     * <p>
+     * NOTE: When <code>true</code> the asset is located through {@link AssetLocator#locateBuffer(String)} (if
+     * supported by the locator) and loaded through {@link #load(AssetManager, AssetKey, ByteBuffer)}.
+     *
+     * @param descriptor the <b>asset</b> descriptor
+     *
+     * @return <code>true</code> if the loader prefer(s) to load the asset from a buffer, <code>false</code> otherwise
+     */
+    default boolean isBufferSupported(B descriptor) {
+        return false;
+    }
+
+    /**
+     * <p>Load an asset from a buffer</p>
+     * <p>
+     * NOTE: The buffer is read-only and may be a slice of a memory-mapped file (which is paged in on demand).
+     *
+     * @param manager the <b>asset</b> manager
+     * @param key     the <b>asset</b> key
+     * @param input   the <b>asset</b> buffer (with the entire content of the asset)
+     *
+     * @throws IOException indicates failure loading the asset
+     */
+    default void load(AssetManager manager, AssetKey<A, B> key, ByteBuffer input) throws IOException {
+        load(manager, key, new BufferInputStream(input));
+    }
+
+    /**
+     * <p>Upload an asset that has been loaded</p>
+     * <p>
+     * NOTE: Only called (on the render thread) if the loader require(s) {@link #STAGE_UPLOAD}.
+     *
+     * @param key the <b>asset</b> key
+     *
+     * @return the number of byte(s) uploaded
+     */
+    default long upload(AssetKey<A, B> key) {
+        return 0L;
+    }
+
+    /**
+     * <p>Get the size of an asset that has been loaded</p>
+     * <p>
+     * NOTE: Called once decoded (before being uploaded), the size is charged against the budget of released asset(s)
+     * that are kept by the manager (see {@link AssetManager#setReleaseBudget(long, double)}).
+     *
+     * @param key the <b>asset</b> key
+     *
+     * @return the size (in bytes) of the asset or <code>0</code> if unknown
+     */
+    default long getSize(AssetKey<A, B> key) {
+        return 0L;
+    }
+
+    /**
+     * <p>Get the version of the content saved by the loader</p>
+     * <p>
+     * NOTE: An asset (loaded from a buffer) whose loader has a version is saved into the {@link AssetCache} once
+     * decoded, and restored from it later rather than being decoded again. The version must change whenever the
+     * content saved by the loader does.
+     *
+     * @return the version of the content saved by the loader or <code>0</code> if the loader doesn't save it
+     *
+     * @see #save(AssetKey)
+     * @see #restore(AssetManager, AssetKey, ByteBuffer)
+     */
+    default int getVersion() {
+        return 0;
+    }
+
+    /**
+     * <p>Get the signature of a descriptor</p>
+     * <p>
+     * NOTE: The signature must tell apart every descriptor that change(s) the content saved by the loader.
+     *
+     * @param descriptor the <b>asset</b> descriptor
+     *
+     * @return the signature of the descriptor
+     */
+    default String getSignature(B descriptor) {
+        return "";
+    }
+
+    /**
+     * <p>Save an asset that has been decoded</p>
+     * <p>
+     * NOTE: Called once decoded (before being uploaded), only if the loader has a version.
+     *
+     * @param key the <b>asset</b> key
+     *
+     * @return the content (little-endian) of the asset or <code>null</code> if the asset cannot be saved
+     */
+    default ByteBuffer save(AssetKey<A, B> key) {
+        return null;
+    }
+
+    /**
+     * <p>Restore an asset that has been saved</p>
+     * <p>
+     * NOTE: The buffer is read-only and may be memory-mapped, therefore the asset may wrap it (without copying it).
+     *
+     * @param manager the <b>asset</b> manager
+     * @param key     the <b>asset</b> key
+     * @param input   the <b>asset</b> content (as saved by {@link #save(AssetKey)})
+     *
+     * @throws IOException indicates failure restoring the asset
+     */
+    default void restore(AssetManager manager, AssetKey<A, B> key, ByteBuffer input) throws IOException {
+        throw new IOException("The loader doesn't support restoring an asset");
+    }
 }
@@ -17,7 +17,11 @@
  */
 package ar.com.quark.resource;
 
+import ar.com.quark.system.utility.BufferInputStream;
+
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * <code>AssetLocator</code> encapsulate an interface for finding asset(s).
@@ -37,12 +41,29 @@ public interface AssetLocator {
      */
     boolean isAsynchronousSupported();
 
+    /**
+     * <p>Check if the locator may contain an asset</p>
+     * <p>
+     * NOTE: A locator with an index of its asset(s) answer(s) without any I/O, so that it's skipped for any asset
+     * it doesn't contain. By default every asset may be contained.
+     *
+     * @param filename the filename of the asset
+     *
+     * @return <code>false</code> if the locator doesn't contain the asset, <code>true</code> if it may contain it
+     */
+    default boolean contains(String filename) {
+        return true;
+    }
+
     /**
      * <p>Locate an asset</p>
      *
      * @param filename the filename of the asset
      *
      * @return a {@link InputStream} to handle both synchronous and asynchronous requests.
+     *
+     * @throws IllegalStateException indicates failure locating an asset that may exist (e.g an I/O error), rather
+     *                               than the asset not being found
      */
     InputStream locate(String filename);
 
@@ -55,4 +76,32 @@ public interface AssetLocator {
      * @return an {@link InputStream} to handle both synchronous and asynchronous requests.
      */
     InputStream locate(String filename, AssetCallback<InputStream> callback);
+
+    /**
+     * <p>Locate an asset as a buffer (synchronously)</p>
+     * <p>
+     * NOTE: By default the asset is located as a stream and read entirely into memory, a locator that is able
+     * to expose the asset without copying it (e.g memory-mapping a file) should override this.
+     *
+     * @param filename the filename of the asset
+     *
+     * @return a read-only {@link ByteBuffer} with the entire content of the asset, or <code>null</code> if the
+     *         asset cannot be located
+     *
+     * @throws IllegalStateException indicates failure locating an asset that may exist (e.g an I/O error), rather
+     *                               than the asset not being found
+     */
+    default ByteBuffer locateBuffer(String filename) {
+        final InputStream input = locate(filename);
+
+        if (input == null) {
+            return null;
+        }
+
+        try (final InputStream stream = input) {
+            return BufferInputStream.readFully(stream).asReadOnlyBuffer();
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
 }
@@ -18,6 +18,8 @@
 package ar.com.quark.resource;
 
 import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * <code>AssetManager</code> encapsulate an interface that holds every resource.
@@ -44,13 +46,28 @@ public interface AssetManager {
     void registerEventListener(AssetListener listener);
 
     /**
-     * <p>Register an {@link AssetLocator}</p>
+     * <p>Register an {@link AssetLocator} (with the default priority)</p>
      *
      * @param name    the unique identifier (as name) of the locator
      * @param locator the unique instance of the locator
+     *
+     * @see #registerAssetLocator(String, AssetLocator, int)
      */
     void registerAssetLocator(String name, AssetLocator locator);
 
+    /**
+     * <p>Register an {@link AssetLocator}</p>
+     * <p>
+     * NOTE: Every locator is searched in order of priority (the highest first), those with the same priority are
+     * searched in the order they have been registered. A locator registered with the name of another one replace(s)
+     * it.
+     *
+     * @param name     the unique identifier (as name) of the locator
+     * @param locator  the unique instance of the locator
+     * @param priority the priority of the locator (<code>0</code> by default)
+     */
+    void registerAssetLocator(String name, AssetLocator locator, int priority);
+
     /**
      * <p>Register an {@link AssetLoader}</p>
      *
@@ -99,6 +116,24 @@ public interface AssetManager {
      */
     InputStream find(String filename, AssetCallback<InputStream> callback);
 
+    /**
+     * <p>Forget that an asset hasn't been found by any of the {@link AssetLocator} registered</p>
+     * <p>
+     * NOTE: An asset that hasn't been found is remembered for a while (so that a request of it doesn't search any
+     * locator again), therefore an asset that has been created since (e.g a saved game or a downloaded asset) must
+     * be invalidated to be found straight away.
+     *
+     * @param filename the filename (as unique identifier) of the asset
+     */
+    void invalidate(String filename);
+
+    /**
+     * <p>Forget every asset that hasn't been found by any of the {@link AssetLocator} registered</p>
+     *
+     * @see #invalidate(String)
+     */
+    void invalidateAll();
+
     /**
      * <p>Request an asset that has been loaded</p>
      *
@@ -154,6 +189,74 @@ public interface AssetManager {
      */
     <A, B extends AssetDescriptor> A loadAsynchronous(String filename, B descriptor, AssetCallback<A> callback);
 
+    /**
+     * <p>Find an asset (asynchronously)</p>
+     * <p>
+     * NOTE: The request can be cancelled (through the future) until the asset begin to be located.
+     *
+     * @param filename the name (as unique identifier) of the asset
+     *
+     * @return a future completed with the stream of the asset (or exceptionally if the asset cannot be found)
+     */
+    CompletableFuture<InputStream> findAsynchronous(String filename);
+
+    /**
+     * <p>Load an asset (asynchronously)</p>
+     *
+     * @param filename the name (as unique identifier) of the asset
+     *
+     * @return a future completed with the asset
+     *
+     * @see #loadAsynchronous(String, AssetDescriptor)
+     */
+    <A> CompletableFuture<A> loadAsynchronous(String filename);
+
+    /**
+     * <p>Load an asset (asynchronously)</p>
+     * <p>
+     * NOTE: The request can be cancelled (through the future) until the asset begin to be located, otherwise the
+     * asset is released as soon as it has been loaded.
+     *
+     * @param filename   the name (as unique identifier) of the asset
+     * @param descriptor the descriptor that contains all parameters and information about the asset
+     *
+     * @return a future completed with the asset once it's ready to be used (or exceptionally if it has failed)
+     */
+    <A, B extends AssetDescriptor> CompletableFuture<A> loadAsynchronous(String filename, B descriptor);
+
+    /**
+     * <p>Load a group of asset(s) (asynchronously)</p>
+     *
+     * @param filenames the name (as unique identifier) of every asset
+     *
+     * @return the group that track(s) every request
+     *
+     * @see #loadGroup(AssetDescriptor, String...)
+     */
+    AssetGroup loadGroup(String... filenames);
+
+    /**
+     * <p>Load a group of asset(s) (asynchronously)</p>
+     *
+     * @param descriptor the descriptor of every asset
+     * @param filenames  the name (as unique identifier) of every asset
+     *
+     * @return the group that track(s) every request
+     */
+    AssetGroup loadGroup(AssetDescriptor descriptor, String... filenames);
+
+    /**
+     * <p>Load every asset concurrently, returning once all of them have been loaded</p>
+     * <p>
+     * NOTE: Intended for {@link AssetLoader}(s) that depend on other asset(s) (e.g the page(s) of a font).
+     *
+     * @param filenames  the name (as unique identifier) of every asset
+     * @param descriptor the descriptor of every asset
+     *
+     * @return every asset (in the same order), being <code>null</code> the asset(s) that have failed
+     */
+    <A, B extends AssetDescriptor> List<A> loadAll(List<String> filenames, B descriptor);
+
     /**
      * <p>Unload an asset</p>
      *
@@ -172,4 +275,54 @@ public interface AssetManager {
      * <p>Unload all asset(s)</p>
      */
     void unloadAll();
+
+    /**
+     * <p>Change the cache of decoded asset(s)</p>
+     *
+     * @param cache the cache of decoded asset(s) or <code>null</code> to decode every asset from its source
+     *
+     * @see AssetLoader#getVersion()
+     */
+    void setAssetCache(AssetCache cache);
+
+    /**
+     * <p>Change the budget of released asset(s)</p>
+     * <p>
+     * NOTE: A cacheable asset that has been released (e.g between scene(s)) is kept for a while rather than being
+     * disposed, so that a later request of it is served without loading it again. The least recently released
+     * asset(s) are disposed once the budget is exceeded or once they have been released for longer than the grace
+     * period.
+     *
+     * @param size the size (in bytes) of the budget or <code>0</code> to dispose every asset once released
+     * @param time the grace period (in seconds) of a released asset
+     */
+    void setReleaseBudget(long size, double time);
+
+    /**
+     * <p>Begin recording every asset requested by a scene</p>
+     * <p>
+     * NOTE: Any recording in progress is discarded.
+     *
+     * @param scene the name of the scene
+     */
+    void beginRecording(String scene);
+
+    /**
+     * <p>End recording every asset requested by a scene</p>
+     *
+     * @return the manifest of the scene or <code>null</code> if there isn't any recording in progress
+     */
+    AssetManifest endRecording();
+
+    /**
+     * <p>Read ahead every asset of the given manifest (in order)</p>
+     * <p>
+     * NOTE: Every asset read ahead is held in memory until requested, so that the request doesn't wait for any I/O.
+     * Any prefetch in progress is cancelled (and its asset(s) that haven't been requested are discarded).
+     *
+     * @param manifest    the manifest of the scene or <code>null</code> to cancel the prefetch in progress
+     * @param concurrency the maximum number of read(s) in flight
+     * @param size        the maximum size (in bytes) of the asset(s) read ahead (and not requested yet)
+     */
+    void prefetch(AssetManifest manifest, int concurrency, long size);
 }
@@ -0,0 +1,160 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <code>AssetManifest</code> encapsulate the asset(s) requested by a scene, in the order (and at the time) they
+ * were first requested while being recorded.
+ * <p>
+ * A manifest is stored as text (UTF-8), being the first line the name of the scene and every other line an entry
+ * made of the time (in seconds, since the recording began) and the filename of the asset, separated by a tab.
+ *
+ * @see AssetManager#beginRecording(String)
+ * @see AssetManager#prefetch(AssetManifest, int, long)
+ */
+public final class AssetManifest {
+    private final String mScene;
+    private final List<Entry> mEntries;
+
+    /**
+     * <code>Entry</code> encapsulate an asset of a manifest.
+     */
+    public final static class Entry {
+        private final String mFilename;
+        private final double mTime;
+
+        /**
+         * <p>Constructor</p>
+         */
+        public Entry(String filename, double time) {
+            mFilename = filename;
+            mTime = time;
+        }
+
+        /**
+         * <p>Get the filename of the asset</p>
+         *
+         * @return the filename of the asset
+         */
+        public String getFilename() {
+            return mFilename;
+        }
+
+        /**
+         * <p>Get the time of the first request of the asset</p>
+         *
+         * @return the time (in seconds, since the recording began) of the first request of the asset
+         */
+        public double getTime() {
+            return mTime;
+        }
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param scene   the name of the scene
+     * @param entries the entries of the manifest (in the order they were first requested)
+     */
+    public AssetManifest(String scene, List<Entry> entries) {
+        mScene = scene;
+        mEntries = Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * <p>Get the name of the scene</p>
+     *
+     * @return the name of the scene
+     */
+    public String getScene() {
+        return mScene;
+    }
+
+    /**
+     * <p>Get the entries of the manifest</p>
+     *
+     * @return the entries of the manifest (in the order they were first requested)
+     */
+    public List<Entry> getEntries() {
+        return mEntries;
+    }
+
+    /**
+     * <p>Write the manifest</p>
+     *
+     * @param output the output-stream to write into (not closed)
+     *
+     * @throws IOException indicates failing writing the manifest
+     */
+    public void write(OutputStream output) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+
+        writer.write(mScene);
+        writer.write('\n');
+
+        for (final Entry entry : mEntries) {
+            writer.write(Double.toString(entry.mTime));
+            writer.write('\t');
+            writer.write(entry.mFilename);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * <p>Read a manifest</p>
+     *
+     * @param input the input-stream to read from (not closed)
+     *
+     * @return the manifest
+     *
+     * @throws IOException indicates failing reading the manifest
+     */
+    public static AssetManifest read(InputStream input) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        final String scene = reader.readLine();
+
+        if (scene == null) {
+            throw new EOFException("Trying to read an empty manifest");
+        }
+        final List<Entry> entries = new ArrayList<>();
+
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            final int index = line.indexOf('\t');
+
+            if (index < 0) {
+                continue;
+            }
+
+            try {
+                entries.add(new Entry(line.substring(index + 1), Double.parseDouble(line.substring(0, index))));
+            } catch (NumberFormatException exception) {
+                throw new IOException("Trying to read an invalid manifest", exception);
+            }
+        }
+        return new AssetManifest(scene, entries);
+    }
+}
@@ -17,17 +17,56 @@
  */
 package ar.com.quark.resource;
 
+import ar.com.quark.Quark;
+import ar.com.quark.system.utility.BufferInputStream;
+import ar.com.quark.system.utility.Disposable;
 import ar.com.quark.system.utility.emulation.Emulation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 
 /**
  * <b>Default</b> implementation for {@link AssetManager}.
+ * <p>
+ * Every cacheable asset is held by a single future (per filename) from the moment its load begin, therefore any
+ * concurrent request of the same asset join(s) the load in flight instead of loading it again, while request(s) of
+ * independent asset(s) proceed in parallel without any lock.
+ * <p>
+ * Every asynchronous request is executed in stage(s): the asset is located and read into memory by the reader
+ * {@link Service} (I/O), decoded by the {@link Service} (CPU) and, if its {@link AssetLoader} require(s)
+ * {@link AssetLoader#STAGE_UPLOAD}, uploaded on the render thread within the upload budget of the frame (GPU).
+ * <p>
+ * An asset whose {@link AssetLoader} support(s) buffer(s) is located through {@link AssetLocator#locateBuffer(String)}
+ * (e.g memory-mapped) and decoded straight from the buffer, falling back to the stream of any locator that only
+ * support(s) asynchronous request(s).
+ * <p>
+ * A cacheable asset that has been released is kept (with its dependencies) rather than being disposed, until either
+ * the budget of released asset(s) is exceeded (the least recently released asset(s) are disposed first) or its grace
+ * period has expired, so that a later request of it is served without loading it again.
+ * <p>
+ * An asset decoded from a buffer, whose {@link AssetLoader} has a version, is saved into the {@link AssetCache} (if
+ * any) and restored from it the next time (e.g the next run) rather than being decoded again.
+ * <p>
+ * The asset(s) requested by a scene can be recorded into an {@link AssetManifest}, which is replayed the next time
+ * the scene begin(s) to read ahead every asset (with bounded concurrency and memory), so that every request of the
+ * scene is served from memory rather than waiting for any I/O.
+ * <p>
+ * Every {@link AssetLocator} is searched in order of priority (then in order of registration), skipping those that
+ * don't contain the asset (see {@link AssetLocator#contains(String)}), while the latest asset(s) that no locator has
+ * found are remembered for a while (see {@link #invalidate(String)}) so that a request of them doesn't search any
+ * locator again.
  */
 public final class DefaultAssetManager implements AssetManager {
     /**
@@ -35,28 +74,200 @@ public final class DefaultAssetManager implements AssetManager {
      */
     private final static Logger LOGGER = LoggerFactory.getLogger(AssetManager.class);
 
+    /**
+     * Encapsulate the default budget (in bytes) of released asset(s).
+     */
+    public final static long DEFAULT_RELEASE_SIZE = 64L * 1024L * 1024L;
+
+    /**
+     * Encapsulate the default grace period (in seconds) of a released asset.
+     */
+    public final static double DEFAULT_RELEASE_TIME = 30.0;
+
+    /**
+     * Encapsulate the maximum number of asset(s) remembered as missing.
+     */
+    private final static int MISSING_CAPACITY = 256;
+
+    /**
+     * Encapsulate the time (in nanoseconds) an asset is remembered as missing.
+     */
+    private final static long MISSING_TIME = 5L * 1000L * 1000L * 1000L;
+
+    /**
+     * <code>Released</code> encapsulate a cacheable asset that has been released (but not disposed).
+     */
+    private final static class Released {
+        private final String mFilename;
+        private final AssetKey<?, ?> mKey;
+        private final long mTime;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Released(String filename, AssetKey<?, ?> key, long time) {
+            mFilename = filename;
+            mKey = key;
+            mTime = time;
+        }
+    }
+
+    /**
+     * <code>Registration</code> encapsulate an {@link AssetLocator} that has been registered.
+     */
+    private final static class Registration {
+        private final String mName;
+        private final AssetLocator mLocator;
+        private final int mPriority;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Registration(String name, AssetLocator locator, int priority) {
+            mName = name;
+            mLocator = locator;
+            mPriority = priority;
+        }
+    }
+
     private final Service mService;
+    private final Service mReader;
+
+    private final Set<AssetListener> mListeners = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final Map<String, AssetLoader<?, ?>> mLoaders = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, String> mCacheNames = new ConcurrentHashMap<>();
+
+    /**
+     * Hold every locator registered (in the order they are searched), replaced as a whole whenever a locator is
+     * registered or removed.
+     */
+    private volatile Registration[] mLocators = new Registration[0];
+
+    /**
+     * Hold the latest asset(s) that no locator has found (in the order they have been requested) and the time they
+     * have been found missing.
+     * <p>
+     * NOTE: Guarded by itself (as is any change of the locators), cleared whenever a locator is registered or removed.
+     */
+    private final Map<String, Long> mMissing = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+            return size() > MISSING_CAPACITY;
+        }
+    };
 
-    private final Set<AssetListener> mListeners = new HashSet<>();
-    private final Map<String, AssetLocator> mLocators = new HashMap<>();
-    private final Map<String, AssetLoader<?, ?>> mLoaders = new HashMap<>();
-    private final Map<Object, String> mCacheNames = new HashMap<>();
-    private final Map<String, AssetKey> mCache = new HashMap<>();
+    /**
+     * Hold the future of every cacheable asset (either loaded or being loaded).
+     * <p>
+     * NOTE: A future completed with <code>null</code> is removed (the load has failed).
+     */
+    private final ConcurrentMap<String, CompletableFuture<AssetKey<?, ?>>> mCache = new ConcurrentHashMap<>();
+
+    /**
+     * Hold every cacheable asset that has been released (but not disposed), in the order they have been released.
+     * <p>
+     * NOTE: Guarded by itself (as are the size and the budget), a released key is only revived or expired while
+     * holding it.
+     */
+    private final Map<String, Released> mReleased = new LinkedHashMap<>();
+    private long mReleasedSize = 0L;
+    private long mReleaseSize = DEFAULT_RELEASE_SIZE;
+    private long mReleaseTime = (long) (DEFAULT_RELEASE_TIME * 1.0E9);
+
+    /**
+     * Hold the cache of decoded asset(s) (optional).
+     */
+    private volatile AssetCache mAssetCache;
+
+    /**
+     * Hold the recording in progress (optional).
+     */
+    private volatile Recording mRecording;
+
+    /**
+     * Hold the prefetch in progress (optional).
+     */
+    private volatile Prefetch mPrefetch;
+
+    /**
+     * <code>Recording</code> encapsulate the asset(s) requested since a recording began.
+     * <p>
+     * NOTE: Guarded by itself.
+     */
+    private final static class Recording {
+        private final String mScene;
+        private final long mTime;
+        private final Map<String, Double> mEntries = new LinkedHashMap<>();
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Recording(String scene, long time) {
+            mScene = scene;
+            mTime = time;
+        }
+    }
+
+    /**
+     * <code>Prefetch</code> encapsulate the asset(s) of a manifest being read ahead.
+     * <p>
+     * NOTE: Guarded by itself.
+     */
+    private final static class Prefetch {
+        private final Iterator<AssetManifest.Entry> mEntries;
+        private final int mConcurrency;
+        private final long mSize;
+        private final Map<String, ByteBuffer> mBuffers = new HashMap<>();
+        private int mReading = 0;
+        private long mResident = 0L;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Prefetch(AssetManifest manifest, int concurrency, long size) {
+            mEntries = manifest.getEntries().iterator();
+            mConcurrency = concurrency;
+            mSize = size;
+        }
+    }
 
     /**
      * <p>Constructor</p>
      */
     public DefaultAssetManager(Service service) {
+        this(service, service);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param service the service where every asset is decoded
+     * @param reader  the service where every asset is located and read (I/O)
+     */
+    public DefaultAssetManager(Service service, Service reader) {
         mService = service;
+        mReader = reader;
     }
 
     /**
      * <p>Handle when the module destroy</p>
      */
     public void onModuleDestroy() {
+        if (mReader != mService) {
+            mReader.shutdown();
+        }
         mService.shutdown();
     }
 
+    /**
+     * <p>Handle when the module update</p>
+     * <p>
+     * NOTE: Dispose every released asset whose grace period has expired.
+     */
+    public void onModuleUpdate() {
+        onTrim(System.nanoTime());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -70,7 +281,36 @@ public final class DefaultAssetManager implements AssetManager {
      */
     @Override
     public void registerAssetLocator(String name, AssetLocator locator) {
-        mLocators.put(name, locator);
+        registerAssetLocator(name, locator, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void registerAssetLocator(String name, AssetLocator locator, int priority) {
+        synchronized (mMissing) {
+            final List<Registration> locators = new ArrayList<>(mLocators.length + 1);
+
+            for (final Registration registration : mLocators) {
+                if (!registration.mName.equals(name)) {
+                    locators.add(registration);
+                }
+            }
+
+            //!
+            //! Insert the locator after every locator with the same (or higher) priority.
+            //!
+            int index = 0;
+
+            while (index < locators.size() && locators.get(index).mPriority >= priority) {
+                index++;
+            }
+            locators.add(index, new Registration(name, locator, priority));
+
+            mLocators = locators.toArray(new Registration[locators.size()]);
+            mMissing.clear();
+        }
     }
 
     /**
@@ -98,8 +338,20 @@ public final class DefaultAssetManager implements AssetManager {
      */
     @Override
     public void removeAssetLocator(String name) {
-        if (mLocators.remove(name) == null) {
-            throw new IllegalStateException("An <AssetLocator> with the provided name doesn't exist.");
+        synchronized (mMissing) {
+            final List<Registration> locators = new ArrayList<>(mLocators.length);
+
+            for (final Registration registration : mLocators) {
+                if (!registration.mName.equals(name)) {
+                    locators.add(registration);
+                }
+            }
+
+            if (locators.size() == mLocators.length) {
+                throw new IllegalStateException("An <AssetLocator> with the provided name doesn't exist.");
+            }
+            mLocators = locators.toArray(new Registration[locators.size()]);
+            mMissing.clear();
         }
     }
 
@@ -109,7 +361,7 @@ public final class DefaultAssetManager implements AssetManager {
     @Override
     public void removeAssetLoader(String... extensions) {
         for (final String extension : extensions) {
-            if (mLoaders.remove(extension) == null) {
+            if (mLoaders.remove(extension.toLowerCase()) == null) {
                 throw new IllegalStateException("An <AssetLoader> with the provided extension doesn't exist.");
             }
         }
@@ -120,21 +372,80 @@ public final class DefaultAssetManager implements AssetManager {
      */
     @Override
     public InputStream find(String filename) {
-        InputStream input = null;
+        final Registration[] locators = mLocators;
+
+        if (isMissing(filename)) {
+            return null;
+        }
+        boolean isComplete = true;
+
+        for (final Registration registration : locators) {
+            final AssetLocator locator = registration.mLocator;
 
-        for (final AssetLocator locator : mLocators.values()) {
             //!
-            //! Locate the asset on those locator which support synchronous request(s).
+            //! Locate the asset on those locator which support synchronous request(s) (and may contain it).
             //!
-            if (locator.isSynchronousSupported()) {
-                input = locator.locate(filename);
+            if (!locator.isSynchronousSupported()) {
+                isComplete = false;
+            } else if (locator.contains(filename)) {
+                try {
+                    final InputStream input = locator.locate(filename);
 
-                if (input != null) {
-                    break;
+                    if (input != null) {
+                        return input;
+                    }
+                } catch (IllegalStateException exception) {
+                    LOGGER.warn("Failed to locate Asset '{}': {}", filename, exception.getMessage()); /* WARNING */
+
+                    isComplete = false;
+                }
+            }
+        }
+
+        if (isComplete) {
+            onMissing(filename, locators);
+        }
+        return null;
+    }
+
+    /**
+     * <p>Tries to find an asset as a buffer from any of the {@link AssetLocator} registered</p>
+     */
+    private ByteBuffer findBuffer(String filename) {
+        final Registration[] locators = mLocators;
+
+        if (isMissing(filename)) {
+            return null;
+        }
+        boolean isComplete = true;
+
+        for (final Registration registration : locators) {
+            final AssetLocator locator = registration.mLocator;
+
+            //!
+            //! Locate the asset on those locator which support synchronous request(s) (and may contain it).
+            //!
+            if (!locator.isSynchronousSupported()) {
+                isComplete = false;
+            } else if (locator.contains(filename)) {
+                try {
+                    final ByteBuffer input = locator.locateBuffer(filename);
+
+                    if (input != null) {
+                        return input;
+                    }
+                } catch (IllegalStateException exception) {
+                    LOGGER.warn("Failed to locate Asset '{}': {}", filename, exception.getMessage()); /* WARNING */
+
+                    isComplete = false;
                 }
             }
         }
-        return input;
+
+        if (isComplete) {
+            onMissing(filename, locators);
+        }
+        return null;
     }
 
     /**
@@ -145,43 +456,124 @@ public final class DefaultAssetManager implements AssetManager {
         //!
         //! Hold all locator(s) being used.
         //!
-        final Iterator<AssetLocator> locators = mLocators.values().iterator();
+        final Registration[] locators = mLocators;
+
+        if (isMissing(filename)) {
+            callback.onFail();
+            return null;
+        }
 
         //!
         //! An internal callback to do async-re-entry execution.
         //!
-        final AssetCallback entry = new AssetCallback<InputStream>() {
+        final AssetCallback<InputStream> entry = new AssetCallback<InputStream>() {
+            private int mIndex = 0;
+            private boolean mComplete = true;
+            private boolean mDone = false;
+
             @Override
             public void onFail() {
-                if (locators.hasNext()) {
-                    locators.next().locate(filename, this);
-                } else {
-                    callback.onFail();
+                while (mIndex < locators.length) {
+                    final AssetLocator locator = locators[mIndex++].mLocator;
+
+                    if (locator.contains(filename)) {
+                        try {
+                            locator.locate(filename, this);
+                            return;
+                        } catch (IllegalStateException exception) {
+                            //!
+                            //! NOTE: Any failure after the request has completed (e.g from the callback) isn't
+                            //!       a failure of the locator.
+                            //!
+                            if (mDone) {
+                                throw exception;
+                            }
+                            LOGGER.warn("Failed to locate Asset '{}': {}",
+                                    filename, exception.getMessage()); /* WARNING */
+
+                            mComplete = false;
+                        }
+                    }
                 }
+                mDone = true;
+
+                if (mComplete) {
+                    onMissing(filename, locators);
+                }
+                callback.onFail();
             }
 
             @Override
             public void onSuccess(InputStream asset) {
+                mDone = true;
+
                 callback.onSuccess(asset);
             }
         };
 
-        if (locators.hasNext()) {
-            //!
-            //! Execute the first locator (if valid).
-            //!
-            locators.next().locate(filename, entry);
-        }
+        //!
+        //! Execute the first locator (that may contain the asset).
+        //!
+        entry.onFail();
         return null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(String filename) {
+        synchronized (mMissing) {
+            mMissing.remove(filename);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        synchronized (mMissing) {
+            mMissing.clear();
+        }
+    }
+
+    /**
+     * <p>Check if the given asset has been remembered as missing</p>
+     */
+    private boolean isMissing(String filename) {
+        synchronized (mMissing) {
+            final Long time = mMissing.get(filename);
+
+            if (time == null) {
+                return false;
+            }
+            if (System.nanoTime() - time > MISSING_TIME) {
+                mMissing.remove(filename);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * <p>Remember the given asset as missing (unless the locator(s) searched have changed meanwhile)</p>
+     */
+    private void onMissing(String filename, Registration[] locators) {
+        synchronized (mMissing) {
+            if (mLocators == locators) {
+                mMissing.put(filename, System.nanoTime());
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public <A> A get(String filename) {
-        final AssetKey<A, ?> key = (AssetKey<A, ?>) mCache.get(filename);
-        return key != null ? key.getAsset() : null;
+        final AssetKey<A, ?> key = getCompleted(filename);
+        return key != null && !key.isReleased() ? key.getAsset() : null;
     }
 
     /**
@@ -204,23 +596,48 @@ public final class DefaultAssetManager implements AssetManager {
      * {@inheritDoc}
      */
     @Override
-    public synchronized <A, B extends AssetDescriptor> A load(String filename, B descriptor) {
-        AssetKey<A, B> key = loadAssetFromCache(filename, descriptor);
+    public <A, B extends AssetDescriptor> A load(String filename, B descriptor) {
+        onRecord(filename);
 
-        if (key == null) {
-            final InputStream input = find(filename);
+        if (!descriptor.isCacheable()) {
+            final AssetKey<A, B> key = loadAsset(filename, descriptor);
+            return (key != null ? key.getAsset() : null);
+        }
 
-            if (input != null) {
-                key = loadAssetFrom(filename, descriptor, input);
+        while (true) {
+            final CompletableFuture<AssetKey<?, ?>> future = new CompletableFuture<>();
+            final CompletableFuture<AssetKey<?, ?>> existing = mCache.putIfAbsent(filename, future);
 
-            } else {
-                LOGGER.warn("Failed to find Asset '{}'", filename); /* WARNING */
+            //!
+            //! Load the asset if there isn't any load in flight.
+            //!
+            if (existing == null) {
+                final AssetKey<A, B> key = loadAssetInto(filename, future, () -> loadAsset(filename, descriptor));
+                return (key != null ? key.getAsset() : null);
+            }
 
-                Emulation.forEach(
-                        mListeners, (listener) -> listener.onAssetFailed(filename)); /* NOTIFY */
+            //!
+            //! Join the load in flight (or completed).
+            //!
+            //! NOTE: The decode of the load in flight may still be queued on the service (e.g when called from one of
+            //!       its task(s)), therefore wait through the service so that it executes its task(s) meanwhile.
+            //!
+            mService.join(existing);
+
+            final AssetKey<A, B> key = (AssetKey<A, B>) existing.join();
+
+            if (key == null) {
+                return null;
             }
+            if (onAcquire(filename, key)) {
+                return key.getAsset();
+            }
+
+            //!
+            //! NOTE: The asset has been disposed concurrently, therefore load it again.
+            //!
+            mCache.remove(filename, existing);
         }
-        return (key != null ? key.getAsset() : null);
     }
 
     /**
@@ -228,141 +645,922 @@ public final class DefaultAssetManager implements AssetManager {
      */
     @Override
     public <A, B extends AssetDescriptor> A loadAsynchronous(String filename, B descriptor, AssetCallback<A> callback) {
-        AssetKey<A, B> key = loadAssetFromCache(filename, descriptor);
+        onRecord(filename);
 
-        if (key == null) {
-            mService.execute(() -> find(filename, new AssetCallback<InputStream>() {
-                @Override
-                public void onFail() {
-                    LOGGER.warn("Failed to find Asset '{}'", filename); /* WARNING */
+        if (descriptor.isCacheable()) {
+            final AssetKey<A, B> key = getCompleted(filename);
 
-                    Emulation.forEach(
-                            mListeners, (listener) -> listener.onAssetFailed(filename)); /* NOTIFY */
+            if (key != null && onAcquire(filename, key)) {
+                return key.getAsset();
+            }
+        }
+        mReader.execute(() -> onLoadAsynchronous(filename, descriptor, callback));
 
-                    callback.onFail();
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CompletableFuture<InputStream> findAsynchronous(String filename) {
+        final CompletableFuture<InputStream> request = new CompletableFuture<>();
+
+        mReader.execute(() -> {
+            //!
+            //! NOTE: Stop a cancelled request before any I/O.
+            //!
+            if (request.isCancelled()) {
+                return;
+            }
+
+            find(filename, new AssetCallback<InputStream>() {
+                @Override
+                public void onFail() {
+                    request.completeExceptionally(new IllegalStateException("Failed to find Asset '" + filename + "'"));
                 }
 
                 @Override
                 public void onSuccess(InputStream asset) {
-                    final AssetKey<A, B> asyncKey = loadAssetFrom(filename, descriptor, asset);
-
-                    if (asyncKey != null) {
-                        callback.onSuccess(asyncKey.getAsset());
-                    } else {
-                        callback.onFail();
+                    if (!request.complete(asset)) {
+                        try {
+                            asset.close();
+                        } catch (IOException exception) {
+                            LOGGER.warn(exception.getMessage()); /* WARNING */
+                        }
                     }
                 }
-            }));
-        }
-        return (key != null ? key.getAsset() : null);
+            });
+        });
+        return request;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public <A> void unload(A asset) {
-        unload(mCacheNames.get(asset));
+    public <A> CompletableFuture<A> loadAsynchronous(String filename) {
+        return loadAsynchronous(filename, DEFAULT_DESCRIPTOR);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public synchronized void unload(String filename) {
-        final AssetKey<?, ?> key = mCache.get(filename);
+    public <A, B extends AssetDescriptor> CompletableFuture<A> loadAsynchronous(String filename, B descriptor) {
+        final CompletableFuture<A> request = new CompletableFuture<>();
 
-        if (key != null && key.release()) {
-            mCache.remove(filename);
-            mCacheNames.remove(key.getAsset());
+        onRecord(filename);
 
-            //!
-            //! Dispose and remove a reference to each dependency of the asset.
-            //!
-            Emulation.forEach(key.getDependencies(), this::unload);
+        if (descriptor.isCacheable()) {
+            final AssetKey<A, B> key = getCompleted(filename);
 
+            if (key != null && onAcquire(filename, key)) {
+                request.complete(key.getAsset());
+                return request;
+            }
+        }
+
+        mReader.execute(() -> {
             //!
-            //! Notify the asset has been disposed.
+            //! NOTE: Stop a cancelled request before any I/O.
             //!
-            Emulation.forEach(mListeners, (listener) -> listener.onAssetDisposed(filename));
-        }
+            if (request.isCancelled()) {
+                return;
+            }
+
+            onLoadAsynchronous(filename, descriptor, new AssetCallback<A>() {
+                @Override
+                public void onFail() {
+                    request.completeExceptionally(new IllegalStateException("Failed to load Asset '" + filename + "'"));
+                }
+
+                @Override
+                public void onSuccess(A asset) {
+                    //!
+                    //! Release the asset if the request has been cancelled meanwhile.
+                    //!
+                    if (!request.complete(asset)) {
+                        onRelease(filename, descriptor, asset);
+                    }
+                }
+            });
+        });
+        return request;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    public void unloadAll() {
-        Emulation.forEach(mCache.values(), AssetKey::dispose);
+    public AssetGroup loadGroup(String... filenames) {
+        return loadGroup(DEFAULT_DESCRIPTOR, filenames);
+    }
 
-        mCache.clear();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AssetGroup loadGroup(AssetDescriptor descriptor, String... filenames) {
+        final Map<String, CompletableFuture<?>> requests = new LinkedHashMap<>();
 
-        mCacheNames.clear();
+        for (final String filename : filenames) {
+            requests.put(filename, loadAsynchronous(filename, descriptor));
+        }
+        return new AssetGroup(requests);
     }
 
     /**
-     * <p>Request an asset from an {@link InputStream}</p>
+     * {@inheritDoc}
      */
-    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetFrom(String filename, B descriptor, InputStream input) {
-        AssetKey<A, B> key = null;
+    @Override
+    public <A, B extends AssetDescriptor> List<A> loadAll(List<String> filenames, B descriptor) {
+        final List<CompletableFuture<A>> requests = new ArrayList<>(filenames.size());
 
         //!
-        //! Find the extension of the file efficiently.
+        //! Load every asset (but the first) as a task, and the first one on the calling thread.
         //!
-        final String extension = filename.replaceAll("^.*\\.([^.]+)$", "$1").toLowerCase();
+        for (int i = 1; i < filenames.size(); ++i) {
+            final String filename = filenames.get(i);
 
-        //!
-        //! Tries to find a suitable AssetLoader for the given extension.
-        //!
-        final AssetLoader<A, B> loader = (AssetLoader<A, B>) mLoaders.get(extension);
+            requests.add(CompletableFuture.supplyAsync(() -> load(filename, descriptor), mService));
+        }
 
-        if (loader != null) {
-            try {
-                LOGGER.info("Loading asset '{}'", filename); /* INFO */
+        final List<A> assets = new ArrayList<>(filenames.size());
 
-                loader.load(DefaultAssetManager.this, key = new AssetKey<>(filename, descriptor), input);
+        if (!filenames.isEmpty()) {
+            assets.add(load(filenames.get(0), descriptor));
+        }
 
-                //!
-                //! Check if we should close the descriptor or not.
-                //!
-                if (descriptor.isCloseable()) {
-                    try {
-                        input.close();
-                    } catch (IOException exception) {
-                        LOGGER.warn(exception.getMessage()); /* WARNING */
-                    }
-                }
+        //!
+        //! NOTE: The service may execute task(s) while waiting (e.g when called from a task of the same service).
+        //!
+        for (final CompletableFuture<A> request : requests) {
+            mService.join(request);
 
-                //!
-                //! Check if the asset can be cached.
-                //!
-                if (descriptor.isCacheable()) {
-                    mCache.put(filename, key);
-                    mCacheNames.put(key.getAsset(), filename);
-                }
+            assets.add(request.join());
+        }
+        return assets;
+    }
 
-                Emulation.forEach(
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <A> void unload(A asset) {
+        final String filename = (asset != null ? mCacheNames.get(asset) : null);
+
+        if (filename != null) {
+            unload(filename);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unload(String filename) {
+        final CompletableFuture<AssetKey<?, ?>> future = mCache.get(filename);
+        final AssetKey<?, ?> key = (future != null ? future.getNow(null) : null);
+
+        if (key != null && key.release()) {
+            final long time = System.nanoTime();
+            boolean isRetained = false;
+
+            //!
+            //! Keep the asset (if it fit(s) within the budget) rather than disposing it.
+            //!
+            synchronized (mReleased) {
+                if (mReleaseSize > 0L && mReleaseTime > 0L && key.getSize() <= mReleaseSize
+                        && key.isReleased() && !key.isExpired()) {
+                    final Released previous = mReleased.put(filename, new Released(filename, key, time));
+
+                    //!
+                    //! NOTE: The key may have been revived and released again concurrently.
+                    //!
+                    if (previous == null || previous.mKey != key) {
+                        mReleasedSize += key.getSize();
+                    }
+                    isRetained = true;
+                }
+            }
+
+            if (isRetained) {
+                onTrim(time);
+            } else if (key.expire()) {
+                onDispose(filename, key);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unloadAll() {
+        for (final CompletableFuture<AssetKey<?, ?>> future : mCache.values()) {
+            final AssetKey<?, ?> key = future.getNow(null);
+
+            if (key != null) {
+                key.dispose();
+            }
+        }
+
+        mCache.clear();
+
+        mCacheNames.clear();
+
+        synchronized (mReleased) {
+            mReleased.clear();
+            mReleasedSize = 0L;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setAssetCache(AssetCache cache) {
+        mAssetCache = cache;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setReleaseBudget(long size, double time) {
+        synchronized (mReleased) {
+            mReleaseSize = size;
+            mReleaseTime = (long) (time * 1.0E9);
+        }
+        onTrim(System.nanoTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void beginRecording(String scene) {
+        mRecording = new Recording(scene, System.nanoTime());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AssetManifest endRecording() {
+        final Recording recording = mRecording;
+
+        if (recording == null) {
+            return null;
+        }
+        mRecording = null;
+
+        final List<AssetManifest.Entry> entries = new ArrayList<>();
+
+        synchronized (recording) {
+            for (final Map.Entry<String, Double> entry : recording.mEntries.entrySet()) {
+                entries.add(new AssetManifest.Entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        return new AssetManifest(recording.mScene, entries);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void prefetch(AssetManifest manifest, int concurrency, long size) {
+        final Prefetch prefetch = (manifest != null ? new Prefetch(manifest, Math.max(1, concurrency), size) : null);
+
+        mPrefetch = prefetch;
+
+        if (prefetch != null) {
+            onPrefetch(prefetch);
+        }
+    }
+
+    /**
+     * <p>Record the request of an asset (if recording)</p>
+     */
+    private void onRecord(String filename) {
+        final Recording recording = mRecording;
+
+        if (recording != null) {
+            final double time = (System.nanoTime() - recording.mTime) / 1.0E9;
+
+            synchronized (recording) {
+                if (!recording.mEntries.containsKey(filename)) {
+                    recording.mEntries.put(filename, time);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Read ahead the next asset(s) of a prefetch, as long as it's within its concurrency and memory bound(s)</p>
+     */
+    private void onPrefetch(Prefetch prefetch) {
+        final List<String> filenames = new ArrayList<>();
+
+        synchronized (prefetch) {
+            while (mPrefetch == prefetch && prefetch.mEntries.hasNext()
+                    && prefetch.mReading + filenames.size() < prefetch.mConcurrency
+                    && prefetch.mResident < prefetch.mSize) {
+                final String filename = prefetch.mEntries.next().getFilename();
+
+                //!
+                //! NOTE: An asset that has been requested (or read ahead) already is skipped.
+                //!
+                if (!mCache.containsKey(filename) && !prefetch.mBuffers.containsKey(filename)
+                        && !filenames.contains(filename)) {
+                    filenames.add(filename);
+                }
+            }
+            prefetch.mReading += filenames.size();
+        }
+
+        for (final String filename : filenames) {
+            mReader.execute(() -> onPrefetchRead(prefetch, filename));
+        }
+    }
+
+    /**
+     * <p>Read ahead an asset of a prefetch</p>
+     */
+    private void onPrefetchRead(Prefetch prefetch, String filename) {
+        if (mPrefetch != prefetch) {
+            onPrefetchComplete(prefetch, filename, null);
+            return;
+        }
+        final ByteBuffer input = findBuffer(filename);
+
+        if (input != null) {
+            onPrefetchComplete(prefetch, filename, input);
+            return;
+        }
+
+        find(filename, new AssetCallback<InputStream>() {
+            @Override
+            public void onFail() {
+                onPrefetchComplete(prefetch, filename, null);
+            }
+
+            @Override
+            public void onSuccess(InputStream asset) {
+                ByteBuffer content = null;
+
+                try {
+                    content = onRead(asset);
+                } catch (IOException exception) {
+                    LOGGER.warn(exception.getMessage()); /* WARNING */
+                }
+                onPrefetchComplete(prefetch, filename, content);
+            }
+        });
+    }
+
+    /**
+     * <p>Handle when an asset of a prefetch has been read ahead (or has failed)</p>
+     */
+    private void onPrefetchComplete(Prefetch prefetch, String filename, ByteBuffer content) {
+        synchronized (prefetch) {
+            prefetch.mReading--;
+
+            //!
+            //! NOTE: The content is discarded if the prefetch has been cancelled or the asset has been requested
+            //!       meanwhile.
+            //!
+            if (content != null && mPrefetch == prefetch && !mCache.containsKey(filename)) {
+                prefetch.mBuffers.put(filename, content);
+                prefetch.mResident += content.remaining();
+            }
+        }
+        onPrefetch(prefetch);
+    }
+
+    /**
+     * <p>Take the content of an asset that has been read ahead (if any)</p>
+     */
+    private ByteBuffer onTake(String filename) {
+        final Prefetch prefetch = mPrefetch;
+
+        if (prefetch == null) {
+            return null;
+        }
+        final ByteBuffer content;
+
+        synchronized (prefetch) {
+            content = prefetch.mBuffers.remove(filename);
+
+            if (content != null) {
+                prefetch.mResident -= content.remaining();
+            }
+        }
+
+        if (content != null) {
+            onPrefetch(prefetch);
+        }
+        return content;
+    }
+
+    /**
+     * <p>Acquire the key of a cacheable asset, reviving it if it has been released (but not disposed)</p>
+     */
+    private boolean onAcquire(String filename, AssetKey<?, ?> key) {
+        if (key.acquire()) {
+            return true;
+        }
+
+        synchronized (mReleased) {
+            if (key.revive()) {
+                final Released released = mReleased.get(filename);
+
+                if (released != null && released.mKey == key) {
+                    mReleased.remove(filename);
+                    mReleasedSize -= key.getSize();
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Dispose every released asset that exceed(s) the budget or whose grace period has expired</p>
+     */
+    private void onTrim(long time) {
+        final List<Released> expired = new ArrayList<>();
+
+        synchronized (mReleased) {
+            final Iterator<Released> iterator = mReleased.values().iterator();
+
+            while (iterator.hasNext()) {
+                final Released released = iterator.next();
+
+                //!
+                //! NOTE: The released asset(s) are ordered from the least recently released.
+                //!
+                if (mReleasedSize <= mReleaseSize && time - released.mTime < mReleaseTime) {
+                    break;
+                }
+                iterator.remove();
+
+                mReleasedSize -= released.mKey.getSize();
+
+                if (released.mKey.expire()) {
+                    expired.add(released);
+                }
+            }
+        }
+
+        for (final Released released : expired) {
+            onDispose(released.mFilename, released.mKey);
+        }
+    }
+
+    /**
+     * <p>Dispose a cacheable asset that has been expired</p>
+     */
+    private void onDispose(String filename, AssetKey<?, ?> key) {
+        final CompletableFuture<AssetKey<?, ?>> future = mCache.get(filename);
+
+        if (future != null && future.getNow(null) == key) {
+            mCache.remove(filename, future);
+        }
+
+        if (key.getAsset() != null) {
+            mCacheNames.remove(key.getAsset());
+        }
+        key.dispose();
+
+        //!
+        //! Dispose and remove a reference to each dependency of the asset.
+        //!
+        Emulation.forEach(key.getDependencies(), this::unload);
+
+        //!
+        //! Notify the asset has been disposed.
+        //!
+        Emulation.forEach(mListeners, (listener) -> listener.onAssetDisposed(filename));
+    }
+
+    /**
+     * <p>Load an asset (asynchronously)</p>
+     * <p>
+     * NOTE: The future of a cacheable asset is created by the task (rather than by the caller), so that every
+     * future in flight is owned by a task being executed. The future is completed once decoded, while the callback
+     * of the request is called once uploaded (on the render thread, if the asset require(s) an upload).
+     */
+    private <A, B extends AssetDescriptor> void onLoadAsynchronous(
+            String filename, B descriptor, AssetCallback<A> callback) {
+        final CompletableFuture<AssetKey<?, ?>> future = new CompletableFuture<>();
+
+        if (descriptor.isCacheable()) {
+            final CompletableFuture<AssetKey<?, ?>> existing = mCache.putIfAbsent(filename, future);
+
+            //!
+            //! Join the load in flight (or completed) without blocking.
+            //!
+            if (existing != null) {
+                existing.thenAccept(key -> {
+                    if (key == null) {
+                        callback.onFail();
+                    } else if (onAcquire(filename, key)) {
+                        callback.onSuccess(((AssetKey<A, B>) key).getAsset());
+                    } else {
+                        mCache.remove(filename, existing);
+                        mReader.execute(() -> onLoadAsynchronous(filename, descriptor, callback));
+                    }
+                });
+                return;
+            }
+        }
+
+        final boolean isBuffer = isBufferSupported(filename, descriptor);
+
+        //!
+        //! Decode the asset straight away if it has been read ahead.
+        //!
+        final ByteBuffer prefetched = onTake(filename);
+
+        if (prefetched != null) {
+            final Supplier<AssetKey<A, B>> task = (isBuffer
+                    ? () -> loadAssetFrom(filename, descriptor, prefetched)
+                    : () -> loadAssetFrom(filename, descriptor, new BufferInputStream(prefetched)));
+
+            mService.execute(() -> onDecodeAsynchronous(filename, descriptor, future, task, callback));
+            return;
+        }
+
+        if (isBuffer) {
+            final ByteBuffer input = findBuffer(filename);
+
+            if (input != null) {
+                mService.execute(() -> onDecodeAsynchronous(filename, descriptor, future,
+                        () -> loadAssetFrom(filename, descriptor, input), callback));
+                return;
+            }
+        }
+
+        find(filename, new AssetCallback<InputStream>() {
+            @Override
+            public void onFail() {
+                LOGGER.warn("Failed to find Asset '{}'", filename); /* WARNING */
+
+                Emulation.forEach(
+                        mListeners, (listener) -> listener.onAssetFailed(filename)); /* NOTIFY */
+
+                loadAssetInto(filename, future, () -> null);
+
+                callback.onFail();
+            }
+
+            @Override
+            public void onSuccess(InputStream asset) {
+                final Supplier<AssetKey<A, B>> task;
+
+                //!
+                //! Read the asset into memory (unless the asset is streamed), so that the decode never block(s).
+                //!
+                try {
+                    if (isBuffer) {
+                        final ByteBuffer input = onRead(asset);
+
+                        task = () -> loadAssetFrom(filename, descriptor, input);
+                    } else {
+                        final InputStream input
+                                = (descriptor.isCloseable() ? new BufferInputStream(onRead(asset)) : asset);
+
+                        task = () -> loadAssetFrom(filename, descriptor, input);
+                    }
+                } catch (IOException exception) {
+                    LOGGER.warn(exception.getMessage()); /* WARNING */
+
+                    Emulation.forEach(
+                            mListeners, (listener) -> listener.onAssetFailed(filename)); /* NOTIFY */
+
+                    loadAssetInto(filename, future, () -> null);
+
+                    callback.onFail();
+                    return;
+                }
+
+                mService.execute(() -> onDecodeAsynchronous(filename, descriptor, future, task, callback));
+            }
+        });
+    }
+
+    /**
+     * <p>Decode an asset (asynchronously)</p>
+     */
+    private <A, B extends AssetDescriptor> void onDecodeAsynchronous(String filename, B descriptor,
+            CompletableFuture<AssetKey<?, ?>> future, Supplier<AssetKey<A, B>> task, AssetCallback<A> callback) {
+        final AssetKey<A, B> key = (descriptor.isCacheable() ? loadAssetInto(filename, future, task) : task.get());
+
+        if (key != null) {
+            loadAssetUpload(filename, key, () -> callback.onSuccess(key.getAsset()));
+        } else {
+            callback.onFail();
+        }
+    }
+
+    /**
+     * <p>Read the entire content of the given {@link InputStream} into memory, closing it</p>
+     */
+    private static ByteBuffer onRead(InputStream input) throws IOException {
+        try {
+            return BufferInputStream.readFully(input);
+        } finally {
+            input.close();
+        }
+    }
+
+    /**
+     * <p>Request an asset (synchronously)</p>
+     */
+    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAsset(String filename, B descriptor) {
+        final Supplier<AssetKey<A, B>> task;
+        final ByteBuffer prefetched = onTake(filename);
+
+        if (isBufferSupported(filename, descriptor)) {
+            final ByteBuffer input = (prefetched != null ? prefetched : findBuffer(filename));
+
+            task = (input != null ? () -> loadAssetFrom(filename, descriptor, input) : null);
+        } else {
+            final InputStream input = (prefetched != null ? new BufferInputStream(prefetched) : find(filename));
+
+            task = (input != null ? () -> loadAssetFrom(filename, descriptor, input) : null);
+        }
+
+        if (task == null) {
+            LOGGER.warn("Failed to find Asset '{}'", filename); /* WARNING */
+
+            Emulation.forEach(
+                    mListeners, (listener) -> listener.onAssetFailed(filename)); /* NOTIFY */
+            return null;
+        }
+        final AssetKey<A, B> key = task.get();
+
+        if (key != null) {
+            loadAssetUpload(filename, key, null);
+        }
+        return key;
+    }
+
+    /**
+     * <p>Upload an asset that has been decoded (if its loader require(s) it)</p>
+     *
+     * @param then the task to execute once uploaded (optional)
+     */
+    private <A, B extends AssetDescriptor> void loadAssetUpload(String filename, AssetKey<A, B> key, Runnable then) {
+        final AssetLoader<A, B> loader = getLoader(filename);
+
+        if (loader == null || (loader.getStages() & AssetLoader.STAGE_UPLOAD) == 0) {
+            if (then != null) {
+                then.run();
+            }
+            return;
+        }
+
+        Quark.QKRender.upload(() -> {
+            long size = 0L;
+
+            //!
+            //! NOTE: The asset may have been disposed before being uploaded.
+            //!
+            if (!key.isExpired()) {
+                try {
+                    size = loader.upload(key);
+                } catch (RuntimeException exception) {
+                    LOGGER.warn("Failed to upload Asset '{}': {}", filename, exception.getMessage()); /* WARNING */
+                }
+            }
+
+            if (then != null) {
+                then.run();
+            }
+            return size;
+        });
+    }
+
+    /**
+     * <p>Request an asset, completing the given future (owned by the caller) with it</p>
+     */
+    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetInto(String filename,
+            CompletableFuture<AssetKey<?, ?>> future, Supplier<AssetKey<A, B>> task) {
+        AssetKey<A, B> key = null;
+
+        try {
+            key = task.get();
+        } finally {
+            //!
+            //! NOTE: The future is always completed, otherwise any request joining it will never return.
+            //!
+            if (key != null) {
+                if (key.getAsset() != null) {
+                    mCacheNames.put(key.getAsset(), filename);
+                }
+            } else {
+                mCache.remove(filename, future);
+            }
+            future.complete(key);
+        }
+        return key;
+    }
+
+    /**
+     * <p>Get the key of a cacheable asset that has been loaded</p>
+     */
+    private <A, B extends AssetDescriptor> AssetKey<A, B> getCompleted(String filename) {
+        final CompletableFuture<AssetKey<?, ?>> future = mCache.get(filename);
+
+        return (future != null ? (AssetKey<A, B>) future.getNow(null) : null);
+    }
+
+    /**
+     * <p>Request an asset from an {@link InputStream}</p>
+     */
+    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetFrom(String filename, B descriptor, InputStream input) {
+        return loadAssetWith(filename, descriptor, (loader, key) -> {
+            loader.load(DefaultAssetManager.this, key, input);
+
+            //!
+            //! Check if we should close the descriptor or not.
+            //!
+            if (descriptor.isCloseable()) {
+                try {
+                    input.close();
+                } catch (IOException exception) {
+                    LOGGER.warn(exception.getMessage()); /* WARNING */
+                }
+            }
+        });
+    }
+
+    /**
+     * <p>Request an asset from a {@link ByteBuffer}</p>
+     */
+    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetFrom(
+            String filename, B descriptor, ByteBuffer input) {
+        return loadAssetWith(filename, descriptor, (loader, key) -> {
+            final AssetCache cache = mAssetCache;
+
+            if (cache == null || loader.getVersion() == 0) {
+                loader.load(DefaultAssetManager.this, key, input);
+                return;
+            }
+            final String name = getCacheName(filename, loader, descriptor, input);
+
+            //!
+            //! Restore the asset (if cached) rather than decoding it.
+            //!
+            final ByteBuffer content = cache.find(name);
+
+            if (content != null) {
+                try {
+                    loader.restore(DefaultAssetManager.this, key, content);
+                    return;
+                } catch (IOException exception) {
+                    LOGGER.warn("Failed to restore Asset '{}': {}", filename, exception.getMessage()); /* WARNING */
+                }
+            }
+
+            //!
+            //! Decode the asset and save it (before being uploaded, which may deallocate its content).
+            //!
+            loader.load(DefaultAssetManager.this, key, input);
+
+            final ByteBuffer output = loader.save(key);
+
+            if (output != null) {
+                cache.store(name, output);
+            }
+        });
+    }
+
+    /**
+     * <p>Request an asset using the given task</p>
+     */
+    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetWith(
+            String filename, B descriptor, Task<A, B> task) {
+        AssetKey<A, B> key = null;
+
+        //!
+        //! Tries to find a suitable AssetLoader for the given extension.
+        //!
+        final AssetLoader<A, B> loader = getLoader(filename);
+
+        if (loader != null) {
+            try {
+                LOGGER.info("Loading asset '{}'", filename); /* INFO */
+
+                task.load(loader, key = new AssetKey<>(filename, descriptor));
+
+                key.setSize(loader.getSize(key));
+
+                Emulation.forEach(
                         mListeners, (listener) -> listener.onAssetLoaded(filename)); /* NOTIFY */
             } catch (IOException exception) {
                 LOGGER.warn(exception.getMessage()); /* WARNING */
 
                 Emulation.forEach(
                         mListeners, (listener) -> listener.onAssetFailed(filename)); /* NOTIFY */
+
+                key = null;
             }
         }
         return key;
     }
 
     /**
-     * <p>Request an asset from the cache</p>
+     * <p>Release an asset that has been loaded for a request that has been cancelled</p>
+     */
+    private <A, B extends AssetDescriptor> void onRelease(String filename, B descriptor, A asset) {
+        if (descriptor.isCacheable()) {
+            unload(filename);
+        } else if (asset instanceof Disposable) {
+            ((Disposable) asset).dispose();
+        }
+    }
+
+    /**
+     * <p>Check if the loader of the given asset prefer(s) to load it from a buffer</p>
      */
-    private <A, B extends AssetDescriptor> AssetKey<A, B> loadAssetFromCache(String filename, B descriptor) {
-        final AssetKey<A, B> key = descriptor.isCacheable() ? (AssetKey<A, B>) mCache.get(filename) : null;
+    private <B extends AssetDescriptor> boolean isBufferSupported(String filename, B descriptor) {
+        final AssetLoader<?, B> loader = getLoader(filename);
 
-        if (key != null) {
-            key.acquire();
+        return (loader != null && loader.isBufferSupported(descriptor));
+    }
+
+    /**
+     * <p>Get the loader of the given asset (by its extension)</p>
+     * <p>
+     * NOTE: Every extension is registered in lower case, therefore the extension is only converted when the exact
+     * extension isn't registered.
+     */
+    private <A, B extends AssetDescriptor> AssetLoader<A, B> getLoader(String filename) {
+        final String extension = filename.substring(filename.lastIndexOf('.') + 1);
+        final AssetLoader<?, ?> loader = mLoaders.get(extension);
+
+        return (AssetLoader<A, B>) (loader != null ? loader : mLoaders.get(extension.toLowerCase()));
+    }
+
+    /**
+     * <p>Get the name of the content of an asset inside the {@link AssetCache}</p>
+     * <p>
+     * NOTE: The name is derived from the extension of the asset, the version of its loader, the content of its
+     * source and the signature of its descriptor.
+     */
+    private static <B extends AssetDescriptor> String getCacheName(
+            String filename, AssetLoader<?, B> loader, B descriptor, ByteBuffer input) {
+        return getExtension(filename)
+                + '-' + Integer.toHexString(loader.getVersion())
+                + '-' + Long.toHexString(hash(input))
+                + '-' + Integer.toHexString(loader.getSignature(descriptor).hashCode());
+    }
+
+    /**
+     * <p>Calculate the hash (64-bit) of the remaining content of the given buffer</p>
+     */
+    private static long hash(ByteBuffer buffer) {
+        final ByteBuffer input = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        long hash = 0xCBF29CE484222325L ^ input.remaining();
+
+        //!
+        //! Mix every word (then every remaining byte) of the content.
+        //!
+        while (input.remaining() >= 8) {
+            hash = Long.rotateLeft(hash ^ (input.getLong() * 0x9E3779B97F4A7C15L), 31) * 0xC2B2AE3D27D4EB4FL;
         }
-        return key;
+        while (input.hasRemaining()) {
+            hash = (hash ^ (input.get() & 0xFF)) * 0x100000001B3L;
+        }
+
+        //!
+        //! Avalanche the hash (to spread the last word(s) over every bit).
+        //!
+        hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+        hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * <p>Get the extension of the given filename</p>
+     */
+    private static String getExtension(String filename) {
+        final int index = filename.lastIndexOf('.');
+
+        return (index < 0 ? filename : filename.substring(index + 1)).toLowerCase();
+    }
+
+    /**
+     * Encapsulate the load of an asset from its content.
+     */
+    private interface Task<A, B extends AssetDescriptor> {
+        void load(AssetLoader<A, B> loader, AssetKey<A, B> key) throws IOException;
     }
 
     /**
@@ -370,5 +1568,25 @@ public final class DefaultAssetManager implements AssetManager {
      */
     public interface Service extends Executor {
         void shutdown();
+
+        /**
+         * <p>Wait until the given future has completed</p>
+         * <p>
+         * NOTE: A service may execute its task(s) while waiting, so that waiting from one of its task(s) never
+         * exhaust(s) the service.
+         *
+         * @param future the future to wait on
+         */
+        default void join(Future<?> future) {
+            try {
+                future.get();
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException exception) {
+                //!
+                //! NOTE: The failure is reported by the future itself.
+                //!
+            }
+        }
     }
 }
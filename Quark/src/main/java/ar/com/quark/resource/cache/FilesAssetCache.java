@@ -0,0 +1,194 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource.cache;
+
+import ar.com.quark.resource.AssetCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encapsulate an {@link AssetCache} that store(s) every content as a file of a directory, which is memory-mapped
+ * when found.
+ * <p>
+ * NOTE: Every content is written into a temporary file and then moved, therefore a content being stored concurrently
+ * (or a process that has been killed while storing it) never leave(s) a truncated content behind.
+ * <p>
+ * NOTE: The size of the directory is bounded, the least recently used content(s) (by modification time, which is
+ * refreshed whenever a content is found) are deleted when the cache is created until the directory fit(s) the size.
+ */
+public final class FilesAssetCache implements AssetCache {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>FilesAssetCache</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(FilesAssetCache.class);
+
+    /**
+     * Encapsulate the default size (in bytes) of the directory.
+     */
+    public final static long DEFAULT_SIZE = 512L * 1024L * 1024L;
+
+    private final Path mDirectory;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param directory the directory of the cache (created if it doesn't exist)
+     */
+    public FilesAssetCache(Path directory) {
+        this(directory, DEFAULT_SIZE);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param directory the directory of the cache (created if it doesn't exist)
+     * @param size      the maximum size (in bytes) of the directory
+     */
+    public FilesAssetCache(Path directory, long size) {
+        try {
+            mDirectory = Files.createDirectories(directory);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+        onPrune(size);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer find(String name) {
+        final Path file = mDirectory.resolve(name);
+
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+
+        try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            //!
+            //! NOTE: A mapping cannot be larger than 2GiB.
+            //!
+            if (channel.size() > Integer.MAX_VALUE) {
+                return null;
+            }
+            final ByteBuffer content = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+
+            //!
+            //! Mark the content as recently used (so that it's the last to be pruned).
+            //!
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+
+            return content;
+        } catch (IOException exception) {
+            LOGGER.warn(exception.getMessage()); /* WARNING */
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void store(String name, ByteBuffer content) {
+        Path temporary = null;
+
+        try {
+            temporary = Files.createTempFile(mDirectory, name, ".tmp");
+
+            try (final FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+                final ByteBuffer buffer = content.duplicate();
+
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temporary, mDirectory.resolve(name),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            LOGGER.warn("Failed to cache '{}': {}", name, exception.getMessage()); /* WARNING */
+
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    //!
+                    //! NOTE: The temporary file is left behind.
+                    //!
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Delete the least recently used content(s) until the directory fit(s) the given size</p>
+     */
+    private void onPrune(long size) {
+        final Map<Path, BasicFileAttributes> files = new HashMap<>();
+
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(mDirectory)) {
+            for (final Path file : stream) {
+                final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+
+                if (attributes.isRegularFile()) {
+                    files.put(file, attributes);
+                }
+            }
+        } catch (IOException exception) {
+            LOGGER.warn("Failed to prune the cache: {}", exception.getMessage()); /* WARNING */
+            return;
+        }
+
+        //!
+        //! Keep the most recently used content(s) that fit, deleting the rest.
+        //!
+        final List<Path> order = new ArrayList<>(files.keySet());
+        order.sort(Comparator.comparing((Path file) -> files.get(file).lastModifiedTime()).reversed());
+
+        long total = 0L;
+
+        for (final Path file : order) {
+            total += files.get(file).size();
+
+            if (total > size) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException exception) {
+                    //!
+                    //! NOTE: The content may be in use (e.g mapped by another process).
+                    //!
+                }
+            }
+        }
+    }
+}
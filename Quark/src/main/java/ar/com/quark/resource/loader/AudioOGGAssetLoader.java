@@ -33,6 +33,7 @@ import ar.com.quark.audio.factory.FactoryStreamingAudio;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -60,6 +61,56 @@ public final class AudioOGGAssetLoader implements AssetLoader<Audio, Audio.Descr
         key.setAsset(readAudio(key.getDescriptor(), input));
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: A streaming audio is read from its stream, so that it's never read entirely into memory.
+     */
+    @Override
+    public boolean isBufferSupported(Audio.Descriptor descriptor) {
+        return descriptor.isCloseable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSize(AssetKey<Audio, Audio.Descriptor> key) {
+        final Audio audio = key.getAsset();
+
+        return audio instanceof FactoryStaticAudio ? ((FactoryStaticAudio) audio).getData().capacity() : 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer save(AssetKey<Audio, Audio.Descriptor> key) {
+        final Audio audio = key.getAsset();
+
+        return audio instanceof FactoryStaticAudio ? CacheFormat.writeAudio((FactoryStaticAudio) audio) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(AssetManager manager, AssetKey<Audio, Audio.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        if (!key.getDescriptor().isCloseable()) {
+            throw new IOException("Trying to restore a streaming audio");
+        }
+        key.setAsset(CacheFormat.readAudio(input));
+    }
+
     /**
      * <p>Read an {@link Audio} from the {@link InputStream} given</p>
      *
@@ -24,12 +24,16 @@ import ar.com.quark.audio.factory.FactoryStaticAudio;
 import ar.com.quark.audio.factory.FactoryStreamingAudio;
 import ar.com.quark.resource.AssetKey;
 import ar.com.quark.resource.AssetLoader;
+import ar.com.quark.system.utility.BufferInputStream;
 import ar.com.quark.system.utility.array.Int8Array;
 import ar.com.quark.system.utility.array.ArrayFactory;
 
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * <code>AudioWAVEAssetLoader</code> encapsulate an {@link AssetLoader} for loading WAVE audio(s).
@@ -52,30 +56,97 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
     @Override
     public void load(AssetManager manager, AssetKey<Audio, Audio.Descriptor> key, InputStream input)
             throws IOException {
-        key.setAsset(readAudio(key.getDescriptor(), new DataInputStream(input)));
+        if (key.getDescriptor().isCloseable()) {
+            load(manager, key, BufferInputStream.readFully(input));
+        } else {
+            key.setAsset(readAudio(key.getDescriptor(), new DataInputStream(input)));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: A streaming audio is read from its stream, so that it's never read entirely into memory.
+     */
+    @Override
+    public boolean isBufferSupported(Audio.Descriptor descriptor) {
+        return descriptor.isCloseable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<Audio, Audio.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        try {
+            key.setAsset(readAudio(key.getDescriptor(), input.duplicate().order(ByteOrder.LITTLE_ENDIAN)));
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Trying to read a truncated <WAV> sound.", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSize(AssetKey<Audio, Audio.Descriptor> key) {
+        final Audio audio = key.getAsset();
+
+        return audio instanceof FactoryStaticAudio ? ((FactoryStaticAudio) audio).getData().capacity() : 0L;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer save(AssetKey<Audio, Audio.Descriptor> key) {
+        final Audio audio = key.getAsset();
+
+        return audio instanceof FactoryStaticAudio ? CacheFormat.writeAudio((FactoryStaticAudio) audio) : null;
     }
 
     /**
-     * <p>Read an {@link Audio} from the {@link InputStream} given</p>
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(AssetManager manager, AssetKey<Audio, Audio.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        if (!key.getDescriptor().isCloseable()) {
+            throw new IOException("Trying to restore a streaming audio");
+        }
+        key.setAsset(CacheFormat.readAudio(input));
+    }
+
+    /**
+     * <p>Read an {@link Audio} from the {@link ByteBuffer} given</p>
      *
-     * @param descriptor the texture descriptor
-     * @param input      the input-stream that contain(s) the audio
+     * @param descriptor the audio descriptor
+     * @param input      the buffer (little-endian) that contain(s) the audio
      *
      * @return the audio
      *
      * @throws IOException indicates failing loading the audio
      */
-    private Audio readAudio(Audio.Descriptor descriptor, DataInputStream input) throws IOException {
-        if (readIntLittleEndian(input) != 0x46464952) {
+    private Audio readAudio(Audio.Descriptor descriptor, ByteBuffer input) throws IOException {
+        if (input.getInt() != 0x46464952) {
             throw new IOException("Trying to read an invalid <WAV> sound.");
         }
 
         //!
         //! Skip the size of the audio.
         //!
-        input.skipBytes(0x04);
+        input.position(input.position() + 0x04);
 
-        if (readIntLittleEndian(input) != 0x45564157) {
+        if (input.getInt() != 0x45564157) {
             throw new IOException("Trying to read an empty <WAV> sound.");
         }
 
@@ -85,12 +156,12 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
         AudioHeader header = null;
 
         do {
-            final int type = readIntLittleEndian(input);
-            final int length = readIntLittleEndian(input);
+            final int type = input.getInt();
+            final int length = input.getInt();
 
             switch (type) {
                 case 0x20746D66:
-                    header = readHeader(input, length);
+                    header = readHeader(onSlice(input, length));
 
                     break;
                 case 0x61746164:
@@ -99,14 +170,11 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
                     }
                     header.mAudioDuration = (int) (((float) length / header.mAudioBlock) * 1000);
 
-                    if (descriptor.isCloseable()) {
-                        final Int8Array content = ArrayFactory.allocateInt8Array(length);
+                    final ByteBuffer data = onSlice(input, Math.min(length, input.remaining()));
 
-                        final byte[] read = new byte[1024];
-                        int bytesRead;
-                        while ((bytesRead = input.read(read)) > 0) {
-                            content.write(read, 0, Math.min(bytesRead, content.remaining()));
-                        }
+                    if (descriptor.isCloseable()) {
+                        final Int8Array content = ArrayFactory.allocateInt8Array(data.remaining());
+                        content.write(data);
                         content.flip();
 
                         return new FactoryStaticAudio(content, getUncompressedFormat(header),
@@ -114,11 +182,69 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
                                 header.mAudioRate);
                     } else {
 
-                        return new FactoryStreamingAudio(input, getUncompressedFormat(header),
+                        return new FactoryStreamingAudio(new BufferInputStream(data), getUncompressedFormat(header),
                                 header.mAudioDuration,
                                 header.mAudioRate);
                     }
                 default:
+                    input.position(input.position() + length);
+
+                    break;
+            }
+        } while (true);
+    }
+
+    /**
+     * <p>Read a streaming {@link Audio} from the {@link InputStream} given</p>
+     *
+     * @param descriptor the audio descriptor
+     * @param input      the input-stream that contain(s) the audio
+     *
+     * @return the audio
+     *
+     * @throws IOException indicates failing loading the audio
+     */
+    private Audio readAudio(Audio.Descriptor descriptor, DataInputStream input) throws IOException {
+        if (readIntLittleEndian(input) != 0x46464952) {
+            throw new IOException("Trying to read an invalid <WAV> sound.");
+        }
+
+        //!
+        //! Skip the size of the audio.
+        //!
+        input.skipBytes(0x04);
+
+        if (readIntLittleEndian(input) != 0x45564157) {
+            throw new IOException("Trying to read an empty <WAV> sound.");
+        }
+
+        //!
+        //! The header of the audio suppose to be the first chunk.
+        //!
+        AudioHeader header = null;
+
+        do {
+            final int type = readIntLittleEndian(input);
+            final int length = readIntLittleEndian(input);
+
+            switch (type) {
+                case 0x20746D66:
+                    final byte[] chunk = new byte[length];
+                    input.readFully(chunk);
+
+                    header = readHeader(ByteBuffer.wrap(chunk).order(ByteOrder.LITTLE_ENDIAN));
+
+                    break;
+                case 0x61746164:
+                    if (header == null) {
+                        throw new IOException("Missing <WAV> header.");
+                    }
+                    header.mAudioDuration = (int) (((float) length / header.mAudioBlock) * 1000);
+
+                    return new FactoryStreamingAudio(input, getUncompressedFormat(header),
+                            header.mAudioDuration,
+                            header.mAudioRate);
+                default:
 
                     if (input.skipBytes(length) <= 0) {
                         throw new IOException("Failed to read the <WAV> sound.");
@@ -130,26 +256,25 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
     }
 
     /**
-     * <p>Read audio header from the {@link DataInputStream} given</p>
+     * <p>Read audio header from the {@link ByteBuffer} given</p>
      *
-     * @param input  the input that contain(s) the header
-     * @param length the length of the header
+     * @param input the buffer (little-endian) that contain(s) the header (and only the header)
      *
      * @throws IOException indicates if the audio has invalid header
      */
-    private AudioHeader readHeader(DataInputStream input, int length) throws IOException {
+    private AudioHeader readHeader(ByteBuffer input) throws IOException {
         //!
         //! Check if we support the compression of the sound
         //!
-        if (readShortLittleEndian(input) != 0x01) {
+        if (input.getShort() != 0x01) {
             throw new IOException("Only PCM compression is supported.");
         }
 
-        final int hChannel = readShortLittleEndian(input);
-        final int hRate = readIntLittleEndian(input);
-        final int hBlock = readIntLittleEndian(input);
-        final int hBlockAlign = readShortLittleEndian(input);
-        final int hBit = readShortLittleEndian(input);
+        final int hChannel = input.getShort();
+        final int hRate = input.getInt();
+        final int hBlock = input.getInt();
+        final int hBlockAlign = input.getShort();
+        final int hBit = input.getShort();
 
         //!
         //! Check if the header is valid
@@ -170,14 +295,6 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
             throw new IOException("Invalid bytes per second value");
         }
 
-        //!
-        //! Some header are different.
-        //!
-        final int skip = length - 16;
-        if (skip > 0) {
-            input.skipBytes(skip);
-        }
-
         final AudioHeader header = new AudioHeader();
         header.mAudioBit = hBit;
         header.mAudioBlock = hBlock;
@@ -238,13 +355,14 @@ public final class AudioWAVAssetLoader implements AssetLoader<Audio, Audio.Descr
     }
 
     /**
-     * <b>Read a little endian short (Required for WAV format)</b>
+     * <p>Get a slice of the given buffer, skipping it</p>
      */
-    private int readShortLittleEndian(DataInputStream in) throws IOException {
-        final int b0 = in.readShort();
-        final int b1 = (b0 & 0xFF);
-        final int b2 = (b0 >> 8) & 0xFF;
+    private static ByteBuffer onSlice(ByteBuffer input, int length) {
+        final ByteBuffer slice = input.duplicate();
+        slice.limit(slice.position() + length);
+
+        input.position(slice.limit());
 
-        return (short) (b1 << 8 | b2 << 0);
+        return slice.slice().order(ByteOrder.LITTLE_ENDIAN);
     }
 }
@@ -0,0 +1,257 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource.loader;
+
+import ar.com.quark.audio.Audio;
+import ar.com.quark.audio.AudioFormat;
+import ar.com.quark.audio.factory.FactoryStaticAudio;
+import ar.com.quark.render.texture.*;
+import ar.com.quark.system.utility.array.ArrayFactory;
+import ar.com.quark.system.utility.array.Int8Array;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <code>CacheFormat</code> encapsulate the layout (little-endian) of the content of a decoded {@link Texture} or
+ * {@link Audio} saved into an {@link ar.com.quark.resource.AssetCache}.
+ * <p>
+ * A content is made of a header followed by the raw data (every layer of the image or the PCM of the audio), each
+ * one aligned to {@link #ALIGNMENT} byte(s), so that a memory-mapped content is wrapped rather than copied.
+ * <ul>
+ * <li>Texture: the type, the format, the width, the height and the depth of the image, the number of layers and
+ * for every layer the offset and the length of its data, its mip-map flag and the size of every image.</li>
+ * <li>Audio: the format, the duration, the rate, the offset and the length of its data.</li>
+ * </ul>
+ */
+final class CacheFormat {
+    /**
+     * Encapsulate the alignment (in bytes) of the data of a content.
+     */
+    private final static int ALIGNMENT = 16;
+
+    /**
+     * <p>Save a {@link Texture} that has been decoded</p>
+     *
+     * @param texture the texture (not uploaded yet)
+     *
+     * @return the content of the texture or <code>null</code> if any layer has no data
+     */
+    static ByteBuffer writeTexture(Texture texture) {
+        final Image image = texture.getImage();
+        final List<Image.Layer> layers = image.getLayer();
+
+        //!
+        //! Calculate the layout of the content.
+        //!
+        int header = 6 * 4;
+
+        for (final Image.Layer layer : layers) {
+            if (!layer.hasData()) {
+                return null;
+            }
+            header += 4 * 4 + 4 * layer.images.length;
+        }
+        int offset = onAlign(header);
+
+        final int[] offsets = new int[layers.size()];
+
+        for (int i = 0; i < offsets.length; ++i) {
+            offsets[i] = offset;
+            offset = onAlign(offset + layers.get(i).data.limit());
+        }
+
+        //!
+        //! Write the header and every layer.
+        //!
+        final ByteBuffer output = ByteBuffer.allocate(offset).order(ByteOrder.LITTLE_ENDIAN);
+        output.putInt(texture.getType().ordinal())
+                .putInt(image.getFormat().ordinal())
+                .putInt(image.getWidth())
+                .putInt(image.getHeight())
+                .putInt(image.getDepth())
+                .putInt(layers.size());
+
+        for (int i = 0; i < offsets.length; ++i) {
+            final Image.Layer layer = layers.get(i);
+
+            output.putInt(offsets[i]).putInt(layer.data.limit()).putInt(layer.mipmap ? 1 : 0)
+                    .putInt(layer.images.length);
+
+            for (final int size : layer.images) {
+                output.putInt(size);
+            }
+        }
+
+        for (int i = 0; i < offsets.length; ++i) {
+            final Int8Array data = layers.get(i).data;
+            final int position = data.position();
+
+            output.position(offsets[i]);
+
+            data.position(0);
+            data.read(output);
+            data.position(position);
+        }
+        output.clear();
+
+        return output;
+    }
+
+    /**
+     * <p>Restore a {@link Texture} that has been saved</p>
+     *
+     * @param descriptor the texture descriptor
+     * @param input      the content of the texture
+     *
+     * @return the texture (wrapping the content)
+     *
+     * @throws IOException indicates failing restoring the texture
+     */
+    static Texture readTexture(Texture.Descriptor descriptor, ByteBuffer input) throws IOException {
+        try {
+            final ByteBuffer buffer = input.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+            final TextureType type = TextureType.values()[buffer.getInt()];
+            final ImageFormat format = ImageFormat.values()[buffer.getInt()];
+            final int width = buffer.getInt();
+            final int height = buffer.getInt();
+            final int depth = buffer.getInt();
+            final int count = buffer.getInt();
+            final List<Image.Layer> layers = new ArrayList<>(count);
+
+            for (int layer = 0; layer < count; ++layer) {
+                final int offset = buffer.getInt();
+                final int length = buffer.getInt();
+                final boolean mipmap = buffer.getInt() != 0;
+                final int[] images = new int[buffer.getInt()];
+
+                for (int i = 0; i < images.length; ++i) {
+                    images[i] = buffer.getInt();
+                }
+                layers.add(new Image.Layer(onWrap(input, offset, length), images, mipmap, false));
+            }
+            final Image image = new Image(format, width, height, depth, layers);
+
+            switch (type) {
+                case TEXTURE_CUBE:
+                    return new Texture2DCube(
+                            descriptor.getFormat(),
+                            descriptor.getFilter(),
+                            descriptor.getBorderX(),
+                            descriptor.getBorderY(),
+                            descriptor.getBorderZ(), image);
+                case TEXTURE_3D:
+                    return new Texture3D(
+                            descriptor.getFormat(),
+                            descriptor.getFilter(),
+                            descriptor.getBorderX(),
+                            descriptor.getBorderY(),
+                            descriptor.getBorderZ(), image);
+                default:
+                    return new Texture2D(
+                            descriptor.getFormat(),
+                            descriptor.getFilter(),
+                            descriptor.getBorderX(),
+                            descriptor.getBorderY(), image);
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException exception) {
+            throw new IOException("Trying to restore a corrupted texture", exception);
+        }
+    }
+
+    /**
+     * <p>Save a {@link FactoryStaticAudio} that has been decoded</p>
+     *
+     * @param audio the audio (not uploaded yet)
+     *
+     * @return the content of the audio or <code>null</code> if the audio has no data
+     */
+    static ByteBuffer writeAudio(FactoryStaticAudio audio) {
+        final Int8Array data = audio.getData();
+
+        if (data == null) {
+            return null;
+        }
+        final int offset = onAlign(5 * 4);
+
+        final ByteBuffer output = ByteBuffer.allocate(offset + data.limit()).order(ByteOrder.LITTLE_ENDIAN);
+        output.putInt(audio.getFormat().ordinal())
+                .putInt(audio.getDuration())
+                .putInt(audio.getRate())
+                .putInt(offset)
+                .putInt(data.limit())
+                .position(offset);
+
+        final int position = data.position();
+
+        data.position(0);
+        data.read(output);
+        data.position(position);
+
+        output.clear();
+
+        return output;
+    }
+
+    /**
+     * <p>Restore a {@link FactoryStaticAudio} that has been saved</p>
+     *
+     * @param input the content of the audio
+     *
+     * @return the audio (wrapping the content)
+     *
+     * @throws IOException indicates failing restoring the audio
+     */
+    static FactoryStaticAudio readAudio(ByteBuffer input) throws IOException {
+        try {
+            final ByteBuffer buffer = input.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+            final AudioFormat format = AudioFormat.values()[buffer.getInt()];
+            final int duration = buffer.getInt();
+            final int rate = buffer.getInt();
+            final int offset = buffer.getInt();
+            final int length = buffer.getInt();
+
+            return new FactoryStaticAudio(onWrap(input, offset, length), format, duration, rate, false);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException exception) {
+            throw new IOException("Trying to restore a corrupted audio", exception);
+        }
+    }
+
+    /**
+     * <p>Wrap a region of the content (without copying it, when supported)</p>
+     */
+    private static Int8Array onWrap(ByteBuffer input, int offset, int length) {
+        final ByteBuffer duplicate = input.duplicate();
+        duplicate.limit(offset + length).position(offset);
+
+        return ArrayFactory.wrapInt8Array(duplicate.slice());
+    }
+
+    /**
+     * <p>Align an offset</p>
+     */
+    private static int onAlign(int offset) {
+        return (offset + ALIGNMENT - 1) & ~(ALIGNMENT - 1);
+    }
+}
@@ -24,10 +24,13 @@ import ar.com.quark.render.texture.Texture;
 import ar.com.quark.render.texture.TextureFormat;
 import ar.com.quark.resource.AssetKey;
 import ar.com.quark.resource.AssetLoader;
+import ar.com.quark.system.utility.BufferInputStream;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -55,9 +58,36 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
     @Override
     public void load(AssetManager manager, AssetKey<Font, Font.Descriptor> key, InputStream input)
             throws IOException {
-        final DataInputStream in = new DataInputStream(input);
+        load(manager, key, BufferInputStream.readFully(input));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBufferSupported(Font.Descriptor descriptor) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<Font, Font.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        try {
+            readFont(manager, key, input.duplicate().order(ByteOrder.LITTLE_ENDIAN));
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("<Font> is truncated", exception);
+        }
+    }
 
-        if (in.readByte() != 0x42 || in.readByte() != 0x4D || in.readByte() != 0x46) {
+    /**
+     * <p>Read a {@link Font} from the {@link ByteBuffer} (little-endian) given</p>
+     */
+    private void readFont(AssetManager manager, AssetKey<Font, Font.Descriptor> key, ByteBuffer in)
+            throws IOException {
+        if (in.get() != 0x42 || in.get() != 0x4D || in.get() != 0x46) {
             throw new IOException("<Font> contains an invalid header");
         }
 
@@ -71,17 +101,22 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
         //!
         final List<String> dependencies = parsePages(in, header);
 
-        final List<Texture> textures = new ArrayList<>(dependencies.size());
+        final List<String> absolutes = new ArrayList<>(dependencies.size());
 
         for (final String dependency : dependencies) {
             final String absolute = key.getFolder() + dependency;
 
             key.setDependency(absolute);
 
-            textures.add(manager.load(absolute,
-                    new Texture.Descriptor(TextureFormat.RGBA8, key.getDescriptor().getFilter())));
+            absolutes.add(absolute);
         }
 
+        //!
+        //! Load every page concurrently.
+        //!
+        final List<Texture> textures = manager.loadAll(absolutes,
+                new Texture.Descriptor(TextureFormat.RGBA8, key.getDescriptor().getFilter()));
+
         //!
         //! Parse glyph
         //!
@@ -90,12 +125,11 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
         //!
         //! Read the kerning of the characters (if available)
         //!
-        if (in.available() > 0) {
-            in.skipBytes(0x01);
-            in.skipBytes(0x04);
+        if (in.hasRemaining()) {
+            in.position(in.position() + 0x01 + 0x04);
         }
-        while (input.available() > 0) {
-            glyphs.get(readIntLittleEndian(in)).addKerning(readIntLittleEndian(in), readShortLittleEndian(in));
+        while (in.hasRemaining()) {
+            glyphs.get(in.getInt()).addKerning(in.getInt(), in.getShort());
         }
 
         key.setAsset(new Font(textures, glyphs, header.mFontLineHeight));
@@ -104,52 +138,52 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
     /**
      * <p>Parse header block</p>
      */
-    private FontHeader parseHeader(DataInputStream input) throws IOException {
+    private FontHeader parseHeader(ByteBuffer input) throws IOException {
         final FontHeader header = new FontHeader();
 
         //!
         //! Get the version of the font format.
         //!
-        header.mFontVersion = input.readByte();
+        header.mFontVersion = input.get();
 
         //!
         //! ==== INFO BLOCK ====
         //!
-        input.skipBytes(0x01);
-        input.skipBytes(0x04);
+        input.position(input.position() + 0x01);
+        input.position(input.position() + 0x04);
 
-        input.skipBytes(0x0D);
+        input.position(input.position() + 0x0D);
 
-        header.mFontOutline = (header.mFontVersion > 0x02 ? input.readByte() : 0);
+        header.mFontOutline = (header.mFontVersion > 0x02 ? input.get() : 0);
 
-        while (input.readByte() != 0x00) ;
+        while (input.get() != 0x00) ;
 
         //!
         //! ==== COMMON BLOCK ====
         //!
-        input.skipBytes(0x01);
-        input.skipBytes(0x04);
+        input.position(input.position() + 0x01);
+        input.position(input.position() + 0x04);
 
-        header.mFontLineHeight = readShortLittleEndian(input);
+        header.mFontLineHeight = input.getShort();
 
-        input.skipBytes(0x02);
+        input.position(input.position() + 0x02);
 
-        header.mFontWidth = readShortLittleEndian(input);
-        header.mFontHeight = readShortLittleEndian(input);
-        header.mFontPages = readShortLittleEndian(input);
+        header.mFontWidth = input.getShort();
+        header.mFontHeight = input.getShort();
+        header.mFontPages = input.getShort();
 
-        input.skipBytes(0x05);
+        input.position(input.position() + 0x05);
         return header;
     }
 
     /**
      * <p>Parse page block</p>
      */
-    private List<String> parsePages(DataInputStream input, FontHeader header) throws IOException {
+    private List<String> parsePages(ByteBuffer input, FontHeader header) throws IOException {
         final List<String> pages = new ArrayList<>(header.mFontPages);
 
-        input.skipBytes(0x01);
-        input.skipBytes(0x04);
+        input.position(input.position() + 0x01);
+        input.position(input.position() + 0x04);
 
         //!
         //! NOTE: Optimal way to construct a string from bytes.
@@ -166,7 +200,7 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
             int character;
 
             do {
-                character = input.readByte() & 0xFF;
+                character = input.get() & 0xFF;
 
                 if (character != 0x00) {
                     //!
@@ -184,10 +218,10 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
     /**
      * <p>Parse glyph block</p>
      */
-    private Map<Integer, FontGlyph> parseGlyph(DataInputStream input, FontHeader header) throws IOException {
-        input.skipBytes(0x01);
+    private Map<Integer, FontGlyph> parseGlyph(ByteBuffer input, FontHeader header) throws IOException {
+        input.position(input.position() + 0x01);
 
-        final int length = readIntLittleEndian(input) / 20;
+        final int length = input.getInt() / 20;
 
         //!
         //! Pre allocate the given number of glyph(s).
@@ -195,16 +229,16 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
         final Map<Integer, FontGlyph> glyph = new HashMap<>();
 
         for (int i = 0; i < length; i++) {
-            int cID = readIntLittleEndian(input);
-            int cX = readShortLittleEndian(input);
-            int cY = readShortLittleEndian(input);
-            int cWidth = readShortLittleEndian(input);
-            int cHeight = readShortLittleEndian(input);
-            int cOffsetX = readShortLittleEndian(input);
-            int cOffsetY = readShortLittleEndian(input);
-            int cAdvance = readShortLittleEndian(input);
-            int cPage = input.readByte();
-            int cChannel = input.readByte();
+            int cID = input.getInt();
+            int cX = input.getShort();
+            int cY = input.getShort();
+            int cWidth = input.getShort();
+            int cHeight = input.getShort();
+            int cOffsetX = input.getShort();
+            int cOffsetY = input.getShort();
+            int cAdvance = input.getShort();
+            int cPage = input.get();
+            int cChannel = input.get();
 
             glyph.put(cID, new FontGlyph(
                     cID,
@@ -228,28 +262,4 @@ public final class FontBinaryAssetLoader implements AssetLoader<Font, Font.Descr
         }
         return glyph;
     }
-
-    /**
-     * <b>Read a little endian integer (Required for format)</b>
-     */
-    private int readIntLittleEndian(DataInputStream in) throws IOException {
-        final int b0 = in.readInt();
-        final int b1 = (b0 >> 0) & 0xFF;
-        final int b2 = (b0 >> 8) & 0xFF;
-        final int b3 = (b0 >> 16) & 0xFF;
-        final int b4 = (b0 >> 24) & 0xFF;
-
-        return b1 << 24 | b2 << 16 | b3 << 8 | b4 << 0;
-    }
-
-    /**
-     * <b>Read a little endian short (Required for format)</b>
-     */
-    private int readShortLittleEndian(DataInputStream in) throws IOException {
-        final int b0 = in.readShort();
-        final int b1 = (b0 & 0xFF);
-        final int b2 = (b0 >> 8) & 0xFF;
-
-        return (short) (b1 << 8 | b2 << 0);
-    }
-}
+}
\ No newline at end of file
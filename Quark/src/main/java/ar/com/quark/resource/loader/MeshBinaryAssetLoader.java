@@ -0,0 +1,237 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource.loader;
+
+import ar.com.quark.render.storage.LODMesh;
+import ar.com.quark.render.storage.Mesh;
+import ar.com.quark.render.storage.Vertex;
+import ar.com.quark.render.storage.VertexFormat;
+import ar.com.quark.render.storage.factory.FactoryArrayStorage;
+import ar.com.quark.render.storage.factory.FactoryElementStorage;
+import ar.com.quark.resource.AssetKey;
+import ar.com.quark.resource.AssetLoader;
+import ar.com.quark.resource.AssetManager;
+import ar.com.quark.system.utility.array.Array;
+import ar.com.quark.system.utility.array.ArrayFactory;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Collections;
+
+/**
+ * <code>MeshBinaryAssetLoader</code> encapsulate an {@link AssetLoader} for loading binary mesh(s).
+ * <p>
+ * The format is little endian and laid out as follow(s):
+ * <pre>
+ * 0x00 int32      magic ('QMSH')
+ * 0x04 int16      version
+ * 0x06 int8       format of the vertex storage ({@link VertexFormat} ordinal)
+ * 0x07 int8       format of the index storage ({@link VertexFormat} ordinal)
+ * 0x08 int8       number of attribute(s) (A)
+ * 0x09 int8       number of level(s) (L)
+ * 0x0A int16      reserved
+ * 0x0C float32[6] bounds (minimum x, y, z and maximum x, y, z)
+ * 0x24 int32[2]   offset and length (in bytes) of the vertex data
+ * 0x2C int32[2]   offset and length (in bytes) of the index data
+ * 0x34 A * int8[4]                 id, component, format and normalised of each attribute
+ *      L * (int32, int32, float32) offset (in bytes), count and threshold of each level
+ * </pre>
+ * Attribute(s) are interleaved in the {@link Vertex.Builder} layout, and both data block(s) are expected
+ * to be aligned to 16 bytes so they can be mapped directly.
+ */
+public final class MeshBinaryAssetLoader implements AssetLoader<LODMesh, Mesh.Descriptor> {
+    public final static int MAGIC = 0x48534D51;
+    public final static int VERSION = 0x01;
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<LODMesh, Mesh.Descriptor> key, InputStream input)
+            throws IOException {
+        final ByteBuffer buffer = readBuffer(input).order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            key.setAsset(readMesh(key.getDescriptor(), buffer));
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException exception) {
+            throw new IOException("Trying to read a truncated <Mesh>", exception);
+        }
+    }
+
+    /**
+     * <p>Read a {@link LODMesh} from the given {@link ByteBuffer}</p>
+     */
+    private LODMesh readMesh(Mesh.Descriptor descriptor, ByteBuffer buffer) throws IOException {
+        if (buffer.getInt(0x00) != MAGIC) {
+            throw new IOException("<Mesh> contains an invalid header");
+        }
+        if (buffer.getShort(0x04) != VERSION) {
+            throw new IOException("<Mesh> version not supported");
+        }
+
+        final VertexFormat vertexFormat = readFormat(buffer.get(0x06));
+        final VertexFormat indexFormat = readFormat(buffer.get(0x07));
+        final int attributes = buffer.get(0x08) & 0xFF;
+        final int levels = buffer.get(0x09) & 0xFF;
+
+        //!
+        //! Parse the bounds and transform it into a bounding sphere.
+        //!
+        final float minX = buffer.getFloat(0x0C), minY = buffer.getFloat(0x10), minZ = buffer.getFloat(0x14);
+        final float maxX = buffer.getFloat(0x18), maxY = buffer.getFloat(0x1C), maxZ = buffer.getFloat(0x20);
+
+        final float x = (maxX - minX) * 0.5f;
+        final float y = (maxY - minY) * 0.5f;
+        final float z = (maxZ - minZ) * 0.5f;
+
+        //!
+        //! Parse attribute(s) using the same layout as Vertex.Builder.
+        //!
+        buffer.position(0x34);
+
+        final Vertex.Builder builder = new Vertex.Builder();
+
+        for (int i = 0; i < attributes; ++i) {
+            final int id = buffer.get();
+            final int component = buffer.get();
+            final VertexFormat format = readFormat(buffer.get());
+            final boolean normalised = buffer.get() != 0;
+
+            builder.add(id, component, format, normalised);
+        }
+
+        //!
+        //! Parse level(s).
+        //!
+        final int[] offset = new int[levels];
+        final int[] count = new int[levels];
+        final float[] threshold = new float[levels];
+
+        for (int i = 0; i < levels; ++i) {
+            offset[i] = buffer.getInt();
+            count[i] = buffer.getInt();
+            threshold[i] = buffer.getFloat();
+        }
+
+        //!
+        //! Create both storage(s) directly over the content of the buffer.
+        //!
+        final FactoryArrayStorage<?> vertices = new FactoryArrayStorage<Array<?>>(
+                descriptor.getType(),
+                descriptor.getMode(),
+                vertexFormat,
+                wrap(slice(buffer, buffer.getInt(0x24), buffer.getInt(0x28)), vertexFormat),
+                builder.build());
+        final FactoryElementStorage<?> indices = new FactoryElementStorage<Array<?>>(
+                descriptor.getType(),
+                descriptor.getMode(),
+                indexFormat,
+                wrap(slice(buffer, buffer.getInt(0x2C), buffer.getInt(0x30)), indexFormat));
+
+        return new LODMesh(Collections.singletonList(vertices), indices, offset, count, threshold,
+                minX + x, minY + y, minZ + z, (float) Math.sqrt(x * x + y * y + z * z));
+    }
+
+    /**
+     * <p>Read a {@link VertexFormat} from its ordinal</p>
+     */
+    private static VertexFormat readFormat(int ordinal) throws IOException {
+        final VertexFormat[] formats = VertexFormat.values();
+
+        if (ordinal < 0 || ordinal >= formats.length) {
+            throw new IOException("<Mesh> contains an invalid format: " + ordinal);
+        }
+        return formats[ordinal];
+    }
+
+    /**
+     * <p>Read the content of the given {@link InputStream}</p>
+     * <p>
+     * NOTE: The content is memory-mapped when the stream comes from a file.
+     */
+    private ByteBuffer readBuffer(InputStream input) throws IOException {
+        if (input instanceof FileInputStream) {
+            final FileChannel channel = ((FileInputStream) input).getChannel();
+
+            return channel.map(FileChannel.MapMode.READ_ONLY, channel.position(), channel.size() - channel.position());
+        }
+
+        //!
+        //! Fallback for any other stream (archive(s), class-path, etc).
+        //!
+        ByteBuffer buffer = ByteBuffer.allocateDirect(Math.max(input.available(), 0x1000));
+
+        final byte[] chunk = new byte[0x2000];
+
+        int length;
+
+        while ((length = input.read(chunk)) != -1) {
+            if (buffer.remaining() < length) {
+                final ByteBuffer expanded = ByteBuffer.allocateDirect(buffer.capacity() * 2 + length);
+
+                buffer.flip();
+                expanded.put(buffer);
+                buffer = expanded;
+            }
+            buffer.put(chunk, 0, length);
+        }
+        buffer.flip();
+
+        return buffer;
+    }
+
+    /**
+     * <p>Slice a region of the given {@link ByteBuffer}</p>
+     */
+    private ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        duplicate.limit(offset + length).position(offset);
+
+        return duplicate.slice().order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * <p>Wrap an {@link Array} that matches the given {@link VertexFormat}</p>
+     */
+    private static Array<?> wrap(ByteBuffer buffer, VertexFormat format) {
+        switch (format) {
+            case BYTE:
+                return ArrayFactory.wrapInt8Array(buffer);
+            case UNSIGNED_BYTE:
+                return ArrayFactory.wrapUInt8Array(buffer);
+            case HALF_FLOAT:
+                return ArrayFactory.wrapFloat16Array(buffer);
+            case SHORT:
+                return ArrayFactory.wrapInt16Array(buffer);
+            case UNSIGNED_SHORT:
+                return ArrayFactory.wrapUInt16Array(buffer);
+            case INT:
+                return ArrayFactory.wrapInt32Array(buffer);
+            case UNSIGNED_INT:
+                return ArrayFactory.wrapUInt32Array(buffer);
+            case FLOAT:
+                return ArrayFactory.wrapFloat32Array(buffer);
+        }
+        throw new IllegalArgumentException("Trying to wrap an array with invalid format");
+    }
+}
@@ -23,11 +23,13 @@ import ar.com.quark.render.shader.ShaderParser;
 import ar.com.quark.resource.AssetManager;
 import ar.com.quark.resource.AssetKey;
 import ar.com.quark.resource.AssetLoader;
+import ar.com.quark.system.utility.BufferInputStream;
 import ar.com.quark.system.utility.array.Int8Array;
 import ar.com.quark.system.utility.array.ArrayFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * <code>ShaderAssetLoader</code> encapsulate an {@link AssetLoader} for loading shader(s).
@@ -48,16 +50,28 @@ public final class ShaderBinaryAssetLoader implements AssetLoader<Shader, Shader
     @Override
     public void load(AssetManager manager, AssetKey<Shader, Shader.Descriptor> key, InputStream input)
             throws IOException {
-        //!
-        //! Allocate an array and load the entire content in it.
-        //!
-        final Int8Array content = ArrayFactory.allocateInt8Array(input.available());
+        load(manager, key, BufferInputStream.readFully(input));
+    }
 
-        byte[] bytes = new byte[1024];
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBufferSupported(Shader.Descriptor descriptor) {
+        return true;
+    }
 
-        while (input.available() > 0) {
-            content.write(bytes, 0, input.read(bytes));
-        }
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<Shader, Shader.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        //!
+        //! Allocate an array and copy the entire content in it (at once).
+        //!
+        final Int8Array content = ArrayFactory.allocateInt8Array(input.remaining());
+        content.write(input.duplicate());
 
         //!
         //! Parse the shader.
@@ -69,4 +83,24 @@ public final class ShaderBinaryAssetLoader implements AssetLoader<Shader, Shader
         //!
         ArrayFactory.free(content);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStages() {
+        return STAGE_DECODE | STAGE_UPLOAD;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: Compile and link the shader ahead of its first use.
+     */
+    @Override
+    public long upload(AssetKey<Shader, Shader.Descriptor> key) {
+        key.getAsset().create();
+
+        return 0L;
+    }
 }
@@ -21,12 +21,15 @@ import ar.com.quark.render.texture.*;
 import ar.com.quark.resource.AssetKey;
 import ar.com.quark.resource.AssetLoader;
 import ar.com.quark.resource.AssetManager;
+import ar.com.quark.system.utility.BufferInputStream;
 import ar.com.quark.system.utility.array.ArrayFactory;
 import ar.com.quark.system.utility.array.Int8Array;
 
-import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -76,21 +79,106 @@ public final class TextureDDSAssetLoader implements AssetLoader<Texture, Texture
     @Override
     public void load(AssetManager manager, AssetKey<Texture, Texture.Descriptor> key, InputStream input)
             throws IOException {
-        key.setAsset(readTexture(key.getDescriptor(), new DataInputStream(input)));
+        load(manager, key, BufferInputStream.readFully(input));
     }
 
     /**
-     * <p>Read a {@link Texture} from the {@link InputStream} given</p>
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBufferSupported(Texture.Descriptor descriptor) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<Texture, Texture.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        try {
+            key.setAsset(readTexture(key.getDescriptor(), input.duplicate().order(ByteOrder.LITTLE_ENDIAN)));
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Trying to read a truncated <DDS> texture", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStages() {
+        return STAGE_DECODE | STAGE_UPLOAD;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long upload(AssetKey<Texture, Texture.Descriptor> key) {
+        final Texture texture = key.getAsset();
+        final long size = texture.getImage().getSize();
+
+        texture.create();
+        texture.acquire();
+        texture.update();
+
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSize(AssetKey<Texture, Texture.Descriptor> key) {
+        return key.getAsset().getImage().getSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSignature(Texture.Descriptor descriptor) {
+        return descriptor.hasFeature(Texture.Descriptor.FEATURE_MIPMAP) ? "mipmap" : "";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer save(AssetKey<Texture, Texture.Descriptor> key) {
+        return CacheFormat.writeTexture(key.getAsset());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(AssetManager manager, AssetKey<Texture, Texture.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        key.setAsset(CacheFormat.readTexture(key.getDescriptor(), input));
+    }
+
+    /**
+     * <p>Read a {@link Texture} from the {@link ByteBuffer} given</p>
      *
      * @param descriptor the texture descriptor
-     * @param input      the input-stream that contain(s) the texture
+     * @param input      the buffer (little-endian) that contain(s) the texture
      *
      * @return the texture
      *
      * @throws IOException indicates failing loading the texture
      */
-    private Texture readTexture(Texture.Descriptor descriptor, DataInputStream input) throws IOException {
-        if (readIntLittleEndian(input) != 0x20534444) {
+    private Texture readTexture(Texture.Descriptor descriptor, ByteBuffer input) throws IOException {
+        if (input.getInt() != 0x20534444) {
             throw new IOException("Trying to read an invalid <DDS> texture");
         }
 
@@ -123,51 +211,51 @@ public final class TextureDDSAssetLoader implements AssetLoader<Texture, Texture
     }
 
     /**
-     * <p>Read image header from the {@link DataInputStream} given</p>
+     * <p>Read image header from the {@link ByteBuffer} given</p>
      *
-     * @param input the input that contain(s) the header
+     * @param input the buffer that contain(s) the header
      *
      * @throws IOException indicates if the image has invalid header
      */
-    private ImageHeader readHeader(DataInputStream input) throws IOException {
+    private ImageHeader readHeader(ByteBuffer input) throws IOException {
         final ImageHeader header = new ImageHeader();
 
         //!
         //! Texture common data
         //!
-        header.mImageSize = readIntLittleEndian(input);
-        header.mImageFlag = readIntLittleEndian(input);
-        header.mImageHeight = Math.max(readIntLittleEndian(input), 0x01);
-        header.mImageWidth = Math.max(1, readIntLittleEndian(input));
-        header.mImagePitchOrLinear = readIntLittleEndian(input);
-        header.mImageDepth = Math.max(1, readIntLittleEndian(input));
-        header.mImageMipmapCount = Math.max(1, readIntLittleEndian(input));
+        header.mImageSize = input.getInt();
+        header.mImageFlag = input.getInt();
+        header.mImageHeight = Math.max(input.getInt(), 0x01);
+        header.mImageWidth = Math.max(1, input.getInt());
+        header.mImagePitchOrLinear = input.getInt();
+        header.mImageDepth = Math.max(1, input.getInt());
+        header.mImageMipmapCount = Math.max(1, input.getInt());
 
         //!
         //! Reserve field
         //!
-        input.skipBytes(0x04 * 0x0B);
+        input.position(input.position() + 0x04 * 0x0B);
 
         //!
         //! Texture pixel format data
         //!
-        header.mPixelFormatSize = readIntLittleEndian(input);
-        header.mPixelFormatFlags = readIntLittleEndian(input);
+        header.mPixelFormatSize = input.getInt();
+        header.mPixelFormatFlags = input.getInt();
 
         if ((header.mPixelFormatFlags & DDPF_FOUR_CC) == 0) {
             header.mPixelFormatFourCC = -1;
         } else {
-            header.mPixelFormatFourCC = input.readInt();
+            header.mPixelFormatFourCC = Integer.reverseBytes(input.getInt());
         }
-        header.mPixelFormatRGBBitCount = readIntLittleEndian(input);
-        header.mPixelFormatRBitMask = readIntLittleEndian(input);
-        header.mPixelFormatGBitMask = readIntLittleEndian(input);
-        header.mPixelFormatBBitMask = readIntLittleEndian(input);
-        header.mPixelFormatABitMask = readIntLittleEndian(input);
-        header.mImageCaps = readIntLittleEndian(input);
-        header.mImageCaps2 = readIntLittleEndian(input);
-        header.mImageCaps3 = readIntLittleEndian(input);
-        header.mImageCaps4 = readIntLittleEndian(input);
+        header.mPixelFormatRGBBitCount = input.getInt();
+        header.mPixelFormatRBitMask = input.getInt();
+        header.mPixelFormatGBitMask = input.getInt();
+        header.mPixelFormatBBitMask = input.getInt();
+        header.mPixelFormatABitMask = input.getInt();
+        header.mImageCaps = input.getInt();
+        header.mImageCaps2 = input.getInt();
+        header.mImageCaps3 = input.getInt();
+        header.mImageCaps4 = input.getInt();
 
         if ((header.mImageCaps2 & DDSCAPS2_CUBEMAP) != 0) {
             //!
@@ -179,22 +267,22 @@ public final class TextureDDSAssetLoader implements AssetLoader<Texture, Texture
         //!
         //! Reserve field
         //!
-        input.skipBytes(0x04);
+        input.position(input.position() + 0x04);
         return header;
     }
 
     /**
-     * <p>Parse the image(s) from the {@link DataInputStream} given</p>
+     * <p>Parse the image(s) from the {@link ByteBuffer} given</p>
      *
      * @param descriptor the descriptor of the image
      * @param header     the header of the image
-     * @param input      the stream of the image
+     * @param input      the buffer of the image
      *
      * @return a collection that contain(s) all image(s)
      *
      * @throws IOException indicates failing loading the image(s)
      */
-    private Image readImage(Texture.Descriptor descriptor, ImageHeader header, DataInputStream input) throws IOException {
+    private Image readImage(Texture.Descriptor descriptor, ImageHeader header, ByteBuffer input) throws IOException {
         final List<Image.Layer> layer = new ArrayList<>(header.mImageDepth);
 
         //!
@@ -235,16 +323,18 @@ public final class TextureDDSAssetLoader implements AssetLoader<Texture, Texture
             }
 
             //!
-            //! Read the layer and all mipmap at once.
+            //! Read the layer and all mipmap at once (straight from the buffer).
             //!
-            final byte[] content = new byte[imageLength];
-            input.readFully(content, 0, content.length);
+            final ByteBuffer content = input.duplicate();
+            content.limit(content.position() + imageLength);
+
+            input.position(content.limit());
 
             //!
             //! Create the buffer.
             //!
             final Int8Array buffer = ArrayFactory.allocateInt8Array(imageLength);
-            buffer.write(content, 0, imageLength);
+            buffer.write(content);
             buffer.flip();
 
             //!
@@ -312,17 +402,4 @@ public final class TextureDDSAssetLoader implements AssetLoader<Texture, Texture
         }
         throw new IOException(header.mPixelFormatFourCC + " compressed format not supported.");
     }
-
-    /**
-     * <b>Read a little endian integer (Required for DDS format)</b>
-     */
-    private int readIntLittleEndian(DataInputStream in) throws IOException {
-        final int b0 = in.readInt();
-        final int b1 = (b0 >> 0) & 0xFF;
-        final int b2 = (b0 >> 8) & 0xFF;
-        final int b3 = (b0 >> 16) & 0xFF;
-        final int b4 = (b0 >> 24) & 0xFF;
-
-        return b1 << 24 | b2 << 16 | b3 << 8 | b4 << 0;
-    }
 }
@@ -23,12 +23,19 @@ import ar.com.quark.render.texture.Texture2D;
 import ar.com.quark.resource.AssetKey;
 import ar.com.quark.resource.AssetLoader;
 import ar.com.quark.resource.AssetManager;
+import ar.com.quark.system.utility.BufferInputStream;
 import ar.com.quark.system.utility.array.ArrayFactory;
 import ar.com.quark.system.utility.array.Int8Array;
 import ar.com.quark.render.texture.Texture;
 
 import java.io.*;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.zip.InflaterInputStream;
 
 /**
@@ -65,7 +72,7 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
      */
     private final static class ImageChunk {
         public int mType;
-        public byte[] mData;
+        public ByteBuffer mData;
     }
 
     /**
@@ -74,21 +81,106 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
     @Override
     public void load(AssetManager manager, AssetKey<Texture, Texture.Descriptor> key, InputStream input)
             throws IOException {
-        key.setAsset(readTexture(key.getDescriptor(), new DataInputStream(input)));
+        load(manager, key, BufferInputStream.readFully(input));
     }
 
     /**
-     * <p>Read a {@link Texture} from the {@link InputStream} given</p>
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isBufferSupported(Texture.Descriptor descriptor) {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void load(AssetManager manager, AssetKey<Texture, Texture.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        try {
+            key.setAsset(readTexture(key.getDescriptor(), input.duplicate().order(ByteOrder.BIG_ENDIAN)));
+        } catch (BufferUnderflowException | IllegalArgumentException exception) {
+            throw new IOException("Trying to read a truncated <PNG> texture", exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStages() {
+        return STAGE_DECODE | STAGE_UPLOAD;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long upload(AssetKey<Texture, Texture.Descriptor> key) {
+        final Texture texture = key.getAsset();
+        final long size = texture.getImage().getSize();
+
+        texture.create();
+        texture.acquire();
+        texture.update();
+
+        return size;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getSize(AssetKey<Texture, Texture.Descriptor> key) {
+        return key.getAsset().getImage().getSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getSignature(Texture.Descriptor descriptor) {
+        return descriptor.hasFeature(Texture.Descriptor.FEATURE_MIPMAP) ? "mipmap" : "";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ByteBuffer save(AssetKey<Texture, Texture.Descriptor> key) {
+        return CacheFormat.writeTexture(key.getAsset());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void restore(AssetManager manager, AssetKey<Texture, Texture.Descriptor> key, ByteBuffer input)
+            throws IOException {
+        key.setAsset(CacheFormat.readTexture(key.getDescriptor(), input));
+    }
+
+    /**
+     * <p>Read a {@link Texture} from the {@link ByteBuffer} given</p>
      *
      * @param descriptor the texture descriptor
-     * @param input      the input-stream that contain(s) the texture
+     * @param input      the buffer that contain(s) the texture
      *
      * @return the texture
      *
      * @throws IOException indicates failing loading the texture
      */
-    private Texture readTexture(Texture.Descriptor descriptor, DataInputStream input) throws IOException {
-        if (input.readLong() != 0x89504E470D0A1A0AL) {
+    private Texture readTexture(Texture.Descriptor descriptor, ByteBuffer input) throws IOException {
+        if (input.getLong() != 0x89504E470D0A1A0AL) {
             throw new IOException("Trying to read an invalid <PNG> texture");
         }
 
@@ -105,9 +197,9 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
         }
 
         //!
-        //! Contain(s) the compressed data of the png texture
+        //! Contain(s) the compressed data of the png texture (as slice(s) of the buffer)
         //!
-        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        final List<InputStream> data = new ArrayList<>();
 
         //!
         //! Read the whole format
@@ -123,40 +215,48 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
                     handleTransparency(header, chunk);
                     break;
                 case 0x49444154:
-                    data.write(chunk.mData);
+                    data.add(new BufferInputStream(chunk.mData));
                     break;
             }
-        } while (input.available() > 0);
+        } while (input.hasRemaining());
 
         //!
         //! Load the texture.
         //!
+        final Image image = readImage(descriptor, header, new SequenceInputStream(Collections.enumeration(data)));
+
         return new Texture2D(
                 descriptor.getFormat(),
                 descriptor.getFilter(),
                 descriptor.getBorderX(),
-                descriptor.getBorderY(), readImage(descriptor, header, data.toByteArray()));
+                descriptor.getBorderY(), image);
     }
 
     /**
-     * <p>Read a chunk from the {@link InputStream} given</p>
+     * <p>Read a chunk from the {@link ByteBuffer} given</p>
      *
-     * @param input the input-stream that contain(s) the chunk
+     * @param input the buffer that contain(s) the chunk
      *
-     * @return the chunk of the image
+     * @return the chunk of the image (its data being a slice of the buffer)
      *
      * @throws IOException indicates if the image has invalid chunk
      */
-    private ImageChunk readChunk(DataInputStream input) throws IOException {
-        final int length = input.readInt();
+    private ImageChunk readChunk(ByteBuffer input) throws IOException {
+        final int length = input.getInt();
 
         if (length >= 0) {
             final ImageChunk chunk = new ImageChunk();
-            chunk.mType = input.readInt();
+            chunk.mType = input.getInt();
+
+            final ByteBuffer data = input.duplicate();
+            data.limit(data.position() + length);
 
-            chunk.mData = new byte[length];
-            input.readFully(chunk.mData);
-            input.skipBytes(0x04);
+            chunk.mData = data.slice();
+
+            //!
+            //! Skip the data and the CRC of the chunk.
+            //!
+            input.position(input.position() + length + 0x04);
 
             return chunk;
         }
@@ -177,30 +277,28 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
 
         final ImageHeader header = new ImageHeader();
 
-        try (final DataInputStream stream = new DataInputStream(new ByteArrayInputStream(chunk.mData))) {
-            header.mImageWidth = stream.readInt();
-            header.mImageHeight = Math.max(stream.readInt(), 1);
-            header.mImageDepth = stream.readByte();
-            header.mPixelType = stream.readByte();
-            header.mPixelCompression = stream.readByte();
-            header.mPixelFilter = stream.readByte();
-            header.mPixelInterlace = stream.readByte();
-        }
+        header.mImageWidth = chunk.mData.getInt();
+        header.mImageHeight = Math.max(chunk.mData.getInt(), 1);
+        header.mImageDepth = chunk.mData.get();
+        header.mPixelType = chunk.mData.get();
+        header.mPixelCompression = chunk.mData.get();
+        header.mPixelFilter = chunk.mData.get();
+        header.mPixelInterlace = chunk.mData.get();
         return header;
     }
 
     /**
-     * <p>Parse the image from the byte(s) given</p>
+     * <p>Parse the image from the compressed data given</p>
      *
      * @param descriptor the descriptor of the image
      * @param header     the header of the image
-     * @param input      the bytes  of the image
+     * @param input      the compressed data of the image
      *
      * @return the image
      *
      * @throws IOException indicates failing loading the image
      */
-    private Image readImage(Texture.Descriptor descriptor, ImageHeader header, byte[] input) throws IOException {
+    private Image readImage(Texture.Descriptor descriptor, ImageHeader header, InputStream input) throws IOException {
         final ImageFormat imageFormat
                 = getUncompressedFormat(header);
         final Int8Array imageBuffer
@@ -217,7 +315,7 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
         //!
         //! Decompress the data of the image (using z-lib)
         //!
-        try (final InflaterInputStream inflater = new InflaterInputStream(new ByteArrayInputStream(input))) {
+        try (final InflaterInputStream inflater = new InflaterInputStream(input)) {
 
             for (int y = 0; y < header.mImageHeight; ++y) {
                 readAll(inflater, zipFilter);
@@ -458,11 +556,11 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
      * @throws IOException indicates if the image has invalid palette
      */
     private void handlePalette(ImageHeader header, ImageChunk chunk) throws IOException {
-        final int entries = chunk.mData.length / 3;
+        final int entries = chunk.mData.remaining() / 3;
         if (entries < 1 || entries > 256 || entries % 3 != 0) {
             throw new IOException("Wrong length for palette chunk");
         }
-        header.mPalette = chunk.mData;
+        header.mPalette = readBytes(chunk.mData);
     }
 
     /**
@@ -474,18 +572,20 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
      * @throws IOException indicates if the image has invalid transparency
      */
     private void handleTransparency(ImageHeader header, ImageChunk chunk) throws IOException {
+        final byte[] data = readBytes(chunk.mData);
+
         switch (header.mPixelType) {
             case TYPE_GREY_SCALE:
-                if (chunk.mData.length != 0x02) {
+                if (data.length != 0x02) {
                     throw new IOException("Unsupported transparency for grey-scale image");
                 }
-                header.mTransparency = chunk.mData;
+                header.mTransparency = data;
                 break;
             case TYPE_TRUE_COLOR:
-                if (chunk.mData.length != 0x06) {
+                if (data.length != 0x06) {
                     throw new IOException("Unsupported transparency for true-color image");
                 }
-                header.mTransparency = chunk.mData;
+                header.mTransparency = data;
                 break;
             case TYPE_INDEXED:
                 if (header.mPalette == null) {
@@ -493,7 +593,7 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
                 }
                 header.mTransparency = new byte[header.mPalette.length / 3];
                 Arrays.fill(header.mTransparency, (byte) 0xFF);
-                System.arraycopy(chunk.mData, 0, header.mTransparency, 0, chunk.mData.length);
+                System.arraycopy(data, 0, header.mTransparency, 0, data.length);
                 break;
             default:
                 throw new IOException("Unsupported transparency");
@@ -562,6 +662,15 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
         throw new IOException("Uncompressed format not supported");
     }
 
+    /**
+     * <p>Helper method to copy the remaining byte(s) of a {@link ByteBuffer}</p>
+     */
+    private static byte[] readBytes(ByteBuffer input) {
+        final byte[] bytes = new byte[input.remaining()];
+        input.get(bytes);
+        return bytes;
+    }
+
     /**
      * <p>Helper method to read all byte(s) from an {@link InflaterInputStream}</p>
      */
@@ -572,6 +681,9 @@ public final class TexturePNGAssetLoader implements AssetLoader<Texture, Texture
         while (length > 0) {
             final int read = input.read(data, offset, length);
 
+            if (read < 0) {
+                throw new EOFException("Trying to read a truncated <PNG> texture");
+            }
             length -= read;
             offset += read;
         }
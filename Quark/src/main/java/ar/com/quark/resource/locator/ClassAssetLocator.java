@@ -20,7 +20,17 @@ package ar.com.quark.resource.locator;
 import ar.com.quark.resource.AssetCallback;
 import ar.com.quark.resource.AssetLocator;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 
 /**
  * Encapsulate an {@link AssetLocator} that search asset(s) using {@link ClassLoader}.
@@ -28,6 +38,44 @@ import java.io.InputStream;
 public final class ClassAssetLocator implements AssetLocator {
     private final ClassLoader mLoader = ClassAssetLocator.class.getClassLoader();
 
+    /**
+     * Hold the name of every resource of the class-path (optional).
+     */
+    private volatile Set<String> mIndex;
+
+    /**
+     * <p>Index every resource of the class-path</p>
+     * <p>
+     * NOTE: Once indexed, the locator only locate(s) the resource(s) of the directories and archive(s) listed by
+     * <code>java.class.path</code> (answering without any I/O for every other resource), therefore it must not be
+     * indexed if the resource(s) are provided by any other mean (e.g a custom {@link ClassLoader}).
+     */
+    public void index() {
+        final Set<String> index = new HashSet<>();
+
+        for (final String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            try {
+                final Path path = Paths.get(entry);
+
+                if (Files.isDirectory(path)) {
+                    try (final Stream<Path> stream = Files.walk(path)) {
+                        stream.filter(Files::isRegularFile).forEach(child -> index.add(
+                                path.relativize(child).toString().replace(File.separatorChar, '/')));
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    try (final ZipFile archive = new ZipFile(path.toFile())) {
+                        archive.stream()
+                                .filter(child -> !child.isDirectory())
+                                .forEach(child -> index.add(child.getName()));
+                    }
+                }
+            } catch (IOException | InvalidPathException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+        mIndex = index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -44,12 +92,22 @@ public final class ClassAssetLocator implements AssetLocator {
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(String filename) {
+        final Set<String> index = mIndex;
+
+        return index == null || index.contains(filename);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public InputStream locate(String filename) {
-        return mLoader.getResourceAsStream(filename);
+        return contains(filename) ? mLoader.getResourceAsStream(filename) : null;
     }
 
     /**
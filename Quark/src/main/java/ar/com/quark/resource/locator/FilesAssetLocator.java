@@ -20,9 +20,15 @@ package ar.com.quark.resource.locator;
 import ar.com.quark.resource.AssetCallback;
 import ar.com.quark.resource.AssetLocator;
 
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.*;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
 
 /**
  * Encapsulate an {@link AssetLocator} that search asset(s) using {@link FileSystem}.
@@ -30,6 +36,11 @@ import java.nio.file.*;
 public final class FilesAssetLocator implements AssetLocator {
     private final FileSystem mFilesystem;
 
+    /**
+     * Hold the (absolute) path of every file of the indexed directories (optional).
+     */
+    private volatile Set<String> mIndex;
+
     /**
      * <p>Constructor</p>
      */
@@ -48,6 +59,27 @@ public final class FilesAssetLocator implements AssetLocator {
         }
     }
 
+    /**
+     * <p>Index every file of the given directories</p>
+     * <p>
+     * NOTE: Once indexed, the locator only locate(s) the file(s) that were inside the given directories (answering
+     * without any I/O for every other file), therefore it must be indexed again if any file is added.
+     *
+     * @param directories the directories to index (recursively)
+     */
+    public void index(String... directories) {
+        final Set<String> index = new HashSet<>();
+
+        for (final String directory : directories) {
+            try (final Stream<Path> stream = Files.walk(mFilesystem.getPath(directory))) {
+                stream.filter(Files::isRegularFile).forEach(path -> index.add(getAbsolutePath(path)));
+            } catch (IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+        mIndex = index;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,14 +100,63 @@ public final class FilesAssetLocator implements AssetLocator {
      * {@inheritDoc}
      */
     @Override
+    public boolean contains(String filename) {
+        final Set<String> index = mIndex;
+
+        return index == null || index.contains(getAbsolutePath(mFilesystem.getPath(filename)));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: The file is opened straight away (rather than checking if it exist(s) and is readable first), so that
+     * a missing file cost(s) a single call.
+     */
+    @Override
     public InputStream locate(String filename) {
+        if (!contains(filename)) {
+            return null;
+        }
+        final Path child = mFilesystem.getPath(filename);
+
+        try {
+            if (mFilesystem == FileSystems.getDefault()) {
+                //!
+                //! NOTE: Expose the file channel, so loader(s) are able to memory-map the asset.
+                //!
+                return new FileInputStream(child.toFile());
+            }
+            return Files.newInputStream(child, StandardOpenOption.READ);
+        } catch (IOException exception) {
+            return onFail(child, exception);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: A file of the default {@link FileSystem} is memory-mapped (rather than read) and paged in, so that
+     * the I/O happen(s) on the calling thread rather than while decoding.
+     */
+    @Override
+    public ByteBuffer locateBuffer(String filename) {
+        if (mFilesystem != FileSystems.getDefault()) {
+            return AssetLocator.super.locateBuffer(filename);
+        }
+        if (!contains(filename)) {
+            return null;
+        }
         final Path child = mFilesystem.getPath(filename);
 
-        if (Files.exists(child) && Files.isReadable(child)) {
-            try {
-                return Files.newInputStream(child, StandardOpenOption.READ);
-            } catch (IOException ignored) {
+        try (final FileChannel channel = FileChannel.open(child, StandardOpenOption.READ)) {
+            //!
+            //! NOTE: The mapping remain(s) valid once the channel has been closed.
+            //!
+            if (channel.size() <= Integer.MAX_VALUE) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).load();
             }
+        } catch (IOException exception) {
+            return onFail(child, exception);
         }
         return null;
     }
@@ -94,4 +175,24 @@ public final class FilesAssetLocator implements AssetLocator {
         }
         return input;
     }
+
+    /**
+     * <p>Handle when a file cannot be opened</p>
+     * <p>
+     * NOTE: A file that doesn't exist (or isn't a file) is reported as not found, while any other failure (e.g a
+     * transient I/O error) is reported as such, so that the asset isn't remembered as missing.
+     */
+    private static <T> T onFail(Path child, IOException exception) {
+        if (exception instanceof NoSuchFileException || Files.notExists(child) || Files.isDirectory(child)) {
+            return null;
+        }
+        throw new IllegalStateException(exception);
+    }
+
+    /**
+     * <p>Get the absolute (and normalised) path of the given path</p>
+     */
+    private static String getAbsolutePath(Path path) {
+        return path.toAbsolutePath().normalize().toString();
+    }
 }
@@ -0,0 +1,310 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.resource.locator;
+
+import ar.com.quark.resource.AssetCallback;
+import ar.com.quark.resource.AssetLocator;
+import ar.com.quark.system.utility.BufferInputStream;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encapsulate an {@link AssetLocator} that search asset(s) inside a Quark package, which is memory-mapped once and
+ * serve(s) every asset as a slice of the mapping (without copying it).
+ * <p>
+ * A package (little-endian) is made of:
+ * <ul>
+ * <li>The header ({@link #HEADER_SIZE} byte(s)): {@link #MAGIC}, {@link #VERSION}, the number of entries, the
+ * alignment of every blob, the offset of the name table and the offset of the first blob.</li>
+ * <li>The index: every entry ({@link #ENTRY_SIZE} byte(s)) sorted by the (signed) hash of its name (see {@link #hash})
+ * made of the hash, the offset and the size of the blob, the size of the asset, the offset and the length of the
+ * name (inside the name table), the compression of the blob and a reserved byte.</li>
+ * <li>The name table: the name (UTF-8) of every entry, to resolve collision(s) of the hash.</li>
+ * <li>The blob of every entry, aligned to the alignment of the package.</li>
+ * </ul>
+ */
+public final class PackageAssetLocator implements AssetLocator {
+    /**
+     * Encapsulate the magic number of a package ("QKPK").
+     */
+    public final static int MAGIC = 0x514B504B;
+
+    /**
+     * Encapsulate the version of a package.
+     */
+    public final static int VERSION = 1;
+
+    /**
+     * Encapsulate the size (in bytes) of the header.
+     */
+    public final static int HEADER_SIZE = 32;
+
+    /**
+     * Encapsulate the size (in bytes) of an entry of the index.
+     */
+    public final static int ENTRY_SIZE = 40;
+
+    /**
+     * Encapsulate the compression of a blob stored as it is.
+     */
+    public final static int COMPRESSION_NONE = 0;
+
+    /**
+     * Encapsulate the compression of a blob compressed using {@link java.util.zip.Deflater}.
+     */
+    public final static int COMPRESSION_DEFLATE = 1;
+
+    private final ByteBuffer mBuffer;
+    private final int mCount;
+    private final int mNames;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param location the location of the package
+     */
+    public PackageAssetLocator(Path location) {
+        try (final FileChannel channel = FileChannel.open(location, StandardOpenOption.READ)) {
+            //!
+            //! NOTE: A mapping (and therefore a package) cannot be larger than 2GiB.
+            //!
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("The package " + location + " is larger than 2GiB");
+            }
+            mBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).order(ByteOrder.LITTLE_ENDIAN);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+
+        if (mBuffer.capacity() < HEADER_SIZE || mBuffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("The file " + location + " is not a package");
+        }
+        if (mBuffer.getInt(4) != VERSION) {
+            throw new IllegalArgumentException("The version of the package " + location + " isn't supported");
+        }
+        mCount = mBuffer.getInt(8);
+        mNames = (int) mBuffer.getLong(16);
+    }
+
+    /**
+     * <p>Get the number of asset(s) of the package</p>
+     *
+     * @return the number of asset(s) of the package
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isSynchronousSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isAsynchronousSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: The index of the package is searched (without any I/O).
+     */
+    @Override
+    public boolean contains(String filename) {
+        return onFind(filename) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream locate(String filename) {
+        final int entry = onFind(filename);
+
+        if (entry < 0) {
+            return null;
+        }
+        final InputStream input = new BufferInputStream(onSlice(entry));
+
+        return mBuffer.get(entry + 38) == COMPRESSION_DEFLATE ? new InflaterInputStream(input) : input;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * NOTE: A blob that has been stored as it is, is returned as a slice of the mapping (without copying it).
+     */
+    @Override
+    public ByteBuffer locateBuffer(String filename) {
+        final int entry = onFind(filename);
+
+        if (entry < 0) {
+            return null;
+        }
+        final ByteBuffer blob = onSlice(entry);
+
+        if (mBuffer.get(entry + 38) != COMPRESSION_DEFLATE) {
+            return blob;
+        }
+
+        //!
+        //! Inflate the blob, given the size of the asset is known ahead.
+        //!
+        final byte[] content = new byte[(int) mBuffer.getLong(entry + 24)];
+
+        try (final DataInputStream input
+                     = new DataInputStream(new InflaterInputStream(new BufferInputStream(blob)))) {
+            input.readFully(content);
+        } catch (IOException exception) {
+            return null;
+        }
+        return ByteBuffer.wrap(content).asReadOnlyBuffer();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream locate(String filename, AssetCallback<InputStream> callback) {
+        final InputStream input = locate(filename);
+
+        if (input != null) {
+            callback.onSuccess(input);
+        } else {
+            callback.onFail();
+        }
+        return input;
+    }
+
+    /**
+     * <p>Calculate the hash of the name of an asset (64-bit FNV-1a of its UTF-8 bytes)</p>
+     *
+     * @param filename the filename of the asset
+     *
+     * @return the hash of the name of the asset
+     */
+    public static long hash(String filename) {
+        return hash(filename.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * <p>Calculate the hash of the name of an asset (64-bit FNV-1a of its UTF-8 bytes)</p>
+     *
+     * @param name the name (UTF-8) of the asset
+     *
+     * @return the hash of the name of the asset
+     */
+    public static long hash(byte[] name) {
+        long hash = 0xCBF29CE484222325L;
+
+        for (final byte value : name) {
+            hash ^= value & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return hash;
+    }
+
+    /**
+     * <p>Find the entry of an asset</p>
+     *
+     * @return the offset of the entry (inside the mapping) or <code>-1</code> if the package doesn't contain the asset
+     */
+    private int onFind(String filename) {
+        final byte[] name = filename.getBytes(StandardCharsets.UTF_8);
+        final long hash = hash(name);
+
+        //!
+        //! Binary search the first entry with the hash, then test the name of every entry with the same hash.
+        //!
+        int low = 0;
+        int high = mCount;
+
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+
+            if (mBuffer.getLong(HEADER_SIZE + middle * ENTRY_SIZE) < hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        for (int i = low; i < mCount; ++i) {
+            final int entry = HEADER_SIZE + i * ENTRY_SIZE;
+
+            if (mBuffer.getLong(entry) != hash) {
+                break;
+            }
+            if (isName(entry, name)) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * <p>Check if the name of an entry is equal to the given name</p>
+     */
+    private boolean isName(int entry, byte[] name) {
+        final int offset = mNames + mBuffer.getInt(entry + 32);
+        final int length = mBuffer.getShort(entry + 36) & 0xFFFF;
+
+        if (length != name.length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (mBuffer.get(offset + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Get a slice of the mapping with the blob of an entry</p>
+     */
+    private ByteBuffer onSlice(int entry) {
+        final int offset = (int) mBuffer.getLong(entry + 8);
+        final int size = (int) mBuffer.getLong(entry + 16);
+
+        //!
+        //! NOTE: The mapping is never modified (only read using absolute operation(s)), therefore a duplicate
+        //!       is safe to be created concurrently.
+        //!
+        final ByteBuffer duplicate = mBuffer.duplicate();
+        duplicate.limit(offset + size).position(offset);
+
+        return duplicate.slice();
+    }
+}
@@ -269,6 +269,29 @@ public interface Display {
      */
     boolean isActive();
 
+    /**
+     * <p>Request the display to render a frame</p>
+     * <p>
+     * NOTE: Only required when the underlying implementation renders on demand, can be called from any thread.
+     */
+    void requestRender();
+
+    /**
+     * <p>Request the display to render continuously for the given duration (e.g an animation)</p>
+     * <p>
+     * NOTE: Only required when the underlying implementation renders on demand, can be called from any thread.
+     *
+     * @param duration the duration (in seconds)
+     */
+    void requestAnimation(float duration);
+
+    /**
+     * <p>Get the {@link FrameStatistics} of the display</p>
+     *
+     * @return the frame statistics of the display
+     */
+    FrameStatistics getStatistics();
+
     /**
      * <p>Get the {@link DisplayMode} of the primary device</p>
      *
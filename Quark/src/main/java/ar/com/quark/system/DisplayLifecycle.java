@@ -17,6 +17,8 @@
  */
 package ar.com.quark.system;
 
+import ar.com.quark.input.InputSnapshot;
+
 /**
  * <code>DisplayLifecycle</code> encapsulate the lifecycle of {@link Display}.
  */
@@ -36,8 +38,21 @@ public interface DisplayLifecycle {
      */
     void onResize(int width, int height);
 
+    /**
+     * <p>Called when the display require to update at a fixed rate</p>
+     * <p>
+     * NOTE: Only called when the underlying implementation runs a fixed loop.
+     *
+     * @param step the (fixed) time of the update
+     */
+    default void onUpdate(float step) {
+    }
+
     /**
      * <p>Called when the display require to render</p>
+     * <p>
+     * NOTE: When the underlying implementation runs a fixed loop, the interpolation factor (between 0.0 and 1.0)
+     * between the last two update(s) is given instead.
      *
      * @param time the time since the last render
      */
@@ -63,4 +78,57 @@ public interface DisplayLifecycle {
      * @see #onCreate()
      */
     void onDispose();
+
+    /**
+     * <code>Threaded</code> encapsulate the lifecycle of {@link Display} when updating on a dedicated logic thread.
+     * <p>
+     * The logic and the render never share state: the logic write(s) everything the render require(s) into a
+     * snapshot, while the render read(s) only from the other snapshot (the one written by the previous frame).
+     * Both snapshot(s) are created by the lifecycle, and swapped by the underlying implementation once the render
+     * has finished with one and the logic has finished with the other.
+     * <p>
+     * NOTE: {@link #onUpdate(float, InputSnapshot, Object)} is called on the logic thread, every other notification
+     * (including {@link #onResize(int, int)}) is called on the render thread.
+     *
+     * @param <T> the type of the snapshot
+     */
+    interface Threaded<T> extends DisplayLifecycle {
+        /**
+         * <p>Called (twice) when the display is created, to create the snapshot(s) handed off between the logic
+         * and the render</p>
+         *
+         * @return a new snapshot
+         */
+        T onCreateSnapshot();
+
+        /**
+         * <p>Called when the display require to update on the logic thread</p>
+         * <p>
+         * NOTE: The input must be read from the given snapshot (handed from the render thread) rather than from the
+         * input module. The snapshot to write may hold the state of two frame(s) before, therefore it must be
+         * written entirely.
+         *
+         * @param step     the time of the update
+         * @param input    the snapshot of the input
+         * @param snapshot the snapshot to write
+         */
+        void onUpdate(float step, InputSnapshot input, T snapshot);
+
+        /**
+         * <p>Called when the display require to render on the render thread</p>
+         *
+         * @param time     the time since the last render
+         * @param snapshot the snapshot to read
+         */
+        void onRender(float time, T snapshot);
+
+        /**
+         * {@inheritDoc}
+         * <p>
+         * NOTE: Never called on a threaded loop, see {@link #onRender(float, Object)}.
+         */
+        @Override
+        default void onRender(float time) {
+        }
+    }
 }
@@ -0,0 +1,204 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system;
+
+import ar.com.quark.input.InputReplay;
+import ar.com.quark.render.Render;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * <code>FrameBenchmark</code> encapsulate the measurement of the CPU cost and the number of GL call(s) of every
+ * frame, usually while playing an {@link InputReplay} with a fixed time step so that the run is repeatable.
+ * <p>
+ * NOTE: GL call(s) are counted by a context that delegate(s) to the real one, which add(s) a (small) constant
+ * overhead to every call; only compare result(s) measured the same way.
+ * <p>
+ * NOTE: Every frame is expected to run a single update, therefore an {@link InputReplay} feed(s) the event(s) of
+ * every recorded update into its own frame.
+ */
+public final class FrameBenchmark {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>FrameBenchmark</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(FrameBenchmark.class);
+
+    /**
+     * <code>Type</code> enumerate(s) all sample(s) of a frame.
+     */
+    public enum Type {
+        /**
+         * The CPU time (in nanosecond) the thread spent on the frame.
+         */
+        CPU,
+
+        /**
+         * The wall time (in nanosecond) of the frame.
+         */
+        TIME,
+
+        /**
+         * The number of GL call(s) of the frame.
+         */
+        CALLS,
+
+        /**
+         * The number of GL draw call(s) of the frame.
+         */
+        DRAWS
+    }
+
+    private final ThreadMXBean mThread = ManagementFactory.getThreadMXBean();
+    private final boolean mCPU = mThread.isCurrentThreadCpuTimeSupported();
+
+    private long[][] mSamples = new long[Type.values().length][1024];
+    private int mCount = 0;
+
+    private FrameBenchmarkGLES32 mContext;
+    private long mBeginCPU;
+    private long mBeginTime;
+    private long mBeginCalls;
+    private long mBeginDraws;
+
+    /**
+     * <p>Wrap the given context, so that every GL call is counted</p>
+     *
+     * @param gl the context to wrap
+     *
+     * @return the context that count(s) every GL call
+     */
+    public Render.GLES32 wrap(Render.GLES32 gl) {
+        return (mContext = new FrameBenchmarkGLES32(gl));
+    }
+
+    /**
+     * <p>Handle when a frame begin</p>
+     * <p>
+     * NOTE: Must be called from the thread that render(s) the frame(s).
+     */
+    public void onFrameBegin() {
+        mBeginCPU = mCPU ? mThread.getCurrentThreadCpuTime() : System.nanoTime();
+        mBeginTime = System.nanoTime();
+        mBeginCalls = getCalls();
+        mBeginDraws = getDraws();
+    }
+
+    /**
+     * <p>Handle when a frame end</p>
+     * <p>
+     * NOTE: Must be called from the thread that render(s) the frame(s).
+     */
+    public void onFrameEnd() {
+        if (mCount == mSamples[0].length) {
+            for (int i = 0; i < mSamples.length; ++i) {
+                mSamples[i] = Arrays.copyOf(mSamples[i], mCount * 2);
+            }
+        }
+        mSamples[Type.CPU.ordinal()][mCount] = (mCPU ? mThread.getCurrentThreadCpuTime() : System.nanoTime())
+                - mBeginCPU;
+        mSamples[Type.TIME.ordinal()][mCount] = System.nanoTime() - mBeginTime;
+        mSamples[Type.CALLS.ordinal()][mCount] = getCalls() - mBeginCalls;
+        mSamples[Type.DRAWS.ordinal()][mCount] = getDraws() - mBeginDraws;
+        mCount++;
+    }
+
+    /**
+     * <p>Get the number of GL call(s) of the context wrapped</p>
+     */
+    private long getCalls() {
+        return mContext != null ? mContext.mCalls : 0L;
+    }
+
+    /**
+     * <p>Get the number of GL draw call(s) of the context wrapped</p>
+     */
+    private long getDraws() {
+        return mContext != null ? mContext.mDraws : 0L;
+    }
+
+    /**
+     * <p>Get the number of frame(s) measured</p>
+     *
+     * @return the number of frame(s) measured
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * <p>Get the average of a sample of every frame measured</p>
+     *
+     * @param type the type of the sample
+     *
+     * @return the average of the sample (nanosecond(s) for time(s))
+     */
+    public double getAverage(Type type) {
+        long sum = 0L;
+
+        for (int i = 0; i < mCount; ++i) {
+            sum += mSamples[type.ordinal()][i];
+        }
+        return mCount == 0 ? 0.0 : (double) sum / mCount;
+    }
+
+    /**
+     * <p>Get a percentile of a sample of every frame measured</p>
+     *
+     * @param type       the type of the sample
+     * @param percentile the percentile (between 0.0 and 100.0, e.g 99.0)
+     *
+     * @return the percentile of the sample (nanosecond(s) for time(s))
+     */
+    public long getPercentile(Type type, double percentile) {
+        if (mCount == 0) {
+            return 0L;
+        }
+        final long[] samples = Arrays.copyOf(mSamples[type.ordinal()], mCount);
+
+        Arrays.sort(samples);
+
+        //!
+        //! NOTE: Use the nearest-rank method.
+        //!
+        final int rank = (int) Math.ceil(Math.max(0.0, Math.min(100.0, percentile)) / 100.0 * samples.length);
+
+        return samples[Math.max(0, rank - 1)];
+    }
+
+    /**
+     * <p>Log the result(s) of every frame measured</p>
+     */
+    public void report() {
+        LOGGER.info("Benchmark: {} frame(s), {} time per frame: avg {} ms, p50 {} ms, p99 {} ms, max {} ms",
+                mCount,
+                mCPU ? "CPU" : "wall",
+                String.format("%.3f", getAverage(Type.CPU) / 1.0E6),
+                String.format("%.3f", getPercentile(Type.CPU, 50.0) / 1.0E6),
+                String.format("%.3f", getPercentile(Type.CPU, 99.0) / 1.0E6),
+                String.format("%.3f", getPercentile(Type.CPU, 100.0) / 1.0E6)); /* INFO */
+        LOGGER.info("Benchmark: GL call(s) per frame: avg {}, max {}; draw call(s) per frame: avg {}, max {}",
+                String.format("%.1f", getAverage(Type.CALLS)),
+                getPercentile(Type.CALLS, 100.0),
+                String.format("%.1f", getAverage(Type.DRAWS)),
+                getPercentile(Type.DRAWS, 100.0)); /* INFO */
+    }
+}
@@ -0,0 +1,1104 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system;
+
+import ar.com.quark.render.Render;
+import ar.com.quark.render.RenderCapabilities;
+import ar.com.quark.system.utility.array.*;
+
+/**
+ * <code>FrameBenchmarkGLES32</code> encapsulate a {@link Render.GLES32} that count(s) every GL call (and draw call)
+ * before delegating it to the underlying context.
+ */
+final class FrameBenchmarkGLES32 implements Render.GLES32 {
+    private final Render.GLES32 mGL;
+
+    /**
+     * Hold the number of GL call(s).
+     */
+    long mCalls = 0L;
+
+    /**
+     * Hold the number of GL draw call(s).
+     */
+    long mDraws = 0L;
+
+    /**
+     * <p>Constructor</p>
+     */
+    FrameBenchmarkGLES32(Render.GLES32 gl) {
+        mGL = gl;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RenderCapabilities glCapabilities() {
+        mCalls++;
+
+        return mGL.glCapabilities();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEnable(int value) {
+        mCalls++;
+
+        mGL.glEnable(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDisable(int value) {
+        mCalls++;
+
+        mGL.glDisable(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlendFunc(int source, int destination) {
+        mCalls++;
+
+        mGL.glBlendFunc(source, destination);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlendEquationSeparate(int rgb, int alpha) {
+        mCalls++;
+
+        mGL.glBlendEquationSeparate(rgb, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCullFace(int mode) {
+        mCalls++;
+
+        mGL.glCullFace(mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthMask(boolean activate) {
+        mCalls++;
+
+        mGL.glDepthMask(activate);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthRange(float near, float far) {
+        mCalls++;
+
+        mGL.glDepthRange(near, far);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDepthFunc(int mode) {
+        mCalls++;
+
+        mGL.glDepthFunc(mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glColorMask(boolean red, boolean green, boolean blue, boolean alpha) {
+        mCalls++;
+
+        mGL.glColorMask(red, green, blue, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glScissor(int x1, int y1, int x2, int y2) {
+        mCalls++;
+
+        mGL.glScissor(x1, y1, x2, y2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glStencilOpSeparate(int face, int stencilFail, int depthFail, int depthPass) {
+        mCalls++;
+
+        mGL.glStencilOpSeparate(face, stencilFail, depthFail, depthPass);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glStencilFuncSeparate(int face, int func, int ref, int mask) {
+        mCalls++;
+
+        mGL.glStencilFuncSeparate(face, func, ref, mask);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glClear(int value) {
+        mCalls++;
+
+        mGL.glClear(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        mCalls++;
+
+        mGL.glClearColor(red, green, blue, alpha);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        mCalls++;
+
+        mGL.glViewport(x, y, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, Int8Array data) {
+        mCalls++;
+
+        mGL.glReadPixels(x, y, width, height, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenTextures() {
+        mCalls++;
+
+        return mGL.glGenTextures();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenBuffers() {
+        mCalls++;
+
+        return mGL.glGenBuffers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glCreateProgram() {
+        mCalls++;
+
+        return mGL.glCreateProgram();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glCreateShader(int type) {
+        mCalls++;
+
+        return mGL.glCreateShader(type);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenFramebuffers() {
+        mCalls++;
+
+        return mGL.glGenFramebuffers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenRenderbuffers() {
+        mCalls++;
+
+        return mGL.glGenRenderbuffers();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteTextures(int name) {
+        mCalls++;
+
+        mGL.glDeleteTextures(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteBuffers(int name) {
+        mCalls++;
+
+        mGL.glDeleteBuffers(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteProgram(int name) {
+        mCalls++;
+
+        mGL.glDeleteProgram(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteFramebuffers(int name) {
+        mCalls++;
+
+        mGL.glDeleteFramebuffers(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteRenderbuffers(int name) {
+        mCalls++;
+
+        mGL.glDeleteRenderbuffers(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteShader(int name) {
+        mCalls++;
+
+        mGL.glDeleteShader(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glActiveTexture(int stage) {
+        mCalls++;
+
+        mGL.glActiveTexture(stage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindTexture(int target, int name) {
+        mCalls++;
+
+        mGL.glBindTexture(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBuffer(int target, int name) {
+        mCalls++;
+
+        mGL.glBindBuffer(target, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUseProgram(int name) {
+        mCalls++;
+
+        mGL.glUseProgram(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindFramebuffer(int type, int name) {
+        mCalls++;
+
+        mGL.glBindFramebuffer(type, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindRenderbuffer(int type, int name) {
+        mCalls++;
+
+        mGL.glBindRenderbuffer(type, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawArrays(int primitive, int offset, int count) {
+        mCalls++;
+        mDraws++;
+
+        mGL.glDrawArrays(primitive, offset, count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDrawElements(int primitive, int count, int format, int offset) {
+        mCalls++;
+        mDraws++;
+
+        mGL.glDrawElements(primitive, count, format, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, int capacity, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, capacity, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int8Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int16Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Int32Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt8Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt16Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, UInt32Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Float16Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferData(int target, Float32Array data, int usage) {
+        mCalls++;
+
+        mGL.glBufferData(target, data, usage);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int8Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int16Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Int32Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt8Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt16Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, UInt32Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Float16Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBufferSubData(int target, int offset, Float32Array data) {
+        mCalls++;
+
+        mGL.glBufferSubData(target, offset, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUnmapBuffer(int target) {
+        mCalls++;
+
+        mGL.glUnmapBuffer(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Array<?>> T glMapBuffer(int target, int access, int format) {
+        mCalls++;
+
+        return mGL.glMapBuffer(target, access, format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexParameter(int target, int type, int value) {
+        mCalls++;
+
+        mGL.glTexParameter(target, type, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexParameter(int target, int type, float value) {
+        mCalls++;
+
+        mGL.glTexParameter(target, type, value);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexImage2D(int target, int level, int internal, int width, int height, int border, int format,
+            int type, Int8Array data) {
+        mCalls++;
+
+        mGL.glTexImage2D(target, level, internal, width, height, border, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage2D(int target, int level, int internal, int width, int height, int border,
+            Int8Array data) {
+        mCalls++;
+
+        mGL.glCompressedTexImage2D(target, level, internal, width, height, border, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glGenerateMipmap(int target) {
+        mCalls++;
+
+        mGL.glGenerateMipmap(target);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glFramebufferTexture2D(int target, int attachment, int texture, int name, int level) {
+        mCalls++;
+
+        mGL.glFramebufferTexture2D(target, attachment, texture, name, level);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEnableVertexAttribArray(int name) {
+        mCalls++;
+
+        mGL.glEnableVertexAttribArray(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDisableVertexAttribArray(int name) {
+        mCalls++;
+
+        mGL.glDisableVertexAttribArray(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glVertexAttribPointer(int name, int component, int type, boolean normalised, int stride, int offset) {
+        mCalls++;
+
+        mGL.glVertexAttribPointer(name, component, type, normalised, stride, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glLinkProgram(int name) {
+        mCalls++;
+
+        mGL.glLinkProgram(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetProgram(int name, int property) {
+        mCalls++;
+
+        return mGL.glGetProgram(name, property);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glShaderSource(int name, String source) {
+        mCalls++;
+
+        mGL.glShaderSource(name, source);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompileShader(int name) {
+        mCalls++;
+
+        mGL.glCompileShader(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glAttachShader(int name, int shader) {
+        mCalls++;
+
+        mGL.glAttachShader(name, shader);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindAttribLocation(int name, int id, String attribute) {
+        mCalls++;
+
+        mGL.glBindAttribLocation(name, id, attribute);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGetUniformLocation(int name, String uniform) {
+        mCalls++;
+
+        return mGL.glGetUniformLocation(name, uniform);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String glGetProgramInfoLog(int name) {
+        mCalls++;
+
+        return mGL.glGetProgramInfoLog(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glRenderbufferStorage(int target, int format, int width, int height) {
+        mCalls++;
+
+        mGL.glRenderbufferStorage(target, format, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1f(int name, float i1) {
+        mCalls++;
+
+        mGL.glUniform1f(name, i1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2f(int name, float i1, float i2) {
+        mCalls++;
+
+        mGL.glUniform2f(name, i1, i2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3f(int name, float i1, float i2, float i3) {
+        mCalls++;
+
+        mGL.glUniform3f(name, i1, i2, i3);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4f(int name, float i1, float i2, float i3, float i4) {
+        mCalls++;
+
+        mGL.glUniform4f(name, i1, i2, i3, i4);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1fv(int name, Float32Array buffer) {
+        mCalls++;
+
+        mGL.glUniform1fv(name, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1i(int name, int i1) {
+        mCalls++;
+
+        mGL.glUniform1i(name, i1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2i(int name, int i1, int i2) {
+        mCalls++;
+
+        mGL.glUniform2i(name, i1, i2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3i(int name, int i1, int i2, int i3) {
+        mCalls++;
+
+        mGL.glUniform3i(name, i1, i2, i3);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4i(int name, int i1, int i2, int i3, int i4) {
+        mCalls++;
+
+        mGL.glUniform4i(name, i1, i2, i3, i4);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1iv(int name, Int32Array buffer) {
+        mCalls++;
+
+        mGL.glUniform1iv(name, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformMatrix3fv(int name, boolean transpose, Float32Array buffer) {
+        mCalls++;
+
+        mGL.glUniformMatrix3fv(name, transpose, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniformMatrix4fv(int name, boolean transpose, Float32Array buffer) {
+        mCalls++;
+
+        mGL.glUniformMatrix4fv(name, transpose, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int glGenVertexArrays() {
+        mCalls++;
+
+        return mGL.glGenVertexArrays();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glDeleteVertexArrays(int name) {
+        mCalls++;
+
+        mGL.glDeleteVertexArrays(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindVertexArray(int name) {
+        mCalls++;
+
+        mGL.glBindVertexArray(name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T extends Array<?>> T glMapBufferRange(int target, int offset, int size, int access, int format) {
+        mCalls++;
+
+        return mGL.glMapBufferRange(target, offset, size, access, format);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTexImage3D(int target, int level, int internal, int width, int height, int depth, int border,
+            int format, int type, Int8Array data) {
+        mCalls++;
+
+        mGL.glTexImage3D(target, level, internal, width, height, depth, border, format, type, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glCompressedTexImage3D(int target, int level, int internal, int width, int height, int depth,
+            int border, Int8Array data) {
+        mCalls++;
+
+        mGL.glCompressedTexImage3D(target, level, internal, width, height, depth, border, data);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glRenderbufferStorageMultisample(int target, int samples, int format, int width, int height) {
+        mCalls++;
+
+        mGL.glRenderbufferStorageMultisample(target, samples, format, width, height);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1ui(int name, int i1) {
+        mCalls++;
+
+        mGL.glUniform1ui(name, i1);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform2ui(int name, int i1, int i2) {
+        mCalls++;
+
+        mGL.glUniform2ui(name, i1, i2);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform3ui(int name, int i1, int i2, int i3) {
+        mCalls++;
+
+        mGL.glUniform3ui(name, i1, i2, i3);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform4ui(int name, int i1, int i2, int i3, int i4) {
+        mCalls++;
+
+        mGL.glUniform4ui(name, i1, i2, i3, i4);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glUniform1uiv(int name, UInt32Array buffer) {
+        mCalls++;
+
+        mGL.glUniform1uiv(name, buffer);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glTransformFeedbackVaryings(int name, String[] varyings, int mode) {
+        mCalls++;
+
+        mGL.glTransformFeedbackVaryings(name, varyings, mode);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBeginTransformFeedback(int primitive) {
+        mCalls++;
+
+        mGL.glBeginTransformFeedback(primitive);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glEndTransformFeedback() {
+        mCalls++;
+
+        mGL.glEndTransformFeedback();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindBufferBase(int target, int index, int name) {
+        mCalls++;
+
+        mGL.glBindBufferBase(target, index, name);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glReadPixels(int x, int y, int width, int height, int format, int type, int offset) {
+        mCalls++;
+
+        mGL.glReadPixels(x, y, width, height, format, type, offset);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBlitFramebuffer(int srcX0, int srcY0, int srcX1, int srcY1, int dstX0, int dstY0, int dstX1,
+            int dstY1, int mask, int filter) {
+        mCalls++;
+
+        mGL.glBlitFramebuffer(srcX0, srcY0, srcX1, srcY1, dstX0, dstY0, dstX1, dstY1, mask, filter);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void glBindFragDataLocation(int name, int index, String attribute) {
+        mCalls++;
+
+        mGL.glBindFragDataLocation(name, index, attribute);
+    }
+}
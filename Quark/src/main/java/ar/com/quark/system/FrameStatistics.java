@@ -0,0 +1,306 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * <code>FrameStatistics</code> encapsulate the statistic(s) of the last frame(s) of a {@link Display}.
+ * <p>
+ * Every frame is recorded (by the render thread) into a ring of sample(s) without locking, therefore the
+ * statistic(s) can be queried from any thread at any time; a query may observe a frame being recorded.
+ */
+public final class FrameStatistics {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>FrameStatistics</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(FrameStatistics.class);
+
+    /**
+     * Encapsulate the interval (in nanosecond) between log line(s).
+     */
+    private final static long LOG_INTERVAL = 1000000000L;
+
+    /**
+     * Encapsulate the default number of frame(s) kept.
+     */
+    public final static int DEFAULT_CAPACITY = 512;
+
+    /**
+     * <code>Type</code> enumerate(s) all time(s) recorded of a frame.
+     */
+    public enum Type {
+        /**
+         * The time the CPU spent submitting the frame.
+         */
+        SUBMIT,
+
+        /**
+         * The time spent swapping (presenting) the frame.
+         */
+        SWAP,
+
+        /**
+         * The time between the end of the previous frame and the end of the frame.
+         */
+        TOTAL
+    }
+
+    private final long[][] mSamples;
+    private final int mCapacity;
+    private volatile long mCount = 0L;
+
+    private volatile long mHitchThreshold = 0L;
+    private volatile long mHitchCount = 0L;
+    private volatile boolean mLogging = false;
+
+    private long mLast = 0L;
+    private long mLogTime = 0L;
+    private long mLogCount = 0L;
+
+    /**
+     * <p>Constructor</p>
+     */
+    public FrameStatistics() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param capacity the number of frame(s) kept
+     */
+    public FrameStatistics(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        mCapacity = capacity;
+        mSamples = new long[Type.values().length][capacity];
+    }
+
+    /**
+     * <p>Record a frame</p>
+     * <p>
+     * NOTE: Must be called from a single thread (usually the render thread).
+     *
+     * @param submit the time the CPU spent submitting the frame (in nanosecond)
+     * @param swap   the time spent swapping the frame (in nanosecond)
+     * @param time   the time at the end of the frame (in nanosecond, as given by {@link System#nanoTime()})
+     */
+    public void record(long submit, long swap, long time) {
+        final long total = (mLast == 0L ? submit + swap : time - mLast);
+        final int index = (int) (mCount % mCapacity);
+
+        mSamples[Type.SUBMIT.ordinal()][index] = submit;
+        mSamples[Type.SWAP.ordinal()][index] = swap;
+        mSamples[Type.TOTAL.ordinal()][index] = total;
+        mLast = time;
+
+        //!
+        //! NOTE: Publish the sample(s) through the volatile counter.
+        //!
+        mCount = mCount + 1;
+
+        if (mHitchThreshold > 0L && total > mHitchThreshold) {
+            mHitchCount = mHitchCount + 1;
+        }
+
+        if (mLogging) {
+            onLog(time);
+        }
+    }
+
+    /**
+     * <p>Interrupt the sequence of frame(s), so that the total time of the next frame excludes the time until
+     * it begins (e.g while paused or waiting for event(s))</p>
+     * <p>
+     * NOTE: Must be called from the thread that record(s) the frame(s).
+     */
+    public void interrupt() {
+        mLast = 0L;
+    }
+
+    /**
+     * <p>Change the threshold above which a frame is counted as a hitch</p>
+     *
+     * @param threshold the threshold (in seconds, <code>0</code> to disable)
+     */
+    public void setHitchThreshold(double threshold) {
+        mHitchThreshold = (long) (threshold * 1.0E9);
+    }
+
+    /**
+     * <p>Get the threshold above which a frame is counted as a hitch</p>
+     *
+     * @return the threshold (in seconds)
+     */
+    public double getHitchThreshold() {
+        return mHitchThreshold / 1.0E9;
+    }
+
+    /**
+     * <p>Get the number of hitch(s) since the last reset</p>
+     *
+     * @return the number of hitch(s) since the last reset
+     */
+    public long getHitchCount() {
+        return mHitchCount;
+    }
+
+    /**
+     * <p>Change whether the statistic(s) are logged once per second</p>
+     *
+     * @param activate <code>true</code> to log the statistic(s), <code>false</code> otherwise
+     */
+    public void setLogging(boolean activate) {
+        mLogging = activate;
+    }
+
+    /**
+     * <p>Get the number of frame(s) recorded since the last reset</p>
+     *
+     * @return the number of frame(s) recorded since the last reset
+     */
+    public long getCount() {
+        return mCount;
+    }
+
+    /**
+     * <p>Get the time of the last frame</p>
+     *
+     * @param type the type of the time
+     *
+     * @return the time of the last frame (in seconds)
+     */
+    public double getLast(Type type) {
+        final long count = mCount;
+
+        return count == 0L ? 0.0 : mSamples[type.ordinal()][(int) ((count - 1L) % mCapacity)] / 1.0E9;
+    }
+
+    /**
+     * <p>Get the average time of the frame(s) kept</p>
+     *
+     * @param type the type of the time
+     *
+     * @return the average time (in seconds)
+     */
+    public double getAverage(Type type) {
+        final long[] samples = getSamples(type);
+
+        long sum = 0L;
+
+        for (final long sample : samples) {
+            sum += sample;
+        }
+        return samples.length == 0 ? 0.0 : sum / (samples.length * 1.0E9);
+    }
+
+    /**
+     * <p>Get a percentile of the time of the frame(s) kept</p>
+     *
+     * @param type       the type of the time
+     * @param percentile the percentile (between 0.0 and 100.0, e.g 99.0)
+     *
+     * @return the percentile of the time (in seconds)
+     */
+    public double getPercentile(Type type, double percentile) {
+        final long[] samples = getSamples(type);
+
+        if (samples.length == 0) {
+            return 0.0;
+        }
+        Arrays.sort(samples);
+
+        //!
+        //! NOTE: Use the nearest-rank method.
+        //!
+        final int rank = (int) Math.ceil(Math.max(0.0, Math.min(100.0, percentile)) / 100.0 * samples.length);
+
+        return samples[Math.max(0, rank - 1)] / 1.0E9;
+    }
+
+    /**
+     * <p>Get the maximum time of the frame(s) kept</p>
+     *
+     * @param type the type of the time
+     *
+     * @return the maximum time (in seconds)
+     */
+    public double getMaximum(Type type) {
+        long maximum = 0L;
+
+        for (final long sample : getSamples(type)) {
+            maximum = Math.max(maximum, sample);
+        }
+        return maximum / 1.0E9;
+    }
+
+    /**
+     * <p>Discard every frame kept and reset the hitch counter</p>
+     * <p>
+     * NOTE: Must be called from the thread that record(s) the frame(s).
+     */
+    public void reset() {
+        mCount = 0L;
+        mHitchCount = 0L;
+        mLast = 0L;
+        mLogCount = 0L;
+    }
+
+    /**
+     * <p>Get a copy of the sample(s) kept</p>
+     */
+    private long[] getSamples(Type type) {
+        final int length = (int) Math.min(mCount, mCapacity);
+
+        return Arrays.copyOf(mSamples[type.ordinal()], length);
+    }
+
+    /**
+     * <p>Log the statistic(s), once per second</p>
+     */
+    private void onLog(long time) {
+        if (mLogTime == 0L) {
+            mLogTime = time;
+            mLogCount = mCount;
+            return;
+        }
+
+        if (time - mLogTime < LOG_INTERVAL) {
+            return;
+        }
+        final double frames = (mCount - mLogCount) * 1.0E9 / (time - mLogTime);
+
+        mLogTime = time;
+        mLogCount = mCount;
+
+        LOGGER.info("Frame: {} fps, p50 {} ms, p95 {} ms, p99 {} ms, max {} ms (submit {} ms, swap {} ms), {} hitch(s)",
+                String.format("%.1f", frames),
+                String.format("%.2f", getPercentile(Type.TOTAL, 50.0) * 1000.0),
+                String.format("%.2f", getPercentile(Type.TOTAL, 95.0) * 1000.0),
+                String.format("%.2f", getPercentile(Type.TOTAL, 99.0) * 1000.0),
+                String.format("%.2f", getMaximum(Type.TOTAL) * 1000.0),
+                String.format("%.2f", getPercentile(Type.SUBMIT, 50.0) * 1000.0),
+                String.format("%.2f", getPercentile(Type.SWAP, 50.0) * 1000.0),
+                mHitchCount); /* INFO */
+    }
+}
@@ -0,0 +1,497 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * <code>JobSystem</code> encapsulate a work-stealing pool of worker(s) shared by the entire framework.
+ * <p>
+ * Every worker own a queue, it executes the latest job pushed into it (LIFO) and steal(s) the oldest job of
+ * another worker (FIFO) when its queue is empty. Job(s) submitted from any other thread are placed in a shared
+ * queue. A {@link Job} may depend on other job(s) (forming a graph) and may be tracked by a {@link Counter},
+ * which can be waited on while the waiting thread helps executing job(s).
+ */
+public final class JobSystem implements Executor {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>JobSystem</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(JobSystem.class);
+
+    /**
+     * Encapsulate the time (in millisecond) an idle worker sleep before looking for job(s) again.
+     */
+    private final static long WORKER_IDLE_DELAY = 10L;
+
+    /**
+     * Encapsulate the number of time(s) a thread (that isn't a worker) yield(s) before sleeping while waiting.
+     */
+    private final static int WAIT_SPIN_COUNT = 64;
+
+    /**
+     * Encapsulate the time (in millisecond) a thread (that isn't a worker) sleep while waiting.
+     */
+    private final static long WAIT_IDLE_DELAY = 1L;
+
+    /**
+     * <code>Counter</code> encapsulate the number of unfinished job(s) of a group (e.g a frame).
+     */
+    public final static class Counter {
+        private final AtomicInteger mValue = new AtomicInteger();
+
+        /**
+         * <p>Get the number of unfinished job(s)</p>
+         *
+         * @return the number of unfinished job(s)
+         */
+        public int getValue() {
+            return mValue.get();
+        }
+
+        /**
+         * <p>Check if every job has finished</p>
+         *
+         * @return <code>true</code> if every job has finished, <code>false</code> otherwise
+         */
+        public boolean isDone() {
+            return mValue.get() == 0;
+        }
+    }
+
+    /**
+     * <code>Job</code> encapsulate a unit of work of the {@link JobSystem}.
+     */
+    public final static class Job {
+        private final Runnable mTask;
+        private final Counter mCounter;
+        private final List<Job> mDependents = new ArrayList<>(0);
+
+        /**
+         * NOTE: Hold one token for the submission and one for each unfinished dependency.
+         */
+        private final AtomicInteger mPending = new AtomicInteger(1);
+        private boolean mFinished = false;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Job(Runnable task, Counter counter) {
+            mTask = task;
+            mCounter = counter;
+
+            if (counter != null) {
+                counter.mValue.incrementAndGet();
+            }
+        }
+
+        /**
+         * <p>Check if the job has finished</p>
+         *
+         * @return <code>true</code> if the job has finished, <code>false</code> otherwise
+         */
+        public synchronized boolean isFinished() {
+            return mFinished;
+        }
+    }
+
+    /**
+     * <code>Worker</code> encapsulate a thread of the {@link JobSystem}.
+     */
+    private final class Worker extends Thread {
+        private final ConcurrentLinkedDeque<Job> mQueue = new ConcurrentLinkedDeque<>();
+        private final int mIndex;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Worker(int index) {
+            super("QK-Job-Thread-" + index);
+            mIndex = index;
+
+            setDaemon(true);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            while (mActive) {
+                final Job job = onPoll(this);
+
+                if (job != null) {
+                    onExecute(job);
+                } else {
+                    onIdle();
+                }
+            }
+        }
+    }
+
+    private final Worker[] mWorkers;
+    private final Queue<Job> mShared = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger mQueued = new AtomicInteger();
+    private final Object mLock = new Object();
+    private volatile boolean mActive = true;
+
+    /**
+     * <p>Constructor</p>
+     * <p>
+     * NOTE: Without worker(s), every job is executed when submitted.
+     *
+     * @param workers the number of worker(s)
+     */
+    public JobSystem(int workers) {
+        mWorkers = new Worker[workers];
+
+        for (int i = 0; i < workers; ++i) {
+            mWorkers[i] = new Worker(i);
+            mWorkers[i].start();
+        }
+    }
+
+    /**
+     * <p>Get the number of worker(s)</p>
+     *
+     * @return the number of worker(s)
+     */
+    public int getWorkers() {
+        return mWorkers.length;
+    }
+
+    /**
+     * <p>Create a job (without submitting it)</p>
+     *
+     * @param task the task of the job
+     *
+     * @return the job created
+     *
+     * @see #submit(Job)
+     */
+    public Job create(Runnable task) {
+        return new Job(task, null);
+    }
+
+    /**
+     * <p>Create a job (without submitting it) tracked by the given {@link Counter}</p>
+     *
+     * @param task    the task of the job
+     * @param counter the counter of the job
+     *
+     * @return the job created
+     *
+     * @see #submit(Job)
+     */
+    public Job create(Runnable task, Counter counter) {
+        return new Job(task, counter);
+    }
+
+    /**
+     * <p>Make a job depend on another one</p>
+     * <p>
+     * NOTE: Must be called before the job is submitted.
+     *
+     * @param job        the job
+     * @param dependency the job that must finish before the job can be executed
+     */
+    public void depend(Job job, Job dependency) {
+        job.mPending.incrementAndGet();
+
+        synchronized (dependency) {
+            if (!dependency.mFinished) {
+                dependency.mDependents.add(job);
+                return;
+            }
+        }
+        onRelease(job);
+    }
+
+    /**
+     * <p>Submit a job, it will be executed once every dependency has finished</p>
+     *
+     * @param job the job to submit
+     */
+    public void submit(Job job) {
+        onRelease(job);
+    }
+
+    /**
+     * <p>Create and submit a job</p>
+     *
+     * @param task    the task of the job
+     * @param counter the counter of the job (may be <code>null</code>)
+     *
+     * @return the job submitted
+     */
+    public Job submit(Runnable task, Counter counter) {
+        final Job job = create(task, counter);
+        submit(job);
+        return job;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute(Runnable command) {
+        submit(command, null);
+    }
+
+    /**
+     * <p>Execute the given body for every index of the range in parallel, without waiting</p>
+     *
+     * @param from    the first index of the range (inclusive)
+     * @param to      the last index of the range (exclusive)
+     * @param grain   the number of index(s) of each job
+     * @param body    the body to execute for every index
+     * @param counter the counter of every job
+     */
+    public void parallel(int from, int to, int grain, IntConsumer body, Counter counter) {
+        final int size = Math.max(1, grain);
+
+        for (int i = from; i < to; i += size) {
+            final int first = i;
+            final int last = Math.min(to, i + size);
+
+            submit(() -> {
+                for (int j = first; j < last; ++j) {
+                    body.accept(j);
+                }
+            }, counter);
+        }
+    }
+
+    /**
+     * <p>Execute the given body for every index of the range in parallel, helping until all of them finished</p>
+     *
+     * @param from  the first index of the range (inclusive)
+     * @param to    the last index of the range (exclusive)
+     * @param grain the number of index(s) of each job
+     * @param body  the body to execute for every index
+     */
+    public void parallel(int from, int to, int grain, IntConsumer body) {
+        final Counter counter = new Counter();
+
+        parallel(from, to, grain, body, counter);
+
+        await(counter);
+    }
+
+    /**
+     * <p>Wait until every job of the given {@link Counter} has finished, executing job(s) meanwhile</p>
+     *
+     * @param counter the counter to wait on
+     */
+    public void await(Counter counter) {
+        final Worker worker = getWorker();
+
+        for (int attempt = 0; !counter.isDone(); ) {
+            final Job job = onPoll(worker);
+
+            if (job != null) {
+                onExecute(job);
+
+                attempt = 0;
+            } else {
+                onWait(worker, attempt++);
+            }
+        }
+    }
+
+    /**
+     * <p>Wait until the given {@link Future} has completed, executing job(s) meanwhile</p>
+     * <p>
+     * NOTE: The future is usually completed by a job of the system (e.g through {@link #execute(Runnable)}).
+     *
+     * @param future the future to wait on
+     */
+    public void join(Future<?> future) {
+        final Worker worker = getWorker();
+
+        for (int attempt = 0; !future.isDone(); ) {
+            final Job job = onPoll(worker);
+
+            if (job != null) {
+                onExecute(job);
+
+                attempt = 0;
+            } else {
+                onWait(worker, attempt++);
+            }
+        }
+    }
+
+    /**
+     * <p>Stop every worker</p>
+     * <p>
+     * NOTE: Job(s) that haven't been executed yet are discarded.
+     */
+    public void shutdown() {
+        mActive = false;
+
+        synchronized (mLock) {
+            mLock.notifyAll();
+        }
+    }
+
+    /**
+     * <p>Get the worker of the current thread</p>
+     *
+     * @return the worker of the current thread or <code>null</code> if the thread isn't a worker of the system
+     */
+    private Worker getWorker() {
+        final Thread thread = Thread.currentThread();
+
+        for (final Worker worker : mWorkers) {
+            if (worker == thread) {
+                return worker;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>Release a token of the job, enqueue it when there isn't any remaining</p>
+     */
+    private void onRelease(Job job) {
+        if (job.mPending.decrementAndGet() != 0) {
+            return;
+        }
+
+        if (mWorkers.length == 0) {
+            onExecute(job);
+            return;
+        }
+
+        //!
+        //! Push into the queue of the current worker (if any), otherwise into the shared queue.
+        //!
+        final Worker worker = getWorker();
+
+        if (worker != null) {
+            worker.mQueue.push(job);
+        } else {
+            mShared.offer(job);
+        }
+        mQueued.incrementAndGet();
+
+        synchronized (mLock) {
+            mLock.notify();
+        }
+    }
+
+    /**
+     * <p>Poll a job, from the queue of the given worker, the shared queue or any other worker</p>
+     */
+    private Job onPoll(Worker worker) {
+        Job job = (worker != null ? worker.mQueue.pollFirst() : null);
+
+        if (job == null) {
+            job = mShared.poll();
+        }
+
+        if (job == null) {
+            final int offset = (worker != null ? worker.mIndex + 1 : 0);
+
+            for (int i = 0; job == null && i < mWorkers.length; ++i) {
+                final Worker victim = mWorkers[(offset + i) % mWorkers.length];
+
+                if (victim != worker) {
+                    job = victim.mQueue.pollLast();
+                }
+            }
+        }
+
+        if (job != null) {
+            mQueued.decrementAndGet();
+        }
+        return job;
+    }
+
+    /**
+     * <p>Execute a job and release every job that depends on it</p>
+     */
+    private void onExecute(Job job) {
+        try {
+            job.mTask.run();
+        } catch (Throwable exception) {
+            LOGGER.warn("Job failed", exception); /* WARNING */
+        }
+
+        final List<Job> dependents;
+
+        synchronized (job) {
+            job.mFinished = true;
+
+            dependents = new ArrayList<>(job.mDependents);
+            job.mDependents.clear();
+        }
+
+        for (final Job dependent : dependents) {
+            onRelease(dependent);
+        }
+
+        if (job.mCounter != null) {
+            job.mCounter.mValue.decrementAndGet();
+        }
+    }
+
+    /**
+     * <p>Handle when a thread that waits doesn't have any job to execute</p>
+     * <p>
+     * NOTE: A worker yield(s) (the job(s) it waits on are being executed by other worker(s)), while any other thread
+     * (e.g the main thread) back(s) off and sleep(s) rather than spinning.
+     */
+    private void onWait(Worker worker, int attempt) {
+        if (worker != null || attempt < WAIT_SPIN_COUNT) {
+            Thread.yield();
+        } else {
+            try {
+                Thread.sleep(WAIT_IDLE_DELAY);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * <p>Handle when a worker doesn't have any job to execute</p>
+     */
+    private void onIdle() {
+        synchronized (mLock) {
+            if (mQueued.get() == 0 && mActive) {
+                try {
+                    mLock.wait(WORKER_IDLE_DELAY);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
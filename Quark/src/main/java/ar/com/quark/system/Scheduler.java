@@ -0,0 +1,402 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <code>Scheduler</code> encapsulate the scheduler of every periodic task of the framework.
+ * <p>
+ * Task(s) run at frame boundaries (on the thread that updates the scheduler) in order of {@link Priority},
+ * each one at its own rate, unless it's requested to run on a dedicated thread. The scheduler keep(s) track
+ * of the jitter of every task, which is the difference between the expected and the actual interval between
+ * two execution(s).
+ */
+public final class Scheduler {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>Scheduler</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(Scheduler.class);
+
+    /**
+     * Encapsulate the weight of every sample of the (average) jitter.
+     */
+    private final static double JITTER_SMOOTHING = 0.05;
+
+    /**
+     * <code>Priority</code> enumerate(s) all priorities of a {@link Task}.
+     */
+    public enum Priority {
+        HIGH(Thread.MAX_PRIORITY),
+        NORMAL(Thread.NORM_PRIORITY),
+        LOW(Thread.MIN_PRIORITY);
+
+        /**
+         * The priority of the thread when the task is dedicated.
+         */
+        public final int eValue;
+
+        /**
+         * <p>Constructor</p>
+         */
+        Priority(int value) {
+            eValue = value;
+        }
+    }
+
+    /**
+     * <code>Task</code> encapsulate a periodic task of the {@link Scheduler}.
+     */
+    public final static class Task {
+        private final String mName;
+        private final Runnable mRunnable;
+        private final Priority mPriority;
+        private volatile double mPeriod;
+        private volatile Thread mThread;
+
+        private double mNext = -1.0;
+        private double mLast = -1.0;
+        private double mInterval = 0.0;
+        private volatile double mJitter = 0.0;
+        private volatile double mJitterMaximum = 0.0;
+        private volatile long mCount = 0L;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Task(String name, Runnable runnable, float rate, Priority priority) {
+            mName = name;
+            mRunnable = runnable;
+            mPriority = priority;
+
+            setRate(rate);
+        }
+
+        /**
+         * <p>Get the name of the task</p>
+         *
+         * @return the name of the task
+         */
+        public String getName() {
+            return mName;
+        }
+
+        /**
+         * <p>Get the priority of the task</p>
+         *
+         * @return the priority of the task
+         */
+        public Priority getPriority() {
+            return mPriority;
+        }
+
+        /**
+         * <p>Change the rate of the task</p>
+         *
+         * @param rate the number of execution(s) per second (<code>0</code> for every frame)
+         */
+        public void setRate(float rate) {
+            mPeriod = (rate > 0.0f ? 1.0 / rate : 0.0);
+        }
+
+        /**
+         * <p>Get the rate of the task</p>
+         *
+         * @return the number of execution(s) per second (<code>0</code> for every frame)
+         */
+        public float getRate() {
+            return (float) (mPeriod > 0.0 ? 1.0 / mPeriod : 0.0);
+        }
+
+        /**
+         * <p>Get the average jitter of the task</p>
+         *
+         * @return the average jitter of the task (in seconds)
+         */
+        public double getJitter() {
+            return mJitter;
+        }
+
+        /**
+         * <p>Get the maximum jitter of the task</p>
+         *
+         * @return the maximum jitter of the task (in seconds)
+         */
+        public double getMaximumJitter() {
+            return mJitterMaximum;
+        }
+
+        /**
+         * <p>Get the number of execution(s) of the task</p>
+         *
+         * @return the number of execution(s) of the task
+         */
+        public long getCount() {
+            return mCount;
+        }
+
+        /**
+         * <p>Check if the task runs on a dedicated thread</p>
+         *
+         * @return <code>true</code> if the task runs on a dedicated thread, <code>false</code> otherwise
+         */
+        public boolean isDedicated() {
+            return mThread != null;
+        }
+
+        /**
+         * <p>Change whether the task runs on a dedicated thread (using its priority) or at frame boundaries</p>
+         * <p>
+         * NOTE: A dedicated task requires a rate.
+         *
+         * @param activate <code>true</code> to run on a dedicated thread, <code>false</code> otherwise
+         */
+        public synchronized void setDedicated(boolean activate) {
+            if (activate == isDedicated()) {
+                return;
+            }
+
+            //!
+            //! NOTE: Both mode(s) use a different clock, therefore the schedule is restarted.
+            //!
+            if (activate) {
+                if (mPeriod <= 0.0) {
+                    throw new IllegalStateException("A dedicated task requires a rate");
+                }
+                mNext = -1.0;
+                mLast = -1.0;
+
+                final Thread thread = new Thread(this::onDedicated, "QK-" + mName + "-Thread");
+                thread.setDaemon(true);
+                thread.setPriority(mPriority.eValue);
+
+                mThread = thread;
+                mThread.start();
+            } else {
+                final Thread thread = mThread;
+
+                mThread = null;
+                thread.interrupt();
+
+                //!
+                //! NOTE: Wait for the thread, otherwise the task may run concurrently.
+                //!
+                if (thread != Thread.currentThread()) {
+                    try {
+                        thread.join();
+                    } catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                mNext = -1.0;
+                mLast = -1.0;
+            }
+        }
+
+        /**
+         * <p>Reset the statistic(s) of the task</p>
+         */
+        public void reset() {
+            mJitter = 0.0;
+            mJitterMaximum = 0.0;
+            mCount = 0L;
+        }
+
+        /**
+         * <p>Check if the task is due (at frame boundaries)</p>
+         */
+        private boolean isDue(double time) {
+            return mThread == null && (mPeriod <= 0.0 || time >= mNext);
+        }
+
+        /**
+         * <p>Execute the task</p>
+         */
+        private void onExecute(double time) {
+            final double period = mPeriod;
+
+            //!
+            //! Schedule the next execution, without bursting if the task is behind by more than a period.
+            //!
+            mNext = (mNext < 0.0 || time - mNext >= period) ? time + period : mNext + period;
+
+            if (mLast >= 0.0) {
+                final double interval = time - mLast;
+
+                //!
+                //! NOTE: Task(s) executed every frame expect the same interval as the last one.
+                //!
+                final double jitter = Math.abs(interval - (period > 0.0 ? period : mInterval));
+
+                mJitter += (jitter - mJitter) * JITTER_SMOOTHING;
+                mJitterMaximum = Math.max(mJitterMaximum, jitter);
+                mInterval = interval;
+            }
+            mLast = time;
+            mCount++;
+
+            mRunnable.run();
+        }
+
+        /**
+         * <p>Execute the task on its dedicated thread</p>
+         */
+        private void onDedicated() {
+            final Thread thread = Thread.currentThread();
+
+            while (mThread == thread) {
+                onExecute(System.nanoTime() / 1.0E9);
+
+                final long remaining = (long) ((mNext - System.nanoTime() / 1.0E9) * 1.0E9);
+
+                if (remaining > 0L) {
+                    try {
+                        Thread.sleep(remaining / 1000000L, (int) (remaining % 1000000L));
+                    } catch (InterruptedException exception) {
+                        break;
+                    }
+                }
+            }
+        }
+    }
+
+    private final List<Task> mTasks = new ArrayList<>();
+    private volatile Task[] mSorted = new Task[0];
+
+    /**
+     * <p>Schedule a new task that runs at frame boundaries</p>
+     *
+     * @param name     the name of the task
+     * @param runnable the runnable of the task
+     * @param rate     the number of execution(s) per second (<code>0</code> for every frame)
+     * @param priority the priority of the task
+     *
+     * @return the task scheduled
+     */
+    public synchronized Task schedule(String name, Runnable runnable, float rate, Priority priority) {
+        final Task task = new Task(name, runnable, rate, priority);
+
+        mTasks.add(task);
+
+        onSort();
+
+        return task;
+    }
+
+    /**
+     * <p>Cancel a task</p>
+     *
+     * @param task the task to cancel
+     */
+    public synchronized void cancel(Task task) {
+        if (mTasks.remove(task)) {
+            task.setDedicated(false);
+
+            onSort();
+        }
+    }
+
+    /**
+     * <p>Get a task by its name</p>
+     *
+     * @param name the name of the task
+     *
+     * @return the task or <code>null</code> if there isn't any task with the given name
+     */
+    public Task getTask(String name) {
+        for (final Task task : mSorted) {
+            if (task.getName().equals(name)) {
+                return task;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * <p>Get the time until the next periodic task (that runs at frame boundaries) is due</p>
+     *
+     * @param time the current time (in seconds)
+     *
+     * @return the time until the next periodic task is due (in seconds)
+     */
+    public double getRemaining(double time) {
+        double remaining = Double.MAX_VALUE;
+
+        for (final Task task : mSorted) {
+            if (!task.isDedicated() && task.mPeriod > 0.0) {
+                remaining = Math.min(remaining, Math.max(0.0, task.mNext - time));
+            }
+        }
+        return remaining;
+    }
+
+    /**
+     * <p>Execute every task that is due</p>
+     * <p>
+     * NOTE: Must be called at every frame boundary.
+     *
+     * @param time the current time (in seconds)
+     */
+    public void update(double time) {
+        for (final Task task : mSorted) {
+            if (task.isDue(time)) {
+                task.onExecute(time);
+            }
+        }
+    }
+
+    /**
+     * <p>Log the statistic(s) of every task</p>
+     */
+    public void report() {
+        for (final Task task : mSorted) {
+            LOGGER.info("Task '{}' ({} Hz, {}): {} execution(s), jitter {} ms (maximum {} ms)",
+                    task.getName(),
+                    task.getRate(),
+                    task.isDedicated() ? "dedicated" : "frame",
+                    task.getCount(),
+                    String.format("%.3f", task.getJitter() * 1000.0),
+                    String.format("%.3f", task.getMaximumJitter() * 1000.0)); /* INFO */
+        }
+    }
+
+    /**
+     * <p>Stop every dedicated task</p>
+     */
+    public synchronized void shutdown() {
+        for (final Task task : mTasks) {
+            task.setDedicated(false);
+        }
+    }
+
+    /**
+     * <p>Sort every task by its priority</p>
+     */
+    private void onSort() {
+        final Task[] sorted = mTasks.toArray(new Task[mTasks.size()]);
+
+        Arrays.sort(sorted, (first, second) -> first.mPriority.compareTo(second.mPriority));
+
+        mSorted = sorted;
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <code>Startup</code> encapsulate the dependency graph of the initialisation of the framework.
+ * <p>
+ * Every {@link Stage} is executed once all of its dependencies have finished, either on the main thread
+ * (e.g anything that requires the window or the render context) or on the {@link JobSystem}, therefore
+ * independent subsystem(s) are initialised concurrently. The time of every stage is recorded for a report.
+ */
+public final class Startup {
+    /**
+     * Encapsulate the <code>Logger</code> for <code>Startup</code>
+     */
+    private final static Logger LOGGER = LoggerFactory.getLogger(Startup.class);
+
+    /**
+     * <code>Stage</code> encapsulate a step of the {@link Startup}.
+     */
+    public final static class Stage {
+        private final String mName;
+        private final Runnable mTask;
+        private final boolean mMain;
+        private final Stage[] mDependencies;
+        private final JobSystem.Counter mCounter = new JobSystem.Counter();
+
+        private JobSystem.Job mJob;
+        private volatile String mThread;
+        private volatile long mBegin;
+        private volatile long mEnd;
+        private volatile Throwable mFailure;
+
+        /**
+         * <p>Constructor</p>
+         */
+        private Stage(String name, Runnable task, boolean main, Stage[] dependencies) {
+            mName = name;
+            mTask = task;
+            mMain = main;
+            mDependencies = dependencies;
+        }
+
+        /**
+         * <p>Get the name of the stage</p>
+         *
+         * @return the name of the stage
+         */
+        public String getName() {
+            return mName;
+        }
+
+        /**
+         * <p>Get the time the stage took</p>
+         *
+         * @return the time the stage took (in seconds)
+         */
+        public double getDuration() {
+            return (mEnd - mBegin) / 1.0E9;
+        }
+
+        /**
+         * <p>Execute the stage</p>
+         */
+        private void onExecute() {
+            //!
+            //! NOTE: Skip the stage if any dependency has failed (the failure is reported by the dependency).
+            //!
+            for (final Stage dependency : mDependencies) {
+                if (dependency.mFailure != null) {
+                    return;
+                }
+            }
+            mThread = Thread.currentThread().getName();
+            mBegin = System.nanoTime();
+
+            try {
+                mTask.run();
+            } catch (Throwable exception) {
+                mFailure = exception;
+            } finally {
+                mEnd = System.nanoTime();
+            }
+        }
+    }
+
+    private final List<Stage> mStages = new ArrayList<>();
+    private long mBegin;
+    private long mEnd;
+
+    /**
+     * <p>Add a stage to the graph</p>
+     * <p>
+     * NOTE: Every dependency must have been added before.
+     *
+     * @param name         the name of the stage
+     * @param task         the task of the stage
+     * @param main         <code>true</code> if the stage must run on the main thread, <code>false</code> otherwise
+     * @param dependencies every stage that must finish before the stage
+     *
+     * @return the stage added
+     */
+    public Stage add(String name, Runnable task, boolean main, Stage... dependencies) {
+        final Stage stage = new Stage(name, task, main, dependencies);
+
+        mStages.add(stage);
+
+        return stage;
+    }
+
+    /**
+     * <p>Execute every stage, returning when all of them have finished</p>
+     * <p>
+     * NOTE: Must be called from the main thread, which helps executing job(s) while waiting.
+     *
+     * @param system the job system where stage(s) not bound to the main thread are executed
+     */
+    public void run(JobSystem system) {
+        mBegin = System.nanoTime();
+
+        //!
+        //! Create the job of every stage (the job of a main stage only signal its completion).
+        //!
+        for (final Stage stage : mStages) {
+            stage.mJob = system.create(stage.mMain ? () -> { } : stage::onExecute, stage.mCounter);
+
+            if (!stage.mMain) {
+                for (final Stage dependency : stage.mDependencies) {
+                    system.depend(stage.mJob, dependency.mJob);
+                }
+            }
+        }
+
+        for (final Stage stage : mStages) {
+            if (!stage.mMain) {
+                system.submit(stage.mJob);
+            }
+        }
+
+        //!
+        //! Execute every main stage in order, once its dependencies have finished.
+        //!
+        for (final Stage stage : mStages) {
+            if (stage.mMain) {
+                for (final Stage dependency : stage.mDependencies) {
+                    system.await(dependency.mCounter);
+                }
+                onCheck();
+
+                stage.onExecute();
+
+                system.submit(stage.mJob);
+            }
+        }
+
+        for (final Stage stage : mStages) {
+            system.await(stage.mCounter);
+        }
+        mEnd = System.nanoTime();
+
+        onCheck();
+    }
+
+    /**
+     * <p>Get the time the startup took</p>
+     *
+     * @return the time the startup took (in seconds)
+     */
+    public double getDuration() {
+        return (mEnd - mBegin) / 1.0E9;
+    }
+
+    /**
+     * <p>Log the time of every stage</p>
+     */
+    public void report() {
+        for (final Stage stage : mStages) {
+            if (stage.mThread == null) {
+                LOGGER.info("Stage '{}': skipped", stage.getName()); /* INFO */
+                continue;
+            }
+            LOGGER.info("Stage '{}' ({}): began at {} ms, took {} ms",
+                    stage.getName(),
+                    stage.mThread,
+                    String.format("%.2f", (stage.mBegin - mBegin) / 1.0E6),
+                    String.format("%.2f", stage.getDuration() * 1000.0)); /* INFO */
+        }
+        LOGGER.info("Startup took {} ms", String.format("%.2f", getDuration() * 1000.0)); /* INFO */
+    }
+
+    /**
+     * <p>Check if any stage has failed</p>
+     */
+    private void onCheck() {
+        for (final Stage stage : mStages) {
+            if (stage.mFailure != null) {
+                throw new IllegalStateException("Stage '" + stage.getName() + "' has failed", stage.mFailure);
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system.utility;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * <code>BufferInputStream</code> encapsulate an {@link InputStream} that read(s) from a {@link ByteBuffer} without
+ * copying it.
+ */
+public final class BufferInputStream extends InputStream {
+    private final ByteBuffer mBuffer;
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param buffer the buffer to read from (its position is advanced while reading)
+     */
+    public BufferInputStream(ByteBuffer buffer) {
+        mBuffer = buffer;
+    }
+
+    /**
+     * <p>Get the underlying buffer</p>
+     *
+     * @return the underlying buffer
+     */
+    public ByteBuffer getBuffer() {
+        return mBuffer;
+    }
+
+    /**
+     * <p>Read the entire content of the given {@link InputStream} into a buffer</p>
+     * <p>
+     * NOTE: The remaining content of a {@link BufferInputStream} is returned without copying it.
+     *
+     * @param input the input-stream to read (not closed)
+     *
+     * @return a buffer with the entire content of the input-stream
+     *
+     * @throws IOException indicates failing reading the input-stream
+     */
+    public static ByteBuffer readFully(InputStream input) throws IOException {
+        if (input instanceof BufferInputStream) {
+            final ByteBuffer buffer = ((BufferInputStream) input).mBuffer;
+            final ByteBuffer remaining = buffer.slice();
+
+            buffer.position(buffer.limit());
+
+            return remaining;
+        }
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(input.available(), 4096));
+        final byte[] bytes = new byte[8192];
+
+        int read;
+
+        while ((read = input.read(bytes)) > 0) {
+            output.write(bytes, 0, read);
+        }
+        return ByteBuffer.wrap(output.toByteArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() {
+        return mBuffer.hasRemaining() ? mBuffer.get() & 0xFF : -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        if (!mBuffer.hasRemaining()) {
+            return -1;
+        }
+        final int count = Math.min(length, mBuffer.remaining());
+
+        mBuffer.get(bytes, offset, count);
+
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long count) {
+        final int skipped = (int) Math.max(0L, Math.min(count, mBuffer.remaining()));
+
+        mBuffer.position(mBuffer.position() + skipped);
+
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return mBuffer.remaining();
+    }
+}
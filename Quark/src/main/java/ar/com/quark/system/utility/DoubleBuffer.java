@@ -0,0 +1,176 @@
+/*
+ * This file is part of Quark Framework, licensed under the APACHE License.
+ *
+ * Copyright (c) 2014-2016 Agustin L. Alvarez <wolftein1@gmail.com>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package ar.com.quark.system.utility;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * <code>DoubleBuffer</code> encapsulate a lock-free hand-off of snapshot(s) between a producer and a consumer.
+ * <p>
+ * The producer (e.g the logic thread) writes the snapshot of frame N+1 while the consumer (e.g the render
+ * thread) reads the snapshot of frame N. Every snapshot is consumed in order, the producer wait(s) when it's
+ * one frame ahead and the consumer wait(s) when there isn't any new snapshot. Both side(s) synchronise only
+ * through two atomic counter(s).
+ *
+ * @param <T> the type of the snapshot
+ */
+public final class DoubleBuffer<T> {
+    /**
+     * Encapsulate the time (in nanosecond) a side park(s) while waiting for the other one.
+     */
+    private final static long WAIT_DELAY = 50000L;
+
+    /**
+     * Encapsulate the number of attempt(s) a side spin(s) before parking.
+     */
+    private final static int WAIT_SPIN = 64;
+
+    private final T mFirst;
+    private final T mSecond;
+
+    /**
+     * NOTE: Hold the number of frame(s) published by the producer.
+     */
+    private final AtomicLong mProduced = new AtomicLong(0L);
+
+    /**
+     * NOTE: Hold the number of frame(s) released by the consumer.
+     */
+    private final AtomicLong mConsumed = new AtomicLong(0L);
+
+    /**
+     * <p>Constructor</p>
+     *
+     * @param first  the first snapshot
+     * @param second the second snapshot
+     */
+    public DoubleBuffer(T first, T second) {
+        mFirst = first;
+        mSecond = second;
+    }
+
+    /**
+     * <p>Acquire the snapshot to produce, waiting until the consumer has released it</p>
+     *
+     * @return the snapshot to produce or <code>null</code> if the current thread has been interrupted
+     *
+     * @see #publish()
+     */
+    public T produce() {
+        final long frame = mProduced.get();
+
+        //!
+        //! NOTE: The snapshot was used by the frame before the previous one.
+        //!
+        if (!onWait(mConsumed, frame - 1L)) {
+            return null;
+        }
+        return getSnapshot(frame);
+    }
+
+    /**
+     * <p>Publish the snapshot produced</p>
+     *
+     * @see #produce()
+     */
+    public void publish() {
+        mProduced.incrementAndGet();
+    }
+
+    /**
+     * <p>Acquire the next snapshot to consume, waiting until the producer has published it</p>
+     *
+     * @return the snapshot to consume or <code>null</code> if the current thread has been interrupted
+     *
+     * @see #release()
+     */
+    public T consume() {
+        final long frame = mConsumed.get();
+
+        if (!onWait(mProduced, frame + 1L)) {
+            return null;
+        }
+        return getSnapshot(frame);
+    }
+
+    /**
+     * <p>Release the snapshot consumed</p>
+     *
+     * @see #consume()
+     */
+    public void release() {
+        mConsumed.incrementAndGet();
+    }
+
+    /**
+     * <p>Check if there is a snapshot to consume</p>
+     *
+     * @return <code>true</code> if there is a snapshot to consume, <code>false</code> otherwise
+     */
+    public boolean isAvailable() {
+        return mProduced.get() > mConsumed.get();
+    }
+
+    /**
+     * <p>Get the number of frame(s) published</p>
+     *
+     * @return the number of frame(s) published
+     */
+    public long getProduced() {
+        return mProduced.get();
+    }
+
+    /**
+     * <p>Get the number of frame(s) released</p>
+     *
+     * @return the number of frame(s) released
+     */
+    public long getConsumed() {
+        return mConsumed.get();
+    }
+
+    /**
+     * <p>Get the snapshot of the given frame</p>
+     *
+     * @return the snapshot of the given frame
+     */
+    private T getSnapshot(long frame) {
+        return (frame & 1L) == 0L ? mFirst : mSecond;
+    }
+
+    /**
+     * <p>Wait until the given counter reach a value</p>
+     *
+     * @return <code>true</code> if the counter has reached the value, <code>false</code> if interrupted
+     */
+    private static boolean onWait(AtomicLong counter, long value) {
+        for (int attempt = 0; counter.get() < value; ++attempt) {
+            if (Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+
+            if (attempt < WAIT_SPIN) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(WAIT_DELAY);
+            }
+        }
+        return true;
+    }
+}
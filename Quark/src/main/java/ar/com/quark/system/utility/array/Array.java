@@ -101,6 +101,28 @@ public interface Array<A extends Array> {
      */
     A writeInt8(int index, int value);
 
+    /**
+     * @see ByteBuffer#put(ByteBuffer)
+     */
+    default A writeInt8(ByteBuffer value) {
+        if (value.hasArray()) {
+            writeInt8(value.array(), value.arrayOffset() + value.position(), value.remaining());
+
+            value.position(value.limit());
+        } else {
+            final byte[] bytes = new byte[Math.min(value.remaining(), 8192)];
+
+            while (value.hasRemaining()) {
+                final int count = Math.min(bytes.length, value.remaining());
+
+                value.get(bytes, 0, count);
+
+                writeInt8(bytes, 0, count);
+            }
+        }
+        return (A) this;
+    }
+
     /**
      * @see ByteBuffer#putShort(short)
      */
@@ -237,4 +259,21 @@ public interface Array<A extends Array> {
      * @see ByteBuffer#get(byte[], int, int)
      */
     int read(byte[] value, int offset, int count);
+
+    /**
+     * <p>Read every remaining element of the array into the given buffer</p>
+     *
+     * @see ByteBuffer#put(ByteBuffer)
+     */
+    default int read(ByteBuffer value) {
+        final byte[] bytes = new byte[Math.min(remaining(), 8192)];
+        final int count = remaining();
+
+        while (hasRemaining()) {
+            final int length = read(bytes, 0, Math.min(bytes.length, remaining()));
+
+            value.put(bytes, 0, length);
+        }
+        return count;
+    }
 }
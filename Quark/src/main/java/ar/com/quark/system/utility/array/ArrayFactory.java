@@ -17,6 +17,8 @@
  */
 package ar.com.quark.system.utility.array;
 
+import java.nio.ByteBuffer;
+
 /**
  * <code>ArrayFactory</code> encapsulate a singleton for allocating {@link Array}(s).
  */
@@ -114,6 +116,94 @@ public abstract class ArrayFactory {
         return instance.nAllocateFloat32Array(capacity);
     }
 
+    /**
+     * <p>Wrap an existing buffer into a new {@link Int8Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static Int8Array wrapInt8Array(ByteBuffer buffer) {
+        return instance.nWrapInt8Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Int16Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static Int16Array wrapInt16Array(ByteBuffer buffer) {
+        return instance.nWrapInt16Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Int32Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static Int32Array wrapInt32Array(ByteBuffer buffer) {
+        return instance.nWrapInt32Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link UInt8Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static UInt8Array wrapUInt8Array(ByteBuffer buffer) {
+        return instance.nWrapUInt8Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link UInt16Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static UInt16Array wrapUInt16Array(ByteBuffer buffer) {
+        return instance.nWrapUInt16Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link UInt32Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static UInt32Array wrapUInt32Array(ByteBuffer buffer) {
+        return instance.nWrapUInt32Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Float16Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static Float16Array wrapFloat16Array(ByteBuffer buffer) {
+        return instance.nWrapFloat16Array(buffer);
+    }
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Float32Array} (without copying, when supported)</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    public static Float32Array wrapFloat32Array(ByteBuffer buffer) {
+        return instance.nWrapFloat32Array(buffer);
+    }
+
     /**
      * <p>Deallocate a {@link Array}</p>
      *
@@ -198,6 +288,78 @@ public abstract class ArrayFactory {
      */
     protected abstract Float32Array nAllocateFloat32Array(int capacity);
 
+    /**
+     * <p>Wrap an existing buffer into a new {@link Int8Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract Int8Array nWrapInt8Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Int16Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract Int16Array nWrapInt16Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Int32Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract Int32Array nWrapInt32Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link UInt8Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract UInt8Array nWrapUInt8Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link UInt16Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract UInt16Array nWrapUInt16Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link UInt32Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract UInt32Array nWrapUInt32Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Float16Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract Float16Array nWrapFloat16Array(ByteBuffer buffer);
+
+    /**
+     * <p>Wrap an existing buffer into a new {@link Float32Array}</p>
+     *
+     * @param buffer the buffer that contain(s) the data of the array
+     *
+     * @return the wrapped array
+     */
+    protected abstract Float32Array nWrapFloat32Array(ByteBuffer buffer);
+
     /**
      * <p>Deallocate a {@link Array}</p>
      */
@@ -17,6 +17,8 @@
  */
 package ar.com.quark.system.utility.array;
 
+import java.nio.ByteBuffer;
+
 /**
  * Specialised implementation of {@link Array} for 8-bit integer element(s).
  */
@@ -44,6 +46,13 @@ public interface Int8Array extends Array<Int8Array> {
         return this;
     }
 
+    /**
+     * @see Array#writeInt8(ByteBuffer)
+     */
+    default Int8Array write(ByteBuffer value) {
+        return writeInt8(value);
+    }
+
     /**
      * @see Array#writeInt8(int, int)
      */